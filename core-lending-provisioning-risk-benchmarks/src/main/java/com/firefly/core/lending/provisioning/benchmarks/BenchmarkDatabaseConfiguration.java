@@ -0,0 +1,81 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.provisioning.benchmarks;
+
+import com.firefly.core.lending.provisioning.core.config.CacheConfiguration;
+import com.firefly.core.lending.provisioning.core.config.CacheProperties;
+import com.firefly.core.lending.provisioning.core.mappers.provisioning.v1.ProvisioningCaseMapperImpl;
+import com.firefly.core.lending.provisioning.core.services.provisioning.v1.ProvisioningCaseServiceImpl;
+import com.firefly.core.lending.provisioning.core.utils.KeysetPaginator;
+import com.firefly.core.lending.provisioning.models.repositories.provisioning.v1.ProvisioningCaseRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.r2dbc.h2.H2ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.data.r2dbc.repository.config.EnableR2dbcRepositories;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.r2dbc.connection.init.ConnectionFactoryInitializer;
+import org.springframework.r2dbc.connection.init.ResourceDatabasePopulator;
+import org.springframework.transaction.ReactiveTransactionManager;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+
+/**
+ * Minimal Spring context wiring the production service, mapper and repositories to an in-memory
+ * H2 database over R2DBC, so the service benchmarks exercise the same reactive stack (repository
+ * proxies, entity template, transactional proxies) without a Postgres instance.
+ */
+@Configuration
+@EnableTransactionManagement
+@EnableR2dbcRepositories(basePackageClasses = ProvisioningCaseRepository.class)
+@Import({ProvisioningCaseServiceImpl.class, ProvisioningCaseMapperImpl.class, KeysetPaginator.class,
+        CacheConfiguration.class, CacheProperties.class})
+class BenchmarkDatabaseConfiguration {
+
+    @Bean
+    ConnectionFactory connectionFactory() {
+        return H2ConnectionFactory.inMemory("provisioning-benchmarks");
+    }
+
+    @Bean
+    ConnectionFactoryInitializer connectionFactoryInitializer(ConnectionFactory connectionFactory) {
+        ConnectionFactoryInitializer initializer = new ConnectionFactoryInitializer();
+        initializer.setConnectionFactory(connectionFactory);
+        initializer.setDatabasePopulator(new ResourceDatabasePopulator(new ClassPathResource("benchmark-schema.sql")));
+        return initializer;
+    }
+
+    @Bean
+    R2dbcEntityTemplate r2dbcEntityTemplate(ConnectionFactory connectionFactory) {
+        return new R2dbcEntityTemplate(connectionFactory);
+    }
+
+    @Bean
+    ReactiveTransactionManager transactionManager(ConnectionFactory connectionFactory) {
+        return new R2dbcTransactionManager(connectionFactory);
+    }
+
+    @Bean
+    MeterRegistry meterRegistry() {
+        return new SimpleMeterRegistry();
+    }
+}
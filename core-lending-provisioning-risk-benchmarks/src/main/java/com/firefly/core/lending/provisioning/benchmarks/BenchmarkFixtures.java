@@ -0,0 +1,151 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.provisioning.benchmarks;
+
+import com.firefly.core.lending.provisioning.interfaces.enums.assessment.v1.ScenarioCodeEnum;
+import com.firefly.core.lending.provisioning.interfaces.enums.assessment.v1.StageCodeEnum;
+import com.firefly.core.lending.provisioning.interfaces.enums.provisioning.v1.CalcMethodEnum;
+import com.firefly.core.lending.provisioning.interfaces.enums.provisioning.v1.ProvisioningStatusEnum;
+import com.firefly.core.lending.provisioning.interfaces.enums.provisioning.v1.RiskGradeEnum;
+import com.firefly.core.lending.provisioning.models.entities.assessment.v1.RiskAssessment;
+import com.firefly.core.lending.provisioning.models.entities.provisioning.v1.ProvisioningCalculation;
+import com.firefly.core.lending.provisioning.models.entities.provisioning.v1.ProvisioningCase;
+import com.firefly.core.lending.provisioning.models.entities.provisioning.v1.ProvisioningJournal;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * Deterministic, realistically populated entities shared by the suites. Every field is set, PD and
+ * LGD carry the schema's four decimals and EAD its two, so mapping and serialization costs match
+ * production rows rather than sparse test objects.
+ */
+final class BenchmarkFixtures {
+
+    static final long SEED = 42L;
+
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    private BenchmarkFixtures() {
+    }
+
+    static List<ProvisioningCase> cases(int count) {
+        Random random = new Random(SEED);
+        List<ProvisioningCase> cases = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            cases.add(provisioningCase(random, i));
+        }
+        return cases;
+    }
+
+    static ProvisioningCase provisioningCase(Random random, int i) {
+        LocalDateTime createdAt = BASE_TIME.plusMinutes(i);
+        return ProvisioningCase.builder()
+                .provisioningCaseId(new UUID(random.nextLong(), random.nextLong()))
+                .loanServicingCaseId(new UUID(random.nextLong(), random.nextLong()))
+                .stageCode(pick(random, StageCodeEnum.values()))
+                .eclAmount(amount(random, 250_000))
+                .riskGrade(pick(random, RiskGradeEnum.values()))
+                .lastCalculatedAt(createdAt.plusDays(30))
+                .provisioningStatus(ProvisioningStatusEnum.ACTIVE)
+                .remarks("Restaged after quarterly review of collateral coverage #" + i)
+                .createdAt(createdAt)
+                .updatedAt(createdAt.plusDays(30))
+                .build();
+    }
+
+    static List<RiskAssessment> riskAssessments(int count) {
+        Random random = new Random(SEED);
+        List<RiskAssessment> assessments = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            LocalDateTime createdAt = BASE_TIME.plusMinutes(i);
+            assessments.add(RiskAssessment.builder()
+                    .riskAssessmentId(new UUID(random.nextLong(), random.nextLong()))
+                    .provisioningCaseId(new UUID(random.nextLong(), random.nextLong()))
+                    .pdValue(rate(random, 0.25))
+                    .lgdValue(rate(random, 0.9))
+                    .eadValue(amount(random, 2_000_000))
+                    .modelVersion("IFRS9_Model_v3")
+                    .scenarioCode(pick(random, ScenarioCodeEnum.values()))
+                    .assessmentDate(createdAt)
+                    .details("{\"remainingTermMonths\":" + (12 + random.nextInt(300))
+                            + ",\"effectiveInterestRate\":0.0" + (1 + random.nextInt(9)) + "}")
+                    .createdAt(createdAt)
+                    .updatedAt(createdAt)
+                    .build());
+        }
+        return assessments;
+    }
+
+    static List<ProvisioningCalculation> calculations(int count) {
+        Random random = new Random(SEED);
+        List<ProvisioningCalculation> calculations = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            LocalDateTime createdAt = BASE_TIME.plusMinutes(i);
+            calculations.add(ProvisioningCalculation.builder()
+                    .provisioningCalculationId(new UUID(random.nextLong(), random.nextLong()))
+                    .provisioningCaseId(new UUID(random.nextLong(), random.nextLong()))
+                    .riskAssessmentId(new UUID(random.nextLong(), random.nextLong()))
+                    .finalEcl(amount(random, 250_000))
+                    .calcMethod(pick(random, CalcMethodEnum.values()))
+                    .calcTimestamp(createdAt)
+                    .notes("Portfolio run " + i)
+                    .createdAt(createdAt)
+                    .updatedAt(createdAt)
+                    .build());
+        }
+        return calculations;
+    }
+
+    static List<ProvisioningJournal> journals(int count) {
+        Random random = new Random(SEED);
+        List<ProvisioningJournal> journals = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            LocalDateTime createdAt = BASE_TIME.plusMinutes(i);
+            journals.add(ProvisioningJournal.builder()
+                    .provisioningJournalId(new UUID(random.nextLong(), random.nextLong()))
+                    .provisioningCalculationId(new UUID(random.nextLong(), random.nextLong()))
+                    .accountingJournalEntryId(new UUID(random.nextLong(), random.nextLong()))
+                    .provisionChangeAmount(amount(random, 50_000))
+                    .postedAt(createdAt)
+                    .postingDescription("ECL movement for period " + createdAt.toLocalDate())
+                    .isReversal(random.nextInt(20) == 0)
+                    .createdAt(createdAt)
+                    .updatedAt(createdAt)
+                    .build());
+        }
+        return journals;
+    }
+
+    static BigDecimal rate(Random random, double max) {
+        return BigDecimal.valueOf(random.nextDouble() * max).setScale(4, RoundingMode.HALF_UP);
+    }
+
+    static BigDecimal amount(Random random, long max) {
+        return BigDecimal.valueOf(random.nextDouble() * max).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    private static <T> T pick(Random random, T[] values) {
+        return values[random.nextInt(values.length)];
+    }
+}
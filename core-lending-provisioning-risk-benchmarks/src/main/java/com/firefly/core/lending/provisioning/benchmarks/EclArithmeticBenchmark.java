@@ -0,0 +1,104 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.provisioning.benchmarks;
+
+import com.firefly.core.lending.provisioning.core.engine.v1.EclCalculator;
+import com.firefly.core.lending.provisioning.core.engine.v1.EclKernel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Twelve-month ECL over a batch of exposures: the BigDecimal reference formula against the
+ * fixed-point kernel the portfolio run uses. Both produce identical cents.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EclArithmeticBenchmark {
+
+    @Param({"1000", "100000"})
+    public int rows;
+
+    private BigDecimal[] pdDecimals;
+    private BigDecimal[] lgdDecimals;
+    private BigDecimal[] eadDecimals;
+
+    private double[] pd;
+    private double[] lgd;
+    private long[] eadCents;
+    private long[] eclCents;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(BenchmarkFixtures.SEED);
+        pdDecimals = new BigDecimal[rows];
+        lgdDecimals = new BigDecimal[rows];
+        eadDecimals = new BigDecimal[rows];
+        pd = new double[rows];
+        lgd = new double[rows];
+        eadCents = new long[rows];
+        eclCents = new long[rows];
+        for (int i = 0; i < rows; i++) {
+            pdDecimals[i] = BenchmarkFixtures.rate(random, 0.25);
+            lgdDecimals[i] = BenchmarkFixtures.rate(random, 0.9);
+            eadDecimals[i] = BenchmarkFixtures.amount(random, 2_000_000);
+            pd[i] = pdDecimals[i].doubleValue();
+            lgd[i] = lgdDecimals[i].doubleValue();
+            eadCents[i] = EclKernel.toCents(eadDecimals[i]);
+        }
+    }
+
+    @Benchmark
+    public BigDecimal bigDecimalSum() {
+        BigDecimal total = BigDecimal.ZERO;
+        for (int i = 0; i < rows; i++) {
+            total = total.add(EclCalculator.ecl(pdDecimals[i], lgdDecimals[i], eadDecimals[i]));
+        }
+        return total;
+    }
+
+    @Benchmark
+    public void bigDecimalPerRow(Blackhole blackhole) {
+        for (int i = 0; i < rows; i++) {
+            blackhole.consume(EclCalculator.ecl(pdDecimals[i], lgdDecimals[i], eadDecimals[i]));
+        }
+    }
+
+    @Benchmark
+    public long[] kernel() {
+        EclKernel.twelveMonth(pd, lgd, eadCents, eclCents, 0, rows);
+        return eclCents;
+    }
+}
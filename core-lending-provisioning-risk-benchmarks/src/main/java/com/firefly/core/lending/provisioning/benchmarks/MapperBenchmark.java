@@ -0,0 +1,118 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.provisioning.benchmarks;
+
+import com.firefly.core.lending.provisioning.core.mappers.assessment.v1.RiskAssessmentMapper;
+import com.firefly.core.lending.provisioning.core.mappers.assessment.v1.RiskAssessmentMapperImpl;
+import com.firefly.core.lending.provisioning.core.mappers.provisioning.v1.ProvisioningCalculationMapper;
+import com.firefly.core.lending.provisioning.core.mappers.provisioning.v1.ProvisioningCalculationMapperImpl;
+import com.firefly.core.lending.provisioning.core.mappers.provisioning.v1.ProvisioningCaseMapper;
+import com.firefly.core.lending.provisioning.core.mappers.provisioning.v1.ProvisioningCaseMapperImpl;
+import com.firefly.core.lending.provisioning.core.mappers.provisioning.v1.ProvisioningJournalMapper;
+import com.firefly.core.lending.provisioning.core.mappers.provisioning.v1.ProvisioningJournalMapperImpl;
+import com.firefly.core.lending.provisioning.interfaces.dtos.provisioning.v1.ProvisioningCaseDTO;
+import com.firefly.core.lending.provisioning.models.entities.assessment.v1.RiskAssessment;
+import com.firefly.core.lending.provisioning.models.entities.provisioning.v1.ProvisioningCalculation;
+import com.firefly.core.lending.provisioning.models.entities.provisioning.v1.ProvisioningCase;
+import com.firefly.core.lending.provisioning.models.entities.provisioning.v1.ProvisioningJournal;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity/DTO conversion through the generated MapStruct mappers, one batch of rows per invocation
+ * as a page or stream would map them.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MapperBenchmark {
+
+    @Param({"100", "1000"})
+    public int rows;
+
+    private final ProvisioningCaseMapper caseMapper = new ProvisioningCaseMapperImpl();
+    private final RiskAssessmentMapper riskAssessmentMapper = new RiskAssessmentMapperImpl();
+    private final ProvisioningCalculationMapper calculationMapper = new ProvisioningCalculationMapperImpl();
+    private final ProvisioningJournalMapper journalMapper = new ProvisioningJournalMapperImpl();
+
+    private List<ProvisioningCase> cases;
+    private List<ProvisioningCaseDTO> caseDtos;
+    private List<RiskAssessment> riskAssessments;
+    private List<ProvisioningCalculation> calculations;
+    private List<ProvisioningJournal> journals;
+
+    @Setup
+    public void setUp() {
+        cases = BenchmarkFixtures.cases(rows);
+        caseDtos = cases.stream().map(caseMapper::toDTO).toList();
+        riskAssessments = BenchmarkFixtures.riskAssessments(rows);
+        calculations = BenchmarkFixtures.calculations(rows);
+        journals = BenchmarkFixtures.journals(rows);
+    }
+
+    @Benchmark
+    public void caseToDto(Blackhole blackhole) {
+        for (ProvisioningCase entity : cases) {
+            blackhole.consume(caseMapper.toDTO(entity));
+        }
+    }
+
+    @Benchmark
+    public void caseToEntity(Blackhole blackhole) {
+        for (ProvisioningCaseDTO dto : caseDtos) {
+            blackhole.consume(caseMapper.toEntity(dto));
+        }
+    }
+
+    @Benchmark
+    public void riskAssessmentToDto(Blackhole blackhole) {
+        for (RiskAssessment entity : riskAssessments) {
+            blackhole.consume(riskAssessmentMapper.toDTO(entity));
+        }
+    }
+
+    @Benchmark
+    public void calculationToDto(Blackhole blackhole) {
+        for (ProvisioningCalculation entity : calculations) {
+            blackhole.consume(calculationMapper.toDTO(entity));
+        }
+    }
+
+    @Benchmark
+    public void journalToDto(Blackhole blackhole) {
+        for (ProvisioningJournal entity : journals) {
+            blackhole.consume(journalMapper.toDTO(entity));
+        }
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.provisioning.benchmarks;
+
+import com.firefly.core.lending.provisioning.core.services.provisioning.v1.ProvisioningCaseService;
+import com.firefly.core.lending.provisioning.interfaces.dtos.common.v1.CursorPageDTO;
+import com.firefly.core.lending.provisioning.interfaces.dtos.provisioning.v1.ProvisioningCaseDTO;
+import com.firefly.core.lending.provisioning.interfaces.enums.assessment.v1.StageCodeEnum;
+import com.firefly.core.lending.provisioning.interfaces.enums.provisioning.v1.ProvisioningStatusEnum;
+import com.firefly.core.lending.provisioning.interfaces.enums.provisioning.v1.RiskGradeEnum;
+import com.firefly.core.lending.provisioning.models.entities.provisioning.v1.ProvisioningCase;
+import org.fireflyframework.core.filters.FilterRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import reactor.core.publisher.Flux;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ProvisioningCaseService end to end against R2DBC H2: point lookup, insert, first and deep keyset
+ * pages, and a filtered NDJSON-style stream. H2 is faster than a networked Postgres, so absolute
+ * numbers are a floor; the suite is for comparing versions of the service stack, not the database.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ServiceBenchmark {
+
+    private static final int PAGE_SIZE = 50;
+
+    @Param({"10000"})
+    public int rows;
+
+    private AnnotationConfigApplicationContext context;
+    private ProvisioningCaseService service;
+    private UUID[] ids;
+    private int next;
+    private String deepCursor;
+
+    @Setup
+    public void setUp() {
+        context = new AnnotationConfigApplicationContext(BenchmarkDatabaseConfiguration.class);
+        service = context.getBean(ProvisioningCaseService.class);
+        R2dbcEntityTemplate template = context.getBean(R2dbcEntityTemplate.class);
+
+        List<ProvisioningCase> cases = BenchmarkFixtures.cases(rows);
+        Flux.fromIterable(cases).concatMap(template::insert).then().block();
+        ids = cases.stream().map(ProvisioningCase::getProvisioningCaseId).toArray(UUID[]::new);
+
+        // Position the deep cursor 90% of the way through the table
+        String cursor = null;
+        int skipped = 0;
+        while (skipped + 1000 <= rows * 9 / 10) {
+            cursor = service.findAllByCursor(allCases(), cursor, 1000).block().getNextCursor();
+            skipped += 1000;
+        }
+        deepCursor = cursor;
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public ProvisioningCaseDTO getById() {
+        UUID id = ids[next++ % ids.length];
+        return service.getById(id).block();
+    }
+
+    @Benchmark
+    public ProvisioningCaseDTO create() {
+        return service.create(ProvisioningCaseDTO.builder()
+                        .loanServicingCaseId(UUID.randomUUID())
+                        .stageCode(StageCodeEnum.STAGE_1)
+                        .eclAmount(BigDecimal.ZERO)
+                        .riskGrade(RiskGradeEnum.BBB)
+                        .provisioningStatus(ProvisioningStatusEnum.ACTIVE)
+                        .remarks("Benchmark case")
+                        .build())
+                .block();
+    }
+
+    @Benchmark
+    public CursorPageDTO<ProvisioningCaseDTO> firstCursorPage() {
+        return service.findAllByCursor(allCases(), null, PAGE_SIZE).block();
+    }
+
+    @Benchmark
+    public CursorPageDTO<ProvisioningCaseDTO> deepCursorPage() {
+        return service.findAllByCursor(allCases(), deepCursor, PAGE_SIZE).block();
+    }
+
+    @Benchmark
+    public Long streamActiveCases() {
+        FilterRequest<ProvisioningCaseDTO> request = allCases();
+        request.getFilters().setProvisioningStatus(ProvisioningStatusEnum.ACTIVE);
+        return service.stream(request).count().block();
+    }
+
+    private static FilterRequest<ProvisioningCaseDTO> allCases() {
+        FilterRequest<ProvisioningCaseDTO> request = new FilterRequest<>();
+        request.setFilters(new ProvisioningCaseDTO());
+        return request;
+    }
+}
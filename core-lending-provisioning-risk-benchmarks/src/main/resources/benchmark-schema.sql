@@ -0,0 +1,23 @@
+-- H2 stand-in for the provisioning_case table of V1, with the V4 keyset index, the V12
+-- unique loan servicing reference and the V13 row version.
+-- Postgres enum types are modelled as VARCHAR; R2DBC writes the enum names.
+
+CREATE TABLE IF NOT EXISTS provisioning_case (
+    provisioning_case_id    UUID DEFAULT RANDOM_UUID() PRIMARY KEY,
+    loan_servicing_case_id  UUID,
+    stage_code              VARCHAR(16) NOT NULL,
+    ecl_amount              DECIMAL(18,2) DEFAULT 0,
+    risk_grade              VARCHAR(8) NOT NULL,
+    last_calculated_at      TIMESTAMP,
+    provisioning_status     VARCHAR(16) NOT NULL,
+    remarks                 VARCHAR(1000),
+    created_at              TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL,
+    updated_at              TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL,
+    version                 BIGINT DEFAULT 0 NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_prov_case_keyset
+    ON provisioning_case (created_at, provisioning_case_id);
+
+CREATE UNIQUE INDEX IF NOT EXISTS uq_prov_case_loan_servicing_case
+    ON provisioning_case (loan_servicing_case_id);
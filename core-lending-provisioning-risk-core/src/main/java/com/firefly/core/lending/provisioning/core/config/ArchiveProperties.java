@@ -0,0 +1,53 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.provisioning.core.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Binary archives of provisioning runs ({@code provisioning.archive.*}).
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "provisioning.archive")
+public class ArchiveProperties {
+
+    /**
+     * Directory holding one {@code run-<id>.prva} file per archived run. Put it on storage shared by
+     * every instance, and retained as long as audits require, so any instance can serve and
+     * replay an archive; an instance that cannot see the file answers 404.
+     */
+    private String directory = System.getProperty("java.io.tmpdir") + "/provisioning-archive";
+
+    /**
+     * Size of the direct buffer between the archive file and the records.
+     */
+    private int bufferSize = 1 << 20;
+
+    /**
+     * Cases written, or replayed through the engine, per step.
+     */
+    private int chunkSize = 5_000;
+
+    /**
+     * Mismatching cases listed in a replay report; all are counted.
+     */
+    private int maxReportedMismatches = 100;
+}
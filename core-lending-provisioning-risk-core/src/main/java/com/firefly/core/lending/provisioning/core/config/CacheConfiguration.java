@@ -0,0 +1,51 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.provisioning.core.config;
+
+import com.firefly.core.lending.provisioning.core.utils.ReadThroughCache;
+import com.firefly.core.lending.provisioning.models.entities.assessment.v1.RiskAssessment;
+import com.firefly.core.lending.provisioning.models.entities.provisioning.v1.ProvisioningCase;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.UUID;
+
+@Configuration
+public class CacheConfiguration {
+
+    /**
+     * Provisioning cases by case ID. Holds entities so every hit is mapped to a fresh DTO.
+     */
+    @Bean
+    public ReadThroughCache<UUID, ProvisioningCase> provisioningCaseCache(CacheProperties properties,
+                                                                          MeterRegistry registry) {
+        CacheProperties.Spec spec = properties.getProvisioningCase();
+        return new ReadThroughCache<>("provisioning-case", spec.getMaximumSize(), spec.getExpireAfterWrite(), registry);
+    }
+
+    /**
+     * Latest risk assessment by provisioning case ID.
+     */
+    @Bean
+    public ReadThroughCache<UUID, RiskAssessment> latestRiskAssessmentCache(CacheProperties properties,
+                                                                            MeterRegistry registry) {
+        CacheProperties.Spec spec = properties.getLatestRiskAssessment();
+        return new ReadThroughCache<>("latest-risk-assessment", spec.getMaximumSize(), spec.getExpireAfterWrite(), registry);
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.provisioning.core.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Bounds of the in-memory read-through caches ({@code provisioning.cache.*}).
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "provisioning.cache")
+public class CacheProperties {
+
+    /**
+     * Provisioning cases by ID, serving {@code GET /provisioning-cases/{id}}.
+     */
+    private Spec provisioningCase = new Spec(10_000, Duration.ofMinutes(5));
+
+    /**
+     * Latest risk assessment per provisioning case.
+     */
+    private Spec latestRiskAssessment = new Spec(10_000, Duration.ofMinutes(5));
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Spec {
+
+        /**
+         * Entries kept before the least valuable are evicted.
+         */
+        private long maximumSize;
+
+        /**
+         * Time after load after which an entry is evicted. Bounds staleness from writes made
+         * outside this service, such as another instance or a direct database change.
+         */
+        private Duration expireAfterWrite;
+    }
+}
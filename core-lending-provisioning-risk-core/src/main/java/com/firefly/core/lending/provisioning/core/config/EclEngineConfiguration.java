@@ -0,0 +1,49 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.provisioning.core.config;
+
+import com.firefly.core.lending.provisioning.core.engine.v1.LifetimeEclEngine;
+import com.firefly.core.lending.provisioning.core.engine.v1.PdTermStructure;
+import com.firefly.core.lending.provisioning.core.engine.v1.StagingRules;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ForkJoinPool;
+
+@Configuration
+public class EclEngineConfiguration {
+
+    /**
+     * Dedicated pool for CPU-bound ECL computation, kept off the event loop and the common pool.
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ForkJoinPool eclComputePool(EclEngineProperties properties) {
+        return new ForkJoinPool(properties.getComputeParallelism());
+    }
+
+    @Bean
+    public LifetimeEclEngine lifetimeEclEngine(EclEngineProperties properties) {
+        EclEngineProperties.Lifetime lifetime = properties.getLifetime();
+        return new LifetimeEclEngine(new PdTermStructure(lifetime.getGradePdCurves()), lifetime.getMaxTermMonths());
+    }
+
+    @Bean
+    public StagingRules stagingRules(StagingProperties stagingProperties, EclEngineProperties properties) {
+        return new StagingRules(stagingProperties, properties.getLifetime().getGradePdCurves());
+    }
+}
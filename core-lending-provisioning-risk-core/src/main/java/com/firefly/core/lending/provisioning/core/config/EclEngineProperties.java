@@ -0,0 +1,109 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.provisioning.core.config;
+
+import com.firefly.core.lending.provisioning.interfaces.enums.assessment.v1.ScenarioCodeEnum;
+import com.firefly.core.lending.provisioning.interfaces.enums.provisioning.v1.RiskGradeEnum;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Tuning knobs for the server-side ECL batch engine ({@code provisioning.engine.*}).
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "provisioning.engine")
+public class EclEngineProperties {
+
+    /**
+     * Number of cases computed and written per bulk statement.
+     */
+    private int chunkSize = 1000;
+
+    /**
+     * Number of chunk writes allowed in flight at once. Keep below the R2DBC pool size,
+     * one connection is held by the input stream for the whole run.
+     */
+    private int writeConcurrency = 4;
+
+    /**
+     * Worker threads of the fork-join pool computing chunks. Defaults to the number of cores.
+     */
+    private int computeParallelism = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * Case count below which a fork-join task computes a range itself instead of splitting it.
+     */
+    private int splitThreshold = 128;
+
+    /**
+     * Lifetime ECL term-structure settings.
+     */
+    private Lifetime lifetime = new Lifetime();
+
+    /**
+     * Probability weight of each macro scenario in the final ECL. Scenarios with no (or zero)
+     * weight are not read. Weights are renormalised per case over the scenarios it actually has.
+     */
+    private Map<ScenarioCodeEnum, Double> scenarioWeights = new EnumMap<>(Map.of(ScenarioCodeEnum.BASE, 1.0));
+
+    @Data
+    public static class Lifetime {
+
+        /**
+         * Remaining life assumed when an assessment's details carry no {@code remainingTermMonths}.
+         */
+        private int defaultRemainingTermMonths = 60;
+
+        /**
+         * Discount rate assumed when an assessment's details carry no {@code effectiveInterestRate}.
+         */
+        private double defaultEffectiveInterestRate = 0.05;
+
+        /**
+         * Upper bound on the number of monthly periods integrated per exposure.
+         */
+        private int maxTermMonths = 480;
+
+        /**
+         * Cumulative PD at year 1, 2, ... n per risk grade. The last year's hazard is carried
+         * forward, so a single value describes a constant annual hazard.
+         */
+        private Map<RiskGradeEnum, List<Double>> gradePdCurves = defaultGradePdCurves();
+
+        private static Map<RiskGradeEnum, List<Double>> defaultGradePdCurves() {
+            Map<RiskGradeEnum, List<Double>> curves = new EnumMap<>(RiskGradeEnum.class);
+            curves.put(RiskGradeEnum.AAA, List.of(0.0001));
+            curves.put(RiskGradeEnum.AA, List.of(0.0002));
+            curves.put(RiskGradeEnum.A, List.of(0.0006));
+            curves.put(RiskGradeEnum.BBB, List.of(0.0018));
+            curves.put(RiskGradeEnum.BB, List.of(0.0080));
+            curves.put(RiskGradeEnum.B, List.of(0.0350));
+            curves.put(RiskGradeEnum.CCC, List.of(0.1500));
+            curves.put(RiskGradeEnum.CC, List.of(0.2500));
+            curves.put(RiskGradeEnum.C, List.of(0.3500));
+            curves.put(RiskGradeEnum.D, List.of(1.0));
+            return curves;
+        }
+    }
+}
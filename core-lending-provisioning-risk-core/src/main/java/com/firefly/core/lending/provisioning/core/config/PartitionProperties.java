@@ -0,0 +1,42 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.provisioning.core.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Maintenance of the monthly partitions of the journal and stage history ({@code provisioning.partitions.*}).
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "provisioning.partitions")
+public class PartitionProperties {
+
+    /**
+     * Months after the current one for which partitions are kept created in advance. Anything
+     * dated past that horizon lands in the default partition until its month is created.
+     */
+    private int monthsAhead = 3;
+
+    /**
+     * When the maintenance job runs, in addition to application startup.
+     */
+    private String maintenanceCron = "0 0 2 * * *";
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.provisioning.core.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * Splitting of provisioning runs into hash partitions of the book leased by the running
+ * instances ({@code provisioning.sharding.*}).
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "provisioning.sharding")
+public class ShardingProperties {
+
+    /**
+     * Hash partitions of {@code provisioning_case_id} a run is split into when the request does not
+     * say. Use a few times the expected replica count so a slow or restarted shard does not hold up
+     * the whole run.
+     */
+    private int shardCount = 16;
+
+    /**
+     * How long a claimed shard stays leased without a renewal. A shard whose owner died is claimed
+     * again by another instance once this has elapsed.
+     */
+    private Duration leaseTtl = Duration.ofMinutes(2);
+
+    /**
+     * How often the owner of a shard renews its lease while processing it. Must be well below the TTL.
+     */
+    private Duration heartbeatInterval = Duration.ofSeconds(30);
+
+    /**
+     * How often worker instances look for open shards of any run.
+     */
+    private Duration pollInterval = Duration.ofSeconds(10);
+
+    /**
+     * Leases granted per shard before it is given up as FAILED, failing the run.
+     */
+    private int maxAttempts = 3;
+
+    /**
+     * Whether this instance claims and processes shards. Runs started on an instance without it are
+     * processed by the worker instances.
+     */
+    private boolean workerEnabled = true;
+
+    /**
+     * Lease owner name of this instance. Defaults to {@code pid@host} plus a random suffix, unique
+     * across restarts.
+     */
+    private String instanceId = ManagementFactory.getRuntimeMXBean().getName() + "/"
+            + UUID.randomUUID().toString().substring(0, 8);
+
+    /**
+     * Returns the lease TTL in whole seconds.
+     */
+    public long leaseSeconds() {
+        return Math.max(1, leaseTtl.toSeconds());
+    }
+}
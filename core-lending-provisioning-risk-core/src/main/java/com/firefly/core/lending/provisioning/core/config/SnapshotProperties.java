@@ -0,0 +1,78 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.provisioning.core.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * In-process columnar snapshot of the portfolio ({@code provisioning.snapshot.*}).
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "provisioning.snapshot")
+public class SnapshotProperties {
+
+    /**
+     * Whether this instance builds and refreshes the snapshot. Snapshot queries answer 503 when off.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Directory of the memory-mapped snapshot files. Prefer a local disk; the file is rebuilt on
+     * every start, so it needs no backup.
+     */
+    private String directory = System.getProperty("java.io.tmpdir") + "/provisioning-snapshot";
+
+    /**
+     * Rows the snapshot file is first sized for; it doubles whenever full.
+     */
+    private int initialCapacity = 65_536;
+
+    /**
+     * How often changes made since the last refresh are applied.
+     */
+    private Duration refreshInterval = Duration.ofSeconds(30);
+
+    /**
+     * How far before the last refresh changes are read again. {@code updated_at} is set at
+     * transaction start, so a transaction committing after a refresh can carry an older timestamp;
+     * use more than the longest write transaction.
+     */
+    private Duration changeLag = Duration.ofMinutes(1);
+
+    /**
+     * Share of rows appended out of order or deleted above which a refresh rebuilds the snapshot
+     * instead, keeping the heap index of unsorted rows small.
+     */
+    private double compactionThreshold = 0.05;
+
+    /**
+     * How long deleted case IDs are kept for refreshes. A snapshot not refreshed for longer is
+     * rebuilt.
+     */
+    private Duration tombstoneRetention = Duration.ofDays(7);
+
+    /**
+     * Cases applied to the snapshot per step while loading.
+     */
+    private int chunkSize = 5_000;
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.provisioning.core.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Significant-increase-in-credit-risk criteria of the staging engine ({@code provisioning.staging.*}).
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "provisioning.staging")
+public class StagingProperties {
+
+    /**
+     * Current PD as a multiple of the origination PD from which credit risk is considered
+     * significantly increased. Applies together with {@link #pdAbsoluteThreshold}.
+     */
+    private double pdRelativeThreshold = 2.0;
+
+    /**
+     * Minimum absolute PD increase over origination for the relative test to count, so that
+     * doubling a negligible PD does not move a case.
+     */
+    private double pdAbsoluteThreshold = 0.005;
+
+    /**
+     * Downgrade, in grade notches from the grade implied by the origination PD, that triggers stage 2.
+     */
+    private int gradeNotches = 3;
+
+    /**
+     * Days past due from which a case moves to stage 2 (IFRS 9 rebuttable 30-day presumption).
+     */
+    private int stage2DaysPastDue = 30;
+
+    /**
+     * Days past due from which a case is credit-impaired and moves to stage 3.
+     */
+    private int stage3DaysPastDue = 90;
+
+    /**
+     * Whether cases whose triggers no longer hold move back to a lower stage.
+     */
+    private boolean allowCure = true;
+
+    /**
+     * Transitions applied per set-based statement.
+     */
+    private int batchSize = 1000;
+
+    /**
+     * Value recorded in {@code provisioning_stage_history.changed_by}.
+     */
+    private String changedBy = "SICR_ENGINE";
+}
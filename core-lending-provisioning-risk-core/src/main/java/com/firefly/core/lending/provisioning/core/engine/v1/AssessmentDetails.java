@@ -0,0 +1,69 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.provisioning.core.engine.v1;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Contract attributes the engine reads from the free-form {@code risk_assessment.details} JSON.
+ * Missing, malformed or non-JSON details yield {@code null} attributes rather than failing a run.
+ *
+ * @param remainingTermMonths   {@code remainingTermMonths}: remaining contractual life
+ * @param effectiveInterestRate {@code effectiveInterestRate}: annual EIR as a fraction
+ * @param daysPastDue           {@code daysPastDue}: days the oldest unpaid instalment is overdue
+ */
+public record AssessmentDetails(Integer remainingTermMonths, Double effectiveInterestRate, Integer daysPastDue) {
+
+    public static final AssessmentDetails EMPTY = new AssessmentDetails(null, null, null);
+
+    public static AssessmentDetails parse(String details, ObjectMapper objectMapper) {
+        if (details == null || details.isBlank() || details.charAt(0) != '{') {
+            return EMPTY;
+        }
+        try {
+            JsonNode node = objectMapper.readTree(details);
+            return new AssessmentDetails(intOrNull(node, "remainingTermMonths"),
+                    doubleOrNull(node, "effectiveInterestRate"), intOrNull(node, "daysPastDue"));
+        } catch (Exception e) {
+            return EMPTY;
+        }
+    }
+
+    public int remainingTermMonthsOr(int fallback) {
+        return remainingTermMonths == null ? fallback : remainingTermMonths;
+    }
+
+    public double effectiveInterestRateOr(double fallback) {
+        return effectiveInterestRate == null ? fallback : effectiveInterestRate;
+    }
+
+    public int daysPastDueOr(int fallback) {
+        return daysPastDue == null ? fallback : daysPastDue;
+    }
+
+    private static Integer intOrNull(JsonNode node, String field) {
+        JsonNode value = node.get(field);
+        return value != null && value.isNumber() ? value.intValue() : null;
+    }
+
+    private static Double doubleOrNull(JsonNode node, String field) {
+        JsonNode value = node.get(field);
+        return value != null && value.isNumber() ? value.doubleValue() : null;
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.provisioning.core.engine.v1;
+
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Fork-join task computing a range of cases of an {@link EclColumnBatch}. Ranges larger than the
+ * split threshold are halved, so a chunk of long-dated lifetime cases spreads over every worker.
+ * Returns the total ECL of the range, in cents.
+ */
+public final class EclBatchTask extends RecursiveTask<Long> {
+
+    private final EclColumnBatch batch;
+    private final LifetimeEclEngine lifetimeEngine;
+    private final int from;
+    private final int to;
+    private final int splitThreshold;
+
+    public EclBatchTask(EclColumnBatch batch, LifetimeEclEngine lifetimeEngine, int splitThreshold) {
+        this(batch, lifetimeEngine, 0, batch.size(), splitThreshold);
+    }
+
+    private EclBatchTask(EclColumnBatch batch, LifetimeEclEngine lifetimeEngine, int from, int to, int splitThreshold) {
+        this.batch = batch;
+        this.lifetimeEngine = lifetimeEngine;
+        this.from = from;
+        this.to = to;
+        this.splitThreshold = splitThreshold;
+    }
+
+    @Override
+    protected Long compute() {
+        if (to - from <= splitThreshold) {
+            return batch.computeCases(lifetimeEngine, from, to);
+        }
+        int middle = (from + to) >>> 1;
+        EclBatchTask left = new EclBatchTask(batch, lifetimeEngine, from, middle, splitThreshold);
+        left.fork();
+        long right = new EclBatchTask(batch, lifetimeEngine, middle, to, splitThreshold).compute();
+        return left.join() + right;
+    }
+}
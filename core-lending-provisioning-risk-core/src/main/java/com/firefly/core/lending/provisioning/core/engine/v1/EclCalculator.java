@@ -0,0 +1,56 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.provisioning.core.engine.v1;
+
+import com.firefly.core.lending.provisioning.interfaces.enums.assessment.v1.StageCodeEnum;
+import com.firefly.core.lending.provisioning.interfaces.enums.provisioning.v1.CalcMethodEnum;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Stateless ECL arithmetic shared by the batch engine.
+ */
+public final class EclCalculator {
+
+    /**
+     * Scale of {@code provisioning_calculation.final_ecl} (DECIMAL(18,2)).
+     */
+    public static final int ECL_SCALE = 2;
+
+    private EclCalculator() {
+    }
+
+    /**
+     * Resolves the IFRS 9 measurement basis implied by a stage: 12-month ECL for performing
+     * (stage 1) exposures, lifetime ECL for everything else.
+     */
+    public static CalcMethodEnum methodFor(StageCodeEnum stageCode) {
+        return stageCode == StageCodeEnum.STAGE_1
+                ? CalcMethodEnum.TWELVE_MONTH_ECL
+                : CalcMethodEnum.LIFETIME_ECL;
+    }
+
+    /**
+     * Computes {@code PD x LGD x EAD} rounded half-up to the {@code final_ecl} scale. This is the
+     * reference definition that {@link EclKernel} reproduces on primitive columns.
+     */
+    public static BigDecimal ecl(BigDecimal pd, BigDecimal lgd, BigDecimal ead) {
+        return pd.multiply(lgd).multiply(ead).setScale(ECL_SCALE, RoundingMode.HALF_UP);
+    }
+}
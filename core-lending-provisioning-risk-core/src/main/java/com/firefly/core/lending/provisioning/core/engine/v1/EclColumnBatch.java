@@ -0,0 +1,207 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.provisioning.core.engine.v1;
+
+import com.firefly.core.lending.provisioning.interfaces.enums.assessment.v1.ScenarioCodeEnum;
+import com.firefly.core.lending.provisioning.interfaces.enums.provisioning.v1.CalcMethodEnum;
+import com.firefly.core.lending.provisioning.interfaces.enums.provisioning.v1.RiskGradeEnum;
+
+import java.util.UUID;
+
+/**
+ * Column-oriented chunk of ECL inputs and results.
+ *
+ * <p>A chunk holds cases, and each case owns a contiguous run of scenario rows. Rows are
+ * appended once, computed in place by {@link EclKernel} (12-month) or {@link LifetimeEclEngine}
+ * (lifetime), and collapsed into one probability-weighted ECL per case that is read back index
+ * by index when the chunk is persisted. Disjoint case ranges may be computed concurrently.
+ */
+public final class EclColumnBatch {
+
+    private static final CalcMethodEnum[] CALC_METHODS = CalcMethodEnum.values();
+
+    private static final RiskGradeEnum[] RISK_GRADES = RiskGradeEnum.values();
+
+    private static final ScenarioCodeEnum[] SCENARIOS = ScenarioCodeEnum.values();
+
+    // Case columns
+    private final UUID[] caseIds;
+    private final byte[] calcMethods;
+    private final byte[] grades;
+    private final int[] firstRows;
+    private final int[] primaryRows;
+    private final long[] caseEclCents;
+    private int caseCount;
+
+    // Scenario row columns
+    private final UUID[] riskAssessmentIds;
+    private final byte[] scenarios;
+    private final double[] weights;
+    private final double[] pd;
+    private final double[] lgd;
+    private final long[] eadCents;
+    private final int[] remainingTermMonths;
+    private final double[] effectiveInterestRates;
+    private final long[] rowEclCents;
+    private int rowCount;
+
+    public EclColumnBatch(int caseCapacity, int rowCapacity) {
+        this.caseIds = new UUID[caseCapacity];
+        this.calcMethods = new byte[caseCapacity];
+        this.grades = new byte[caseCapacity];
+        this.firstRows = new int[caseCapacity + 1];
+        this.primaryRows = new int[caseCapacity];
+        this.caseEclCents = new long[caseCapacity];
+        this.riskAssessmentIds = new UUID[rowCapacity];
+        this.scenarios = new byte[rowCapacity];
+        this.weights = new double[rowCapacity];
+        this.pd = new double[rowCapacity];
+        this.lgd = new double[rowCapacity];
+        this.eadCents = new long[rowCapacity];
+        this.remainingTermMonths = new int[rowCapacity];
+        this.effectiveInterestRates = new double[rowCapacity];
+        this.rowEclCents = new long[rowCapacity];
+    }
+
+    /**
+     * Opens a new case; subsequent {@link #addScenario} calls belong to it.
+     */
+    public void startCase(UUID caseId, CalcMethodEnum calcMethod, RiskGradeEnum riskGrade) {
+        caseIds[caseCount] = caseId;
+        calcMethods[caseCount] = (byte) calcMethod.ordinal();
+        grades[caseCount] = (byte) riskGrade.ordinal();
+        firstRows[caseCount] = rowCount;
+        primaryRows[caseCount] = -1;
+        caseCount++;
+        firstRows[caseCount] = rowCount;
+    }
+
+    /**
+     * Appends a scenario assessment to the current case. The row with the largest weight (BASE
+     * on ties) becomes the assessment the persisted calculation refers to. Term and interest
+     * rate are only read for lifetime cases.
+     */
+    public void addScenario(UUID riskAssessmentId, ScenarioCodeEnum scenario, double weight,
+                            double pdValue, double lgdValue, long eadValueCents,
+                            int termMonths, double effectiveInterestRate) {
+        int row = rowCount++;
+        riskAssessmentIds[row] = riskAssessmentId;
+        scenarios[row] = (byte) scenario.ordinal();
+        weights[row] = weight;
+        pd[row] = pdValue;
+        lgd[row] = lgdValue;
+        eadCents[row] = eadValueCents;
+        remainingTermMonths[row] = termMonths;
+        effectiveInterestRates[row] = effectiveInterestRate;
+
+        int current = caseCount - 1;
+        int primary = primaryRows[current];
+        if (primary < 0 || weight > weights[primary]
+                || (weight == weights[primary] && scenario == ScenarioCodeEnum.BASE)) {
+            primaryRows[current] = row;
+        }
+        firstRows[caseCount] = rowCount;
+    }
+
+    /**
+     * Computes the ECL of every scenario row of the cases in {@code [from, to)}, weights the rows
+     * of each case, and returns the total of the range in cents.
+     */
+    public long computeCases(LifetimeEclEngine lifetimeEngine, int from, int to) {
+        long total = 0;
+        for (int c = from; c < to; c++) {
+            int first = firstRows[c];
+            int last = firstRows[c + 1];
+            if (calcMethods[c] == CalcMethodEnum.LIFETIME_ECL.ordinal()) {
+                for (int row = first; row < last; row++) {
+                    rowEclCents[row] = lifetimeEngine.eclCents(grades[c], pd[row], lgd[row], eadCents[row],
+                            remainingTermMonths[row], effectiveInterestRates[row]);
+                }
+            } else {
+                EclKernel.twelveMonth(pd, lgd, eadCents, rowEclCents, first, last);
+            }
+            caseEclCents[c] = EclKernel.weightedCents(rowEclCents, weights, first, last);
+            total += caseEclCents[c];
+        }
+        return total;
+    }
+
+    public int size() {
+        return caseCount;
+    }
+
+    public UUID caseId(int index) {
+        return caseIds[index];
+    }
+
+    public UUID riskAssessmentId(int index) {
+        return riskAssessmentIds[primaryRows[index]];
+    }
+
+    public CalcMethodEnum calcMethod(int index) {
+        return CALC_METHODS[calcMethods[index]];
+    }
+
+    public RiskGradeEnum riskGrade(int index) {
+        return RISK_GRADES[grades[index]];
+    }
+
+    public long eclCents(int index) {
+        return caseEclCents[index];
+    }
+
+    /**
+     * The first scenario row of a case; its rows run up to {@code firstRow(index + 1)}, which
+     * for the last case is {@link #rowCount()}.
+     */
+    public int firstRow(int index) {
+        return firstRows[index];
+    }
+
+    public int rowCount() {
+        return rowCount;
+    }
+
+    public UUID rowRiskAssessmentId(int row) {
+        return riskAssessmentIds[row];
+    }
+
+    public ScenarioCodeEnum scenario(int row) {
+        return SCENARIOS[scenarios[row]];
+    }
+
+    public double pd(int row) {
+        return pd[row];
+    }
+
+    public double lgd(int row) {
+        return lgd[row];
+    }
+
+    public long eadCents(int row) {
+        return eadCents[row];
+    }
+
+    public int remainingTermMonths(int row) {
+        return remainingTermMonths[row];
+    }
+
+    public double effectiveInterestRate(int row) {
+        return effectiveInterestRates[row];
+    }
+}
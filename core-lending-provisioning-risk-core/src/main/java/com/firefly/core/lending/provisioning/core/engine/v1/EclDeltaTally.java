@@ -0,0 +1,70 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.provisioning.core.engine.v1;
+
+import com.firefly.core.lending.provisioning.interfaces.enums.assessment.v1.StageCodeEnum;
+import com.firefly.core.lending.provisioning.interfaces.enums.provisioning.v1.RiskGradeEnum;
+
+/**
+ * Case counts and baseline versus shocked ECL, in cents, per stage x risk grade. Tallies of
+ * disjoint chunks are computed independently and merged.
+ */
+public final class EclDeltaTally {
+
+    private static final int GRADES = RiskGradeEnum.values().length;
+    private static final int CELLS = StageCodeEnum.values().length * GRADES;
+
+    private final long[] caseCounts = new long[CELLS];
+    private final long[] baselineCents = new long[CELLS];
+    private final long[] shockedCents = new long[CELLS];
+
+    public void record(StageCodeEnum stage, RiskGradeEnum grade, long baselineEclCents, long shockedEclCents) {
+        int cell = cell(stage, grade);
+        caseCounts[cell]++;
+        baselineCents[cell] += baselineEclCents;
+        shockedCents[cell] += shockedEclCents;
+    }
+
+    /**
+     * Adds another tally into this one and returns this one.
+     */
+    public EclDeltaTally merge(EclDeltaTally other) {
+        for (int cell = 0; cell < CELLS; cell++) {
+            caseCounts[cell] += other.caseCounts[cell];
+            baselineCents[cell] += other.baselineCents[cell];
+            shockedCents[cell] += other.shockedCents[cell];
+        }
+        return this;
+    }
+
+    public long caseCount(StageCodeEnum stage, RiskGradeEnum grade) {
+        return caseCounts[cell(stage, grade)];
+    }
+
+    public long baselineCents(StageCodeEnum stage, RiskGradeEnum grade) {
+        return baselineCents[cell(stage, grade)];
+    }
+
+    public long shockedCents(StageCodeEnum stage, RiskGradeEnum grade) {
+        return shockedCents[cell(stage, grade)];
+    }
+
+    private static int cell(StageCodeEnum stage, RiskGradeEnum grade) {
+        return stage.ordinal() * GRADES + grade.ordinal();
+    }
+}
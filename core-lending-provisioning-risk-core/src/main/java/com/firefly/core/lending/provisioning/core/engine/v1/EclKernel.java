@@ -0,0 +1,137 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.provisioning.core.engine.v1;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Allocation-free ECL arithmetic over primitive columns.
+ *
+ * <p>PD and LGD arrive as {@code double} and are snapped to the four decimal places of their
+ * DECIMAL(9,4) columns; EAD arrives as {@code long} cents. The product is then evaluated in
+ * fixed point and rounded half-up to cents, which reproduces
+ * {@link EclCalculator#ecl(BigDecimal, BigDecimal, BigDecimal)} exactly for every value the
+ * schema can hold. Conversion back to {@link BigDecimal} happens only at the edge, via
+ * {@link #toDecimal(long)}.
+ */
+public final class EclKernel {
+
+    /**
+     * Fixed-point factor of the PD and LGD columns (scale 4).
+     */
+    static final long RATE_FACTOR = 10_000L;
+
+    /**
+     * {@code RATE_FACTOR * RATE_FACTOR}: scale of a PD x LGD product.
+     */
+    private static final long PRODUCT_FACTOR = RATE_FACTOR * RATE_FACTOR;
+
+    private static final long HALF_PRODUCT = PRODUCT_FACTOR / 2;
+
+    private EclKernel() {
+    }
+
+    /**
+     * Computes {@code PD x LGD x EAD} for every row in {@code [from, to)} and stores the result,
+     * in cents, into {@code eclCents}.
+     */
+    public static void twelveMonth(double[] pd, double[] lgd, long[] eadCents, long[] eclCents, int from, int to) {
+        for (int i = from; i < to; i++) {
+            eclCents[i] = eclCents(pd[i], lgd[i], eadCents[i]);
+        }
+    }
+
+    /**
+     * Computes {@code PD x LGD x EAD} for a single row, in cents, rounding half-up.
+     */
+    public static long eclCents(double pd, double lgd, long eadCents) {
+        return rateProductCents(toRateUnits(pd) * toRateUnits(lgd), eadCents);   // <= 1e8 for rates in [0, 1]
+    }
+
+    /**
+     * Computes {@code PD x LGD x EAD} in cents from the product of PD and LGD in rate units, for
+     * callers already holding the rates on the fixed-point grid.
+     */
+    static long rateProductCents(long rate, long eadCents) {
+        if (rate == 0 || eadCents == 0) {
+            return 0;
+        }
+        boolean negative = (rate < 0) != (eadCents < 0);
+        rate = Math.abs(rate);
+        long ead = Math.abs(eadCents);
+
+        // rate * ead overflows for large exposures, so split ead around the product scale:
+        // rate * ead / 1e8 = rate * high + rate * low / 1e8, where only the second term is fractional
+        long high = ead / PRODUCT_FACTOR;
+        long low = ead % PRODUCT_FACTOR;
+        long cents = Math.addExact(Math.multiplyExact(rate, high),
+                (Math.multiplyExact(rate, low) + HALF_PRODUCT) / PRODUCT_FACTOR);
+        return negative ? -cents : cents;
+    }
+
+    /**
+     * Collapses the per-scenario ECLs in {@code [from, to)} into a probability-weighted ECL in cents.
+     * Weights are renormalised over the rows present, so a case missing a scenario is weighted over
+     * the scenarios it has. A single row, or rows of equal ECL, come back unchanged.
+     */
+    public static long weightedCents(long[] eclCents, double[] weights, int from, int to) {
+        if (to - from == 1) {
+            return eclCents[from];
+        }
+        double weighted = 0;
+        double totalWeight = 0;
+        for (int i = from; i < to; i++) {
+            weighted += weights[i] * eclCents[i];
+            totalWeight += weights[i];
+        }
+        return totalWeight == 0 ? 0 : roundHalfUp(weighted / totalWeight);
+    }
+
+    /**
+     * Snaps a rate to the DECIMAL(9,4) grid of the PD and LGD columns.
+     */
+    public static long toRateUnits(double rate) {
+        return roundHalfUp(rate * RATE_FACTOR);
+    }
+
+    /**
+     * Rounds to the nearest integer with ties away from zero, like {@link RoundingMode#HALF_UP}.
+     * {@link Math#round(double)} sends negative ties towards positive infinity instead.
+     */
+    public static long roundHalfUp(double value) {
+        long magnitude = Math.round(Math.abs(value));
+        return value < 0 ? -magnitude : magnitude;
+    }
+
+    /**
+     * Converts an amount in cents to a {@link BigDecimal} at the {@code final_ecl} scale.
+     */
+    public static BigDecimal toDecimal(long cents) {
+        return BigDecimal.valueOf(cents, EclCalculator.ECL_SCALE);
+    }
+
+    /**
+     * Converts an amount to cents, rounding half-up to the {@code final_ecl} scale.
+     */
+    public static long toCents(BigDecimal amount) {
+        return amount.setScale(EclCalculator.ECL_SCALE, RoundingMode.HALF_UP)
+                .unscaledValue()
+                .longValueExact();
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.provisioning.core.engine.v1;
+
+import java.util.Arrays;
+
+/**
+ * Column-oriented portfolio of exposures for credit-loss simulation.
+ *
+ * <p>Each exposure is reduced to what a trial needs: its default threshold
+ * {@code inverseCdf(PD) / sqrt(1 - rho)} on the idiosyncratic factor, and its loss if it defaults,
+ * {@code LGD x EAD} in cents. Columns grow while the portfolio is loaded and are read-only once
+ * {@link #seal(double)} has been called.
+ */
+public final class ExposureColumns {
+
+    private double[] pd;
+    private long[] lossCents;
+    private double[] thresholds;
+    private double assetCorrelation;
+    private int size;
+    private long expectedLossCents;
+
+    public ExposureColumns(int initialCapacity) {
+        int capacity = Math.max(16, initialCapacity);
+        this.pd = new double[capacity];
+        this.lossCents = new long[capacity];
+    }
+
+    /**
+     * Appends an exposure. PD and LGD are snapped to the DECIMAL(9,4) grid like the ECL engine.
+     */
+    public ExposureColumns add(double pd, double lgd, long eadCents) {
+        if (size == this.pd.length) {
+            int capacity = size << 1;
+            this.pd = Arrays.copyOf(this.pd, capacity);
+            this.lossCents = Arrays.copyOf(this.lossCents, capacity);
+        }
+        this.pd[size] = EclKernel.toRateUnits(pd) / (double) EclKernel.RATE_FACTOR;
+        this.lossCents[size] = EclKernel.eclCents(1, lgd, eadCents);
+        this.expectedLossCents += EclKernel.eclCents(pd, lgd, eadCents);
+        size++;
+        return this;
+    }
+
+    /**
+     * Computes the default thresholds for the given asset correlation. PD 0 never defaults and
+     * PD 1 always does.
+     */
+    public ExposureColumns seal(double assetCorrelation) {
+        this.assetCorrelation = assetCorrelation;
+        double idiosyncraticScale = Math.sqrt(1 - assetCorrelation);
+        thresholds = new double[size];
+        for (int i = 0; i < size; i++) {
+            thresholds[i] = StandardNormal.inverseCdf(pd[i]) / idiosyncraticScale;
+        }
+        return this;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Unconditional expected loss {@code sum(PD x LGD x EAD)}, in cents.
+     */
+    public long expectedLossCents() {
+        return expectedLossCents;
+    }
+
+    public double assetCorrelation() {
+        return assetCorrelation;
+    }
+
+    double[] thresholds() {
+        if (thresholds == null) {
+            throw new IllegalStateException("Exposure columns must be sealed before simulation");
+        }
+        return thresholds;
+    }
+
+    long[] lossCents() {
+        return lossCents;
+    }
+}
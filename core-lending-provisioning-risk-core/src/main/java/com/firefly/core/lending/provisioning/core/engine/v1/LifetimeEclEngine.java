@@ -0,0 +1,86 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.provisioning.core.engine.v1;
+
+/**
+ * Lifetime ECL over a monthly term structure.
+ *
+ * <p>The case's 12-month PD rescales its grade curve under proportional hazards
+ * ({@code S_case(t) = S_grade(t)^k}), marginal default probabilities are integrated month by
+ * month over the remaining life, and each month's loss is discounted at the effective interest
+ * rate. The loop is O(remaining months) and allocates nothing.
+ */
+public final class LifetimeEclEngine {
+
+    private static final double MONTHS_PER_YEAR = 12.0;
+
+    private final PdTermStructure termStructure;
+    private final int maxTermMonths;
+
+    public LifetimeEclEngine(PdTermStructure termStructure, int maxTermMonths) {
+        this.termStructure = termStructure;
+        this.maxTermMonths = maxTermMonths;
+    }
+
+    /**
+     * Computes the lifetime ECL of one exposure, in cents.
+     *
+     * @param gradeOrdinal          ordinal of the case's risk grade
+     * @param pd                    12-month probability of default of the case
+     * @param lgd                   loss given default
+     * @param eadCents              exposure at default, in cents
+     * @param remainingTermMonths   remaining contractual life, in months
+     * @param effectiveInterestRate annual effective interest rate used for discounting
+     */
+    public long eclCents(int gradeOrdinal, double pd, double lgd, long eadCents,
+                         int remainingTermMonths, double effectiveInterestRate) {
+        if (pd >= 1) {
+            // Defaulted: the loss is already incurred, nothing left to integrate or discount
+            return EclKernel.eclCents(1, lgd, eadCents);
+        }
+        if (pd <= 0 || lgd == 0 || eadCents == 0) {
+            return 0;
+        }
+
+        double caseFirstYearHazard = -Math.log1p(-pd);
+        double gradeFirstYearHazard = termStructure.annualHazard(gradeOrdinal, 0);
+        boolean flat = !(gradeFirstYearHazard > 0) || Double.isInfinite(gradeFirstYearHazard);
+        double multiplier = flat ? 1 : caseFirstYearHazard / gradeFirstYearHazard;
+
+        int months = Math.max(1, Math.min(remainingTermMonths, maxTermMonths));
+        double monthlyDiscount = Math.pow(1 + effectiveInterestRate, -1 / MONTHS_PER_YEAR);
+
+        double survival = 1;
+        double discount = 1;
+        double discountedDefaults = 0;
+        double monthlySurvival = 1;
+        for (int month = 0; month < months; month++) {
+            if (month % 12 == 0) {
+                double annualHazard = flat
+                        ? caseFirstYearHazard
+                        : multiplier * termStructure.annualHazard(gradeOrdinal, month / 12);
+                monthlySurvival = Math.exp(-annualHazard / MONTHS_PER_YEAR);
+            }
+            double next = survival * monthlySurvival;
+            discount *= monthlyDiscount;
+            discountedDefaults += (survival - next) * discount;
+            survival = next;
+        }
+        return EclKernel.roundHalfUp(discountedDefaults * lgd * eadCents);
+    }
+}
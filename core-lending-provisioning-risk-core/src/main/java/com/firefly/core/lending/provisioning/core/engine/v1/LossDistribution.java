@@ -0,0 +1,102 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.provisioning.core.engine.v1;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Summary of simulated portfolio losses, all amounts in cents.
+ *
+ * @param trials            number of simulated trials
+ * @param meanLossCents     average loss over the trials
+ * @param stdDevLossCents   standard deviation of the loss
+ * @param minLossCents      smallest trial loss
+ * @param maxLossCents      largest trial loss
+ * @param tail              value at risk and expected shortfall at each requested confidence level
+ * @param histogram         trial counts over equal-width loss buckets from zero to the largest loss
+ */
+public record LossDistribution(int trials, double meanLossCents, double stdDevLossCents, long minLossCents,
+                               long maxLossCents, List<TailQuantile> tail, List<Bucket> histogram) {
+
+    /**
+     * Loss not exceeded in a {@code level} share of the trials, and the average loss of the trials
+     * at or beyond it.
+     */
+    public record TailQuantile(double level, long valueAtRiskCents, double expectedShortfallCents) {
+    }
+
+    /**
+     * Trials whose loss fell in {@code [lowerCents, upperCents)}; the last bucket includes its upper bound.
+     */
+    public record Bucket(long lowerCents, long upperCents, int trials) {
+    }
+
+    /**
+     * Summarises trial losses. Sorts {@code losses} in place.
+     */
+    public static LossDistribution of(long[] losses, double[] levels, int buckets) {
+        Arrays.sort(losses);
+        int trials = losses.length;
+
+        double sum = 0;
+        for (long loss : losses) {
+            sum += loss;
+        }
+        double mean = sum / trials;
+        double squares = 0;
+        for (long loss : losses) {
+            double deviation = loss - mean;
+            squares += deviation * deviation;
+        }
+        double stdDev = trials > 1 ? Math.sqrt(squares / (trials - 1)) : 0;
+
+        // Suffix sums give each level's expected shortfall without another pass
+        double[] tailSums = new double[trials + 1];
+        for (int i = trials - 1; i >= 0; i--) {
+            tailSums[i] = tailSums[i + 1] + losses[i];
+        }
+        List<TailQuantile> tail = new ArrayList<>(levels.length);
+        for (double level : levels) {
+            int index = Math.min(trials - 1, Math.max(0, (int) Math.ceil(level * trials) - 1));
+            tail.add(new TailQuantile(level, losses[index], tailSums[index] / (trials - index)));
+        }
+
+        return new LossDistribution(trials, mean, stdDev, losses[0], losses[trials - 1], tail,
+                histogram(losses, buckets));
+    }
+
+    private static List<Bucket> histogram(long[] sortedLosses, int buckets) {
+        long max = sortedLosses[sortedLosses.length - 1];
+        long width = Math.max(1, (max + buckets) / buckets);
+        List<Bucket> histogram = new ArrayList<>(buckets);
+        int index = 0;
+        for (int bucket = 0; bucket < buckets; bucket++) {
+            long lower = bucket * width;
+            long upper = bucket == buckets - 1 ? Math.max(max, lower + width) : lower + width;
+            int start = index;
+            while (index < sortedLosses.length
+                    && (sortedLosses[index] < upper || bucket == buckets - 1)) {
+                index++;
+            }
+            histogram.add(new Bucket(lower, upper, index - start));
+        }
+        return histogram;
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.provisioning.core.engine.v1;
+
+import com.firefly.core.lending.provisioning.interfaces.enums.provisioning.v1.RiskGradeEnum;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Cumulative PD curves per risk grade, stored as piecewise-constant annual hazard rates.
+ *
+ * <p>Each curve is given as cumulative PDs at year 1, 2, ... n. Beyond the last point the final
+ * year's hazard is carried forward, so a single-point curve describes a constant hazard.
+ */
+public final class PdTermStructure {
+
+    private static final RiskGradeEnum[] GRADES = RiskGradeEnum.values();
+
+    private final double[][] annualHazards;
+
+    public PdTermStructure(Map<RiskGradeEnum, List<Double>> cumulativePdCurves) {
+        this.annualHazards = new double[GRADES.length][];
+        for (RiskGradeEnum grade : GRADES) {
+            List<Double> curve = cumulativePdCurves.get(grade);
+            if (curve == null || curve.isEmpty()) {
+                throw new IllegalArgumentException("No cumulative PD curve configured for grade " + grade);
+            }
+            annualHazards[grade.ordinal()] = toHazards(grade, curve);
+        }
+    }
+
+    /**
+     * Returns the annual hazard rate of a grade in the given zero-based year.
+     */
+    public double annualHazard(int gradeOrdinal, int year) {
+        double[] hazards = annualHazards[gradeOrdinal];
+        return hazards[Math.min(year, hazards.length - 1)];
+    }
+
+    private static double[] toHazards(RiskGradeEnum grade, List<Double> curve) {
+        double[] hazards = new double[curve.size()];
+        double previousSurvival = 1;
+        for (int year = 0; year < hazards.length; year++) {
+            double cumulativePd = curve.get(year);
+            double survival = 1 - cumulativePd;
+            if (cumulativePd < 0 || cumulativePd > 1 || survival > previousSurvival) {
+                throw new IllegalArgumentException("Cumulative PD curve for grade " + grade + " must be non-decreasing in [0, 1]");
+            }
+            hazards[year] = survival <= 0 ? Double.POSITIVE_INFINITY : Math.log(previousSurvival / survival);
+            previousSurvival = survival;
+        }
+        return hazards;
+    }
+}
@@ -0,0 +1,407 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.provisioning.core.engine.v1;
+
+import com.firefly.core.lending.provisioning.interfaces.enums.assessment.v1.ScenarioCodeEnum;
+import com.firefly.core.lending.provisioning.interfaces.enums.assessment.v1.StageCodeEnum;
+import com.firefly.core.lending.provisioning.interfaces.enums.provisioning.v1.ProvisioningStatusEnum;
+import com.firefly.core.lending.provisioning.interfaces.enums.provisioning.v1.RiskGradeEnum;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.IntConsumer;
+
+import static java.lang.foreign.ValueLayout.JAVA_BYTE;
+import static java.lang.foreign.ValueLayout.JAVA_INT;
+import static java.lang.foreign.ValueLayout.JAVA_LONG;
+
+/**
+ * Columnar copy of the portfolio held off-heap in a memory-mapped file.
+ *
+ * <p>Every case is a row across fixed-width columns: its UUID as two longs, stage, risk grade and
+ * status as enum ordinals in one byte each, its ECL in cents, and per scenario the PD and LGD of
+ * its latest assessment in rate units (scale 4) and the EAD in cents. Scenario columns are laid
+ * out scenario-major, so a scan under one scenario reads contiguous memory. Only the UUIDs of rows
+ * appended out of order are indexed on the heap.
+ *
+ * <p>Rows loaded in UUID order form a sorted prefix searched by bisection; later inserts are
+ * appended and indexed until the snapshot is rebuilt. Deleted cases keep their row, flagged so
+ * that scans skip it. The file grows by doubling. Not thread-safe: writers must exclude readers.
+ */
+public final class PortfolioSnapshot implements AutoCloseable {
+
+    private static final int SCENARIOS = ScenarioCodeEnum.values().length;
+    private static final StageCodeEnum[] STAGES = StageCodeEnum.values();
+    private static final RiskGradeEnum[] GRADES = RiskGradeEnum.values();
+    private static final ProvisioningStatusEnum[] STATUSES = ProvisioningStatusEnum.values();
+
+    /**
+     * Status byte of a deleted case.
+     */
+    private static final byte DELETED = -1;
+
+    /**
+     * Bytes per row: UUID, ECL, per-scenario EAD, PD and LGD, then stage, grade, status and scenario mask.
+     */
+    private static final long ROW_BYTES = 8 + 8 + 8 + SCENARIOS * (8 + 4 + 4) + 4;
+
+    private final Path directory;
+    private Columns columns;
+    private int size;
+    private int sortedSize;
+    private int deletedRows;
+    private final Map<UUID, Integer> unsortedRows = new HashMap<>();
+
+    private PortfolioSnapshot(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Creates an empty snapshot backed by a new file in {@code directory}.
+     */
+    public static PortfolioSnapshot create(Path directory, int initialCapacity) {
+        PortfolioSnapshot snapshot = new PortfolioSnapshot(directory);
+        snapshot.columns = Columns.map(directory, Math.max(1024, initialCapacity));
+        return snapshot;
+    }
+
+    /**
+     * Returns the row of a case, or -1 when it is not in the snapshot.
+     */
+    public int find(UUID caseId) {
+        long most = caseId.getMostSignificantBits();
+        long least = caseId.getLeastSignificantBits();
+        int low = 0;
+        int high = sortedSize - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int order = compare(columns.most.getAtIndex(JAVA_LONG, middle),
+                    columns.least.getAtIndex(JAVA_LONG, middle), most, least);
+            if (order < 0) {
+                low = middle + 1;
+            } else if (order > 0) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        Integer row = unsortedRows.get(caseId);
+        return row == null ? -1 : row;
+    }
+
+    /**
+     * Adds a row for a case not yet in the snapshot and returns it. The row stays in the sorted
+     * prefix as long as cases are appended in UUID order.
+     */
+    public int append(UUID caseId) {
+        if (size == columns.capacity) {
+            Columns grown = Columns.map(directory, columns.capacity * 2);
+            grown.copyFrom(columns, size);
+            columns.close();
+            columns = grown;
+        }
+        int row = size++;
+        long most = caseId.getMostSignificantBits();
+        long least = caseId.getLeastSignificantBits();
+        columns.most.setAtIndex(JAVA_LONG, row, most);
+        columns.least.setAtIndex(JAVA_LONG, row, least);
+        columns.masks.set(JAVA_BYTE, row, (byte) 0);
+        if (sortedSize == row && (row == 0 || compare(columns.most.getAtIndex(JAVA_LONG, row - 1),
+                columns.least.getAtIndex(JAVA_LONG, row - 1), most, least) < 0)) {
+            sortedSize++;
+        } else {
+            unsortedRows.put(caseId, row);
+        }
+        return row;
+    }
+
+    /**
+     * Writes the case columns of a row and clears its assessments.
+     */
+    public void setCase(int row, StageCodeEnum stage, RiskGradeEnum grade, ProvisioningStatusEnum status,
+                        long eclCents) {
+        if (columns.statuses.get(JAVA_BYTE, row) == DELETED) {
+            deletedRows--;
+        }
+        columns.stages.set(JAVA_BYTE, row, (byte) stage.ordinal());
+        columns.grades.set(JAVA_BYTE, row, (byte) grade.ordinal());
+        columns.statuses.set(JAVA_BYTE, row, (byte) status.ordinal());
+        columns.masks.set(JAVA_BYTE, row, (byte) 0);
+        columns.ecl.setAtIndex(JAVA_LONG, row, eclCents);
+    }
+
+    /**
+     * Writes the latest assessment of a row for one scenario. PD and LGD are snapped to the
+     * DECIMAL(9,4) grid like the ECL engine.
+     */
+    public void setAssessment(int row, ScenarioCodeEnum scenario, double pd, double lgd, long eadCents) {
+        long slot = slot(scenario.ordinal(), row);
+        columns.pd.setAtIndex(JAVA_INT, slot, (int) EclKernel.toRateUnits(pd));
+        columns.lgd.setAtIndex(JAVA_INT, slot, (int) EclKernel.toRateUnits(lgd));
+        columns.ead.setAtIndex(JAVA_LONG, slot, eadCents);
+        byte mask = columns.masks.get(JAVA_BYTE, row);
+        columns.masks.set(JAVA_BYTE, row, (byte) (mask | (1 << scenario.ordinal())));
+    }
+
+    /**
+     * Flags a row as deleted; scans skip it from then on.
+     */
+    public void delete(int row) {
+        if (columns.statuses.get(JAVA_BYTE, row) != DELETED) {
+            columns.statuses.set(JAVA_BYTE, row, DELETED);
+            deletedRows++;
+        }
+    }
+
+    /**
+     * Visits the row index of every live case accepted by the filter, in row order.
+     */
+    public void scan(SnapshotFilter filter, IntConsumer visitor) {
+        MemorySegment stages = columns.stages;
+        MemorySegment grades = columns.grades;
+        MemorySegment statuses = columns.statuses;
+        for (int row = 0; row < size; row++) {
+            byte status = statuses.get(JAVA_BYTE, row);
+            if (status != DELETED
+                    && filter.accepts(stages.get(JAVA_BYTE, row), grades.get(JAVA_BYTE, row), status)) {
+                visitor.accept(row);
+            }
+        }
+    }
+
+    /**
+     * Totals case count, ECL and the 12-month expected loss {@code PD x LGD x EAD} under one
+     * scenario per stage and grade over the live cases accepted by the filter. Cases without an
+     * assessment for the scenario count with no expected loss. Reads primitive columns only.
+     */
+    public SnapshotAggregate aggregate(SnapshotFilter filter, ScenarioCodeEnum scenario) {
+        MemorySegment stages = columns.stages;
+        MemorySegment grades = columns.grades;
+        MemorySegment statuses = columns.statuses;
+        MemorySegment masks = columns.masks;
+        MemorySegment ecl = columns.ecl;
+        MemorySegment pd = columns.pd;
+        MemorySegment lgd = columns.lgd;
+        MemorySegment ead = columns.ead;
+        int scenarioBit = 1 << scenario.ordinal();
+        long scenarioBase = slot(scenario.ordinal(), 0);
+
+        SnapshotAggregate aggregate = new SnapshotAggregate();
+        for (int row = 0; row < size; row++) {
+            byte status = statuses.get(JAVA_BYTE, row);
+            byte stage = stages.get(JAVA_BYTE, row);
+            byte grade = grades.get(JAVA_BYTE, row);
+            if (status == DELETED || !filter.accepts(stage, grade, status)) {
+                continue;
+            }
+            long expectedLossCents = 0;
+            if ((masks.get(JAVA_BYTE, row) & scenarioBit) != 0) {
+                long slot = scenarioBase + row;
+                expectedLossCents = EclKernel.rateProductCents(
+                        (long) pd.getAtIndex(JAVA_INT, slot) * lgd.getAtIndex(JAVA_INT, slot),
+                        ead.getAtIndex(JAVA_LONG, slot));
+            }
+            aggregate.add(stage, grade, ecl.getAtIndex(JAVA_LONG, row), expectedLossCents);
+        }
+        return aggregate;
+    }
+
+    public UUID caseId(int row) {
+        return new UUID(columns.most.getAtIndex(JAVA_LONG, row), columns.least.getAtIndex(JAVA_LONG, row));
+    }
+
+    public StageCodeEnum stage(int row) {
+        return STAGES[columns.stages.get(JAVA_BYTE, row)];
+    }
+
+    public RiskGradeEnum grade(int row) {
+        return GRADES[columns.grades.get(JAVA_BYTE, row)];
+    }
+
+    /**
+     * Returns the status of a row, or null when its case was deleted.
+     */
+    public ProvisioningStatusEnum status(int row) {
+        byte status = columns.statuses.get(JAVA_BYTE, row);
+        return status == DELETED ? null : STATUSES[status];
+    }
+
+    public long eclCents(int row) {
+        return columns.ecl.getAtIndex(JAVA_LONG, row);
+    }
+
+    public boolean hasAssessment(int row, ScenarioCodeEnum scenario) {
+        return (columns.masks.get(JAVA_BYTE, row) & (1 << scenario.ordinal())) != 0;
+    }
+
+    public double pd(int row, ScenarioCodeEnum scenario) {
+        return columns.pd.getAtIndex(JAVA_INT, slot(scenario.ordinal(), row)) / (double) EclKernel.RATE_FACTOR;
+    }
+
+    public double lgd(int row, ScenarioCodeEnum scenario) {
+        return columns.lgd.getAtIndex(JAVA_INT, slot(scenario.ordinal(), row)) / (double) EclKernel.RATE_FACTOR;
+    }
+
+    public long eadCents(int row, ScenarioCodeEnum scenario) {
+        return columns.ead.getAtIndex(JAVA_LONG, slot(scenario.ordinal(), row));
+    }
+
+    /**
+     * Rows in use, deleted ones included.
+     */
+    public int size() {
+        return size;
+    }
+
+    public int liveRows() {
+        return size - deletedRows;
+    }
+
+    /**
+     * Rows appended out of UUID order since the snapshot was built, each indexed on the heap.
+     */
+    public int unsortedRows() {
+        return unsortedRows.size();
+    }
+
+    public int deletedRows() {
+        return deletedRows;
+    }
+
+    /**
+     * Unmaps the columns and deletes the backing file.
+     */
+    @Override
+    public void close() {
+        columns.close();
+    }
+
+    private long slot(int scenario, int row) {
+        return (long) scenario * columns.capacity + row;
+    }
+
+    /**
+     * Orders UUIDs as PostgreSQL does, by unsigned comparison of their bytes.
+     */
+    private static int compare(long mostA, long leastA, long mostB, long leastB) {
+        int order = Long.compareUnsigned(mostA, mostB);
+        return order != 0 ? order : Long.compareUnsigned(leastA, leastB);
+    }
+
+    /**
+     * One mapping of the backing file, sliced into its columns.
+     */
+    private static final class Columns {
+
+        private final Path file;
+        private final Arena arena;
+        private final int capacity;
+        private final MemorySegment most;
+        private final MemorySegment least;
+        private final MemorySegment ecl;
+        private final MemorySegment ead;
+        private final MemorySegment pd;
+        private final MemorySegment lgd;
+        private final MemorySegment stages;
+        private final MemorySegment grades;
+        private final MemorySegment statuses;
+        private final MemorySegment masks;
+
+        private Columns(Path file, Arena arena, MemorySegment mapped, int capacity) {
+            this.file = file;
+            this.arena = arena;
+            this.capacity = capacity;
+            // Eight-byte columns first: every column then starts eight-byte aligned
+            long offset = 0;
+            this.most = mapped.asSlice(offset, 8L * capacity);
+            this.least = mapped.asSlice(offset += 8L * capacity, 8L * capacity);
+            this.ecl = mapped.asSlice(offset += 8L * capacity, 8L * capacity);
+            this.ead = mapped.asSlice(offset += 8L * capacity, 8L * SCENARIOS * capacity);
+            this.pd = mapped.asSlice(offset += 8L * SCENARIOS * capacity, 4L * SCENARIOS * capacity);
+            this.lgd = mapped.asSlice(offset += 4L * SCENARIOS * capacity, 4L * SCENARIOS * capacity);
+            this.stages = mapped.asSlice(offset += 4L * SCENARIOS * capacity, capacity);
+            this.grades = mapped.asSlice(offset += capacity, capacity);
+            this.statuses = mapped.asSlice(offset += capacity, capacity);
+            this.masks = mapped.asSlice(offset + capacity, capacity);
+        }
+
+        static Columns map(Path directory, int requestedCapacity) {
+            int capacity = (requestedCapacity + 7) & ~7;
+            Path file = null;
+            Arena arena = Arena.ofShared();
+            try {
+                Files.createDirectories(directory);
+                file = Files.createTempFile(directory, "portfolio-", ".snapshot");
+                try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                    // The mapping outlives the channel and grows the file to its size
+                    MemorySegment mapped = channel.map(FileChannel.MapMode.READ_WRITE, 0, ROW_BYTES * capacity, arena);
+                    return new Columns(file, arena, mapped, capacity);
+                }
+            } catch (IOException e) {
+                arena.close();
+                deleteQuietly(file);
+                throw new UncheckedIOException("Cannot map portfolio snapshot in " + directory, e);
+            }
+        }
+
+        /**
+         * Copies the first {@code rows} rows of every column of a smaller mapping.
+         */
+        void copyFrom(Columns source, int rows) {
+            MemorySegment.copy(source.most, 0, most, 0, 8L * rows);
+            MemorySegment.copy(source.least, 0, least, 0, 8L * rows);
+            MemorySegment.copy(source.ecl, 0, ecl, 0, 8L * rows);
+            for (int scenario = 0; scenario < SCENARIOS; scenario++) {
+                long from = (long) scenario * source.capacity;
+                long to = (long) scenario * capacity;
+                MemorySegment.copy(source.ead, 8L * from, ead, 8L * to, 8L * rows);
+                MemorySegment.copy(source.pd, 4L * from, pd, 4L * to, 4L * rows);
+                MemorySegment.copy(source.lgd, 4L * from, lgd, 4L * to, 4L * rows);
+            }
+            MemorySegment.copy(source.stages, 0, stages, 0, rows);
+            MemorySegment.copy(source.grades, 0, grades, 0, rows);
+            MemorySegment.copy(source.statuses, 0, statuses, 0, rows);
+            MemorySegment.copy(source.masks, 0, masks, 0, rows);
+        }
+
+        void close() {
+            arena.close();
+            deleteQuietly(file);
+        }
+
+        private static void deleteQuietly(Path file) {
+            if (file == null) {
+                return;
+            }
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException ignored) {
+                // A leftover file in the snapshot directory is harmless
+            }
+        }
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.provisioning.core.engine.v1;
+
+import com.firefly.core.lending.provisioning.interfaces.enums.assessment.v1.ScenarioCodeEnum;
+import com.firefly.core.lending.provisioning.interfaces.enums.provisioning.v1.CalcMethodEnum;
+import com.firefly.core.lending.provisioning.interfaces.enums.provisioning.v1.RiskGradeEnum;
+import com.firefly.core.lending.provisioning.interfaces.enums.provisioning.v1.RunModeEnum;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Binary archive of a provisioning run: what it read and what it wrote, in one checksummed file.
+ *
+ * <p>Layout, big-endian: the magic {@code PRVA} and a format version, a header record, then for
+ * every case its calculation record followed by one input record per scenario assessment, then
+ * the run's journal records, then a trailer with the record counts and the CRC-32C of every byte
+ * before the checksum itself. Each record starts with a one-byte tag. UUIDs are two longs (a null
+ * UUID is all zeros), enums are ordinals in one byte and timestamps are microseconds since the
+ * epoch, read as UTC.
+ *
+ * <p>Inputs are stored as the engine consumed them, lifetime term and discount rate already
+ * resolved from the assessment details, so an archive can be replayed without the database.
+ */
+public final class RunArchive {
+
+    static final int MAGIC = 0x50525641;    // "PRVA"
+    public static final short FORMAT_VERSION = 1;
+
+    static final byte HEADER = 'H';
+    static final byte CASE = 'C';
+    static final byte INPUT = 'I';
+    static final byte JOURNAL = 'J';
+    static final byte TRAILER = 'T';
+
+    static final long NULL_TIMESTAMP = Long.MIN_VALUE;
+
+    private RunArchive() {
+    }
+
+    /**
+     * The run and the scenario weights it computed with.
+     */
+    public record Header(UUID provisioningRunId, RunModeEnum runMode, LocalDateTime startedAt,
+                         LocalDateTime completedAt, LocalDateTime archivedAt,
+                         Map<ScenarioCodeEnum, Double> scenarioWeights) {
+    }
+
+    /**
+     * The calculation the run wrote for a case; its inputs follow it in the archive.
+     */
+    public record CaseResult(UUID provisioningCalculationId, UUID provisioningCaseId, UUID riskAssessmentId,
+                             CalcMethodEnum calcMethod, RiskGradeEnum riskGrade, long finalEclCents) {
+    }
+
+    /**
+     * One scenario assessment of the preceding case, as fed to the engine.
+     */
+    public record Input(UUID riskAssessmentId, ScenarioCodeEnum scenario, double pd, double lgd, long eadCents,
+                       int remainingTermMonths, double effectiveInterestRate, boolean modifiedSinceRun) {
+    }
+
+    /**
+     * A journal entry the run posted.
+     */
+    public record Journal(UUID provisioningJournalId, UUID provisioningCalculationId, UUID accountingJournalEntryId,
+                          long amountCents, boolean reversal, LocalDateTime postedAt) {
+    }
+
+    /**
+     * Record counts and checksum closing the archive. {@code modifiedInputs} counts inputs whose
+     * assessment had already been updated after the run when the archive was written.
+     */
+    public record Trailer(long cases, long inputs, long journals, long modifiedInputs, int checksum) {
+    }
+
+    static long toMicros(LocalDateTime timestamp) {
+        if (timestamp == null) {
+            return NULL_TIMESTAMP;
+        }
+        return timestamp.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + timestamp.getNano() / 1_000;
+    }
+
+    static LocalDateTime fromMicros(long micros) {
+        if (micros == NULL_TIMESTAMP) {
+            return null;
+        }
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(micros, 1_000_000),
+                (int) Math.floorMod(micros, 1_000_000) * 1_000, ZoneOffset.UTC);
+    }
+}
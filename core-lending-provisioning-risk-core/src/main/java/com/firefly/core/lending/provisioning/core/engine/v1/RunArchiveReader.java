@@ -0,0 +1,256 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.provisioning.core.engine.v1;
+
+import com.firefly.core.lending.provisioning.interfaces.enums.assessment.v1.ScenarioCodeEnum;
+import com.firefly.core.lending.provisioning.interfaces.enums.provisioning.v1.CalcMethodEnum;
+import com.firefly.core.lending.provisioning.interfaces.enums.provisioning.v1.RiskGradeEnum;
+import com.firefly.core.lending.provisioning.interfaces.enums.provisioning.v1.RunModeEnum;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.zip.CRC32C;
+
+/**
+ * Streams a {@link RunArchive} back record by record through a direct buffer.
+ *
+ * <p>The checksum and record counts are verified when the trailer is reached; a damaged or
+ * truncated archive fails with an {@link IllegalStateException}, after which the records already
+ * delivered must be discarded. Not thread-safe.
+ */
+public final class RunArchiveReader implements AutoCloseable {
+
+    private static final ScenarioCodeEnum[] SCENARIOS = ScenarioCodeEnum.values();
+    private static final CalcMethodEnum[] CALC_METHODS = CalcMethodEnum.values();
+    private static final RiskGradeEnum[] GRADES = RiskGradeEnum.values();
+    private static final RunModeEnum[] RUN_MODES = RunModeEnum.values();
+
+    /**
+     * Receives the records of an archive in file order.
+     */
+    public interface Visitor {
+
+        default void onCase(RunArchive.CaseResult result) {
+        }
+
+        default void onInput(RunArchive.Input input) {
+        }
+
+        default void onJournal(RunArchive.Journal journal) {
+        }
+    }
+
+    private final Path file;
+    private final FileChannel channel;
+    private final ByteBuffer buffer;
+    private final CRC32C checksum = new CRC32C();
+    private int unchecked;                 // Start of the consumed bytes not yet checksummed
+    private final RunArchive.Header header;
+
+    private RunArchiveReader(Path file, FileChannel channel, int bufferSize) {
+        this.file = file;
+        this.channel = channel;
+        this.buffer = ByteBuffer.allocateDirect(Math.max(4096, bufferSize));
+        this.buffer.flip();
+        this.header = readHeader();
+    }
+
+    /**
+     * Opens an archive and reads its header.
+     */
+    public static RunArchiveReader open(Path file, int bufferSize) {
+        FileChannel channel;
+        try {
+            channel = FileChannel.open(file, StandardOpenOption.READ);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open run archive " + file, e);
+        }
+        try {
+            return new RunArchiveReader(file, channel, bufferSize);
+        } catch (RuntimeException e) {
+            try {
+                channel.close();
+            } catch (IOException suppressed) {
+                e.addSuppressed(suppressed);
+            }
+            throw e;
+        }
+    }
+
+    public RunArchive.Header header() {
+        return header;
+    }
+
+    /**
+     * Delivers every record after the header to the visitor and verifies the trailer.
+     *
+     * @return the verified trailer
+     */
+    public RunArchive.Trailer read(Visitor visitor) {
+        long cases = 0;
+        long inputs = 0;
+        long journals = 0;
+        while (true) {
+            byte tag = need(1).get();
+            switch (tag) {
+                case RunArchive.CASE -> {
+                    need(3 * 16 + 1 + 1 + 8);
+                    visitor.onCase(new RunArchive.CaseResult(uuid(), uuid(), uuid(),
+                            ordinal(CALC_METHODS, "calculation method"), ordinal(GRADES, "risk grade"),
+                            buffer.getLong()));
+                    cases++;
+                }
+                case RunArchive.INPUT -> {
+                    need(16 + 1 + 8 + 8 + 8 + 4 + 8 + 1);
+                    visitor.onInput(new RunArchive.Input(uuid(), ordinal(SCENARIOS, "scenario"), buffer.getDouble(),
+                            buffer.getDouble(), buffer.getLong(), buffer.getInt(), buffer.getDouble(),
+                            buffer.get() != 0));
+                    inputs++;
+                }
+                case RunArchive.JOURNAL -> {
+                    need(3 * 16 + 8 + 1 + 8);
+                    visitor.onJournal(new RunArchive.Journal(uuid(), uuid(), uuid(), buffer.getLong(),
+                            buffer.get() != 0, RunArchive.fromMicros(buffer.getLong())));
+                    journals++;
+                }
+                case RunArchive.TRAILER -> {
+                    return readTrailer(cases, inputs, journals);
+                }
+                default -> throw corrupt("unknown record tag " + tag);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot close run archive " + file, e);
+        }
+    }
+
+    private RunArchive.Header readHeader() {
+        need(4 + 2 + 1);
+        if (buffer.getInt() != RunArchive.MAGIC) {
+            throw corrupt("not a run archive");
+        }
+        short version = buffer.getShort();
+        if (version != RunArchive.FORMAT_VERSION) {
+            throw corrupt("unsupported format version " + version);
+        }
+        if (buffer.get() != RunArchive.HEADER) {
+            throw corrupt("missing header");
+        }
+        need(16 + 1 + 3 * 8 + 1);
+        UUID runId = uuid();
+        RunModeEnum runMode = ordinal(RUN_MODES, "run mode");
+        long startedAt = buffer.getLong();
+        long completedAt = buffer.getLong();
+        long archivedAt = buffer.getLong();
+        int weightCount = buffer.get();
+        if (weightCount < 0 || weightCount > SCENARIOS.length) {
+            throw corrupt("invalid scenario weight count " + weightCount);
+        }
+        Map<ScenarioCodeEnum, Double> weights = new EnumMap<>(ScenarioCodeEnum.class);
+        need(weightCount * 9);
+        for (int i = 0; i < weightCount; i++) {
+            weights.put(ordinal(SCENARIOS, "scenario"), buffer.getDouble());
+        }
+        return new RunArchive.Header(runId, runMode, RunArchive.fromMicros(startedAt),
+                RunArchive.fromMicros(completedAt), RunArchive.fromMicros(archivedAt), weights);
+    }
+
+    private RunArchive.Trailer readTrailer(long cases, long inputs, long journals) {
+        need(4 * 8);
+        long expectedCases = buffer.getLong();
+        long expectedInputs = buffer.getLong();
+        long expectedJournals = buffer.getLong();
+        long modifiedInputs = buffer.getLong();
+        checksumConsumed();
+        int computed = (int) checksum.getValue();
+        int stored = need(4).getInt();
+        if (stored != computed) {
+            throw corrupt("checksum mismatch");
+        }
+        if (expectedCases != cases || expectedInputs != inputs || expectedJournals != journals) {
+            throw corrupt("record counts do not match the trailer");
+        }
+        return new RunArchive.Trailer(cases, inputs, journals, modifiedInputs, stored);
+    }
+
+    /**
+     * Reads a one-byte enum ordinal, failing as corrupt rather than out of bounds.
+     */
+    private <E extends Enum<E>> E ordinal(E[] values, String kind) {
+        int ordinal = buffer.get();
+        if (ordinal < 0 || ordinal >= values.length) {
+            throw corrupt("unknown " + kind + " " + ordinal);
+        }
+        return values[ordinal];
+    }
+
+    private UUID uuid() {
+        long most = buffer.getLong();
+        long least = buffer.getLong();
+        return most == 0 && least == 0 ? null : new UUID(most, least);
+    }
+
+    /**
+     * Makes sure the next {@code bytes} bytes are buffered, checksumming what has been consumed
+     * before refilling.
+     */
+    private ByteBuffer need(int bytes) {
+        if (buffer.remaining() >= bytes) {
+            return buffer;
+        }
+        checksumConsumed();
+        buffer.compact();
+        try {
+            while (buffer.position() < bytes) {
+                if (channel.read(buffer) < 0) {
+                    buffer.flip();
+                    throw corrupt("unexpected end of file");
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read run archive " + file, e);
+        }
+        buffer.flip();
+        unchecked = 0;
+        return buffer;
+    }
+
+    private void checksumConsumed() {
+        ByteBuffer consumed = buffer.duplicate();
+        consumed.position(unchecked).limit(buffer.position());
+        checksum.update(consumed);
+        unchecked = buffer.position();
+    }
+
+    private IllegalStateException corrupt(String reason) {
+        return new IllegalStateException("Corrupt run archive " + file + ": " + reason);
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.provisioning.core.engine.v1;
+
+import com.firefly.core.lending.provisioning.interfaces.enums.assessment.v1.ScenarioCodeEnum;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Recomputes the cases of a {@link RunArchive} as they stream out of a {@link RunArchiveReader}
+ * and compares each with the ECL the run wrote.
+ *
+ * <p>Cases are gathered into {@link EclColumnBatch} chunks and computed with {@link EclBatchTask},
+ * exactly as a run computes them, so a replay in a fork-join pool spreads over its workers. Only
+ * one chunk is held at a time.
+ */
+public final class RunArchiveReplayer implements RunArchiveReader.Visitor {
+
+    private static final int SCENARIOS = ScenarioCodeEnum.values().length;
+
+    /**
+     * A case whose recomputed ECL differs from the archived one.
+     */
+    public record Mismatch(UUID provisioningCaseId, long archivedEclCents, long replayedEclCents) {
+    }
+
+    /**
+     * Outcome of a replay; {@code mismatches} lists the first of them only.
+     */
+    public record Result(long cases, long matched, long mismatched, long journals, long archivedTotalCents,
+                         long replayedTotalCents, List<Mismatch> mismatches) {
+    }
+
+    private final LifetimeEclEngine lifetimeEngine;
+    private final Map<ScenarioCodeEnum, Double> scenarioWeights;
+    private final int chunkSize;
+    private final int splitThreshold;
+    private final int maxMismatches;
+    private final long[] archivedCents;
+    private EclColumnBatch batch;
+
+    private long cases;
+    private long matched;
+    private long mismatched;
+    private long journals;
+    private long archivedTotalCents;
+    private long replayedTotalCents;
+    private final List<Mismatch> mismatches = new ArrayList<>();
+
+    public RunArchiveReplayer(LifetimeEclEngine lifetimeEngine, Map<ScenarioCodeEnum, Double> scenarioWeights,
+                              int chunkSize, int splitThreshold, int maxMismatches) {
+        this.lifetimeEngine = lifetimeEngine;
+        this.scenarioWeights = scenarioWeights;
+        this.chunkSize = Math.max(1, chunkSize);
+        this.splitThreshold = splitThreshold;
+        this.maxMismatches = maxMismatches;
+        this.archivedCents = new long[this.chunkSize];
+        this.batch = newBatch();
+    }
+
+    @Override
+    public void onCase(RunArchive.CaseResult result) {
+        if (batch.size() == chunkSize) {
+            computeBatch();
+        }
+        archivedCents[batch.size()] = result.finalEclCents();
+        batch.startCase(result.provisioningCaseId(), result.calcMethod(), result.riskGrade());
+    }
+
+    @Override
+    public void onInput(RunArchive.Input input) {
+        Double weight = scenarioWeights.get(input.scenario());
+        batch.addScenario(input.riskAssessmentId(), input.scenario(), weight == null ? 0 : weight,
+                input.pd(), input.lgd(), input.eadCents(), input.remainingTermMonths(),
+                input.effectiveInterestRate());
+    }
+
+    @Override
+    public void onJournal(RunArchive.Journal journal) {
+        journals++;
+    }
+
+    /**
+     * Computes the last chunk and returns the totals. Call once the reader has verified the trailer.
+     */
+    public Result finish() {
+        computeBatch();
+        return new Result(cases, matched, mismatched, journals, archivedTotalCents, replayedTotalCents,
+                List.copyOf(mismatches));
+    }
+
+    private void computeBatch() {
+        int size = batch.size();
+        if (size == 0) {
+            return;
+        }
+        replayedTotalCents += new EclBatchTask(batch, lifetimeEngine, splitThreshold).invoke();
+        for (int i = 0; i < size; i++) {
+            long archived = archivedCents[i];
+            long replayed = batch.eclCents(i);
+            archivedTotalCents += archived;
+            if (archived == replayed) {
+                matched++;
+            } else {
+                mismatched++;
+                if (mismatches.size() < maxMismatches) {
+                    mismatches.add(new Mismatch(batch.caseId(i), archived, replayed));
+                }
+            }
+        }
+        cases += size;
+        batch = newBatch();
+    }
+
+    private EclColumnBatch newBatch() {
+        return new EclColumnBatch(chunkSize, chunkSize * SCENARIOS);
+    }
+}
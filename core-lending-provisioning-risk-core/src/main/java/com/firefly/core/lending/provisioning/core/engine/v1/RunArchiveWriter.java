@@ -0,0 +1,214 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.provisioning.core.engine.v1;
+
+import com.firefly.core.lending.provisioning.interfaces.enums.assessment.v1.ScenarioCodeEnum;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.UUID;
+import java.util.zip.CRC32C;
+
+/**
+ * Writes a {@link RunArchive} sequentially through a direct buffer and a {@link FileChannel}.
+ *
+ * <p>The archive is written to a temporary file next to the target and moved into place by
+ * {@link #finish()} once flushed to disk, so a reader never sees a partial archive. Closing an
+ * unfinished writer discards it. Not thread-safe.
+ */
+public final class RunArchiveWriter implements AutoCloseable {
+
+    private final Path target;
+    private final Path temporary;
+    private final FileChannel channel;
+    private final ByteBuffer buffer;
+    private final CRC32C checksum = new CRC32C();
+    private long bytesWritten;
+    private long cases;
+    private long inputs;
+    private long journals;
+    private long modifiedInputs;
+    private boolean finished;
+
+    private RunArchiveWriter(Path target, Path temporary, FileChannel channel, int bufferSize) {
+        this.target = target;
+        this.temporary = temporary;
+        this.channel = channel;
+        this.buffer = ByteBuffer.allocateDirect(Math.max(4096, bufferSize));
+    }
+
+    /**
+     * Starts an archive that will replace {@code target} when finished.
+     */
+    public static RunArchiveWriter create(Path target, int bufferSize) {
+        try {
+            Files.createDirectories(target.toAbsolutePath().getParent());
+            Path temporary = Files.createTempFile(target.toAbsolutePath().getParent(),
+                    target.getFileName().toString(), ".tmp");
+            FileChannel channel = FileChannel.open(temporary, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING);
+            return new RunArchiveWriter(target, temporary, channel, bufferSize);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot create run archive " + target, e);
+        }
+    }
+
+    public void writeHeader(RunArchive.Header header) {
+        Map<ScenarioCodeEnum, Double> weights = header.scenarioWeights();
+        ensure(4 + 2 + 1 + 16 + 1 + 3 * 8 + 1 + weights.size() * 9);
+        buffer.putInt(RunArchive.MAGIC);
+        buffer.putShort(RunArchive.FORMAT_VERSION);
+        buffer.put(RunArchive.HEADER);
+        putUuid(header.provisioningRunId());
+        buffer.put((byte) header.runMode().ordinal());
+        buffer.putLong(RunArchive.toMicros(header.startedAt()));
+        buffer.putLong(RunArchive.toMicros(header.completedAt()));
+        buffer.putLong(RunArchive.toMicros(header.archivedAt()));
+        buffer.put((byte) weights.size());
+        for (Map.Entry<ScenarioCodeEnum, Double> weight : weights.entrySet()) {
+            buffer.put((byte) weight.getKey().ordinal());
+            buffer.putDouble(weight.getValue() == null ? 0 : weight.getValue());
+        }
+    }
+
+    public void writeCase(RunArchive.CaseResult result) {
+        ensure(1 + 3 * 16 + 1 + 1 + 8);
+        buffer.put(RunArchive.CASE);
+        putUuid(result.provisioningCalculationId());
+        putUuid(result.provisioningCaseId());
+        putUuid(result.riskAssessmentId());
+        buffer.put((byte) result.calcMethod().ordinal());
+        buffer.put((byte) result.riskGrade().ordinal());
+        buffer.putLong(result.finalEclCents());
+        cases++;
+    }
+
+    public void writeInput(RunArchive.Input input) {
+        ensure(1 + 16 + 1 + 8 + 8 + 8 + 4 + 8 + 1);
+        buffer.put(RunArchive.INPUT);
+        putUuid(input.riskAssessmentId());
+        buffer.put((byte) input.scenario().ordinal());
+        buffer.putDouble(input.pd());
+        buffer.putDouble(input.lgd());
+        buffer.putLong(input.eadCents());
+        buffer.putInt(input.remainingTermMonths());
+        buffer.putDouble(input.effectiveInterestRate());
+        buffer.put((byte) (input.modifiedSinceRun() ? 1 : 0));
+        inputs++;
+        if (input.modifiedSinceRun()) {
+            modifiedInputs++;
+        }
+    }
+
+    public void writeJournal(RunArchive.Journal journal) {
+        ensure(1 + 3 * 16 + 8 + 1 + 8);
+        buffer.put(RunArchive.JOURNAL);
+        putUuid(journal.provisioningJournalId());
+        putUuid(journal.provisioningCalculationId());
+        putUuid(journal.accountingJournalEntryId());
+        buffer.putLong(journal.amountCents());
+        buffer.put((byte) (journal.reversal() ? 1 : 0));
+        buffer.putLong(RunArchive.toMicros(journal.postedAt()));
+        journals++;
+    }
+
+    /**
+     * Writes the trailer, forces the file to disk and moves it into place.
+     *
+     * @return the trailer written
+     */
+    public RunArchive.Trailer finish() {
+        ensure(1 + 4 * 8);
+        buffer.put(RunArchive.TRAILER);
+        buffer.putLong(cases);
+        buffer.putLong(inputs);
+        buffer.putLong(journals);
+        buffer.putLong(modifiedInputs);
+        flush();
+
+        int crc = (int) checksum.getValue();
+        buffer.putInt(crc);
+        try {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                bytesWritten += channel.write(buffer);
+            }
+            channel.force(true);
+            channel.close();
+            Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot finish run archive " + target, e);
+        }
+        finished = true;
+        return new RunArchive.Trailer(cases, inputs, journals, modifiedInputs, crc);
+    }
+
+    /**
+     * Bytes written to the file so far, the whole archive once finished.
+     */
+    public long bytesWritten() {
+        return bytesWritten;
+    }
+
+    @Override
+    public void close() {
+        if (finished) {
+            return;
+        }
+        try {
+            channel.close();
+            Files.deleteIfExists(temporary);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot discard run archive " + temporary, e);
+        }
+    }
+
+    private void putUuid(UUID id) {
+        buffer.putLong(id == null ? 0 : id.getMostSignificantBits());
+        buffer.putLong(id == null ? 0 : id.getLeastSignificantBits());
+    }
+
+    private void ensure(int bytes) {
+        if (buffer.remaining() < bytes) {
+            flush();
+        }
+    }
+
+    /**
+     * Checksums and writes out the buffered bytes.
+     */
+    private void flush() {
+        buffer.flip();
+        checksum.update(buffer.duplicate());
+        try {
+            while (buffer.hasRemaining()) {
+                bytesWritten += channel.write(buffer);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot write run archive " + target, e);
+        }
+        buffer.clear();
+    }
+}
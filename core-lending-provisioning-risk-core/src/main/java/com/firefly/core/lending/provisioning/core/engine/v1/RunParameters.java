@@ -0,0 +1,80 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.provisioning.core.engine.v1;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.firefly.core.lending.provisioning.core.config.EclEngineProperties;
+import com.firefly.core.lending.provisioning.interfaces.enums.assessment.v1.ScenarioCodeEnum;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Settings a provisioning run computes with, stored as JSON in {@code provisioning_run.parameters}
+ * so that a resumed run computes like the original whatever configuration is in force by then.
+ *
+ * @param scenarioWeights probability weight of each macro scenario
+ */
+public record RunParameters(Map<ScenarioCodeEnum, Double> scenarioWeights) {
+
+    public static RunParameters from(EclEngineProperties properties) {
+        return new RunParameters(new EnumMap<>(properties.getScenarioWeights()));
+    }
+
+    /**
+     * Reads parameters stored by {@link #toJson(ObjectMapper)}. Runs registered without parameters
+     * fall back to the current configuration.
+     */
+    public static RunParameters parse(String json, ObjectMapper objectMapper, EclEngineProperties fallback) {
+        if (json == null || json.isBlank()) {
+            return from(fallback);
+        }
+        try {
+            return objectMapper.readValue(json, RunParameters.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unreadable provisioning run parameters: " + json, e);
+        }
+    }
+
+    public String toJson(ObjectMapper objectMapper) {
+        try {
+            return objectMapper.writeValueAsString(this);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialise provisioning run parameters", e);
+        }
+    }
+
+    /**
+     * Returns the weight of a scenario, zero when not configured.
+     */
+    public double weightOf(ScenarioCodeEnum scenario) {
+        Double weight = scenarioWeights.get(scenario);
+        return weight == null ? 0 : weight;
+    }
+
+    /**
+     * Returns the scenario codes carrying a positive weight.
+     */
+    public String[] weightedScenarios() {
+        return scenarioWeights.entrySet().stream()
+                .filter(entry -> entry.getValue() != null && entry.getValue() > 0)
+                .map(entry -> entry.getKey().name())
+                .toArray(String[]::new);
+    }
+}
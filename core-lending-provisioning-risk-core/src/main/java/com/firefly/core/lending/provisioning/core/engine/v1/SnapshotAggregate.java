@@ -0,0 +1,58 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.provisioning.core.engine.v1;
+
+import com.firefly.core.lending.provisioning.interfaces.enums.assessment.v1.StageCodeEnum;
+import com.firefly.core.lending.provisioning.interfaces.enums.provisioning.v1.RiskGradeEnum;
+
+/**
+ * Case counts, ECL and expected loss, in cents, per stage x risk grade, as totalled by a
+ * {@link PortfolioSnapshot} scan.
+ */
+public final class SnapshotAggregate {
+
+    private static final int GRADES = RiskGradeEnum.values().length;
+    private static final int CELLS = StageCodeEnum.values().length * GRADES;
+
+    private final long[] caseCounts = new long[CELLS];
+    private final long[] eclCents = new long[CELLS];
+    private final long[] expectedLossCents = new long[CELLS];
+
+    void add(int stage, int grade, long caseEclCents, long caseExpectedLossCents) {
+        int cell = stage * GRADES + grade;
+        caseCounts[cell]++;
+        eclCents[cell] += caseEclCents;
+        expectedLossCents[cell] += caseExpectedLossCents;
+    }
+
+    public long caseCount(StageCodeEnum stage, RiskGradeEnum grade) {
+        return caseCounts[cell(stage, grade)];
+    }
+
+    public long eclCents(StageCodeEnum stage, RiskGradeEnum grade) {
+        return eclCents[cell(stage, grade)];
+    }
+
+    public long expectedLossCents(StageCodeEnum stage, RiskGradeEnum grade) {
+        return expectedLossCents[cell(stage, grade)];
+    }
+
+    private static int cell(StageCodeEnum stage, RiskGradeEnum grade) {
+        return stage.ordinal() * GRADES + grade.ordinal();
+    }
+}
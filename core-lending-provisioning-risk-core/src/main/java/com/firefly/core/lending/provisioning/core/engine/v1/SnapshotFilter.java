@@ -0,0 +1,54 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.provisioning.core.engine.v1;
+
+import com.firefly.core.lending.provisioning.interfaces.enums.assessment.v1.StageCodeEnum;
+import com.firefly.core.lending.provisioning.interfaces.enums.provisioning.v1.ProvisioningStatusEnum;
+import com.firefly.core.lending.provisioning.interfaces.enums.provisioning.v1.RiskGradeEnum;
+
+/**
+ * Row filter of a {@link PortfolioSnapshot} scan: one bit per accepted enum ordinal, so testing a
+ * row costs three shifts.
+ *
+ * @param stageMask  accepted {@link StageCodeEnum} ordinals
+ * @param gradeMask  accepted {@link RiskGradeEnum} ordinals
+ * @param statusMask accepted {@link ProvisioningStatusEnum} ordinals
+ */
+public record SnapshotFilter(int stageMask, int gradeMask, int statusMask) {
+
+    private static final int ALL = -1;
+
+    public static SnapshotFilter all() {
+        return new SnapshotFilter(ALL, ALL, ALL);
+    }
+
+    /**
+     * Restricts each dimension to one value; null accepts every value of its dimension.
+     */
+    public static SnapshotFilter of(StageCodeEnum stage, RiskGradeEnum grade, ProvisioningStatusEnum status) {
+        return new SnapshotFilter(maskOf(stage), maskOf(grade), maskOf(status));
+    }
+
+    boolean accepts(int stage, int grade, int status) {
+        return (stageMask >>> stage & 1) != 0 && (gradeMask >>> grade & 1) != 0 && (statusMask >>> status & 1) != 0;
+    }
+
+    private static int maskOf(Enum<?> value) {
+        return value == null ? ALL : 1 << value.ordinal();
+    }
+}
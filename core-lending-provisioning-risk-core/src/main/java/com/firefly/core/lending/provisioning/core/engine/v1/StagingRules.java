@@ -0,0 +1,123 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.provisioning.core.engine.v1;
+
+import com.firefly.core.lending.provisioning.core.config.StagingProperties;
+import com.firefly.core.lending.provisioning.interfaces.enums.assessment.v1.StageCodeEnum;
+import com.firefly.core.lending.provisioning.interfaces.enums.provisioning.v1.RiskGradeEnum;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * IFRS 9 staging criteria evaluated per case: credit impairment (stage 3), a significant increase
+ * in credit risk since origination (stage 2), or neither (stage 1). POCI cases keep their stage.
+ *
+ * <p>Origination risk is the PD of the case's earliest base-scenario assessment. The grade at
+ * origination is not stored, so it is implied from that PD as the best grade whose one-year PD
+ * covers it, using the same per-grade curves as the lifetime engine.
+ *
+ * <p>A case without a current PD or days past due is not evaluated: missing data is no evidence
+ * that credit risk went down, so it must neither cure nor move the case.
+ */
+public final class StagingRules {
+
+    private static final RiskGradeEnum[] GRADES = RiskGradeEnum.values();
+
+    private final StagingProperties properties;
+    private final double[] oneYearPd;
+
+    public StagingRules(StagingProperties properties, Map<RiskGradeEnum, List<Double>> gradePdCurves) {
+        this.properties = properties;
+        this.oneYearPd = new double[GRADES.length];
+        for (RiskGradeEnum grade : GRADES) {
+            List<Double> curve = gradePdCurves.get(grade);
+            oneYearPd[grade.ordinal()] = curve == null || curve.isEmpty() ? 1.0 : curve.getFirst();
+        }
+    }
+
+    /**
+     * Returns the stage a case belongs in, or {@code null} when it should stay where it is or its
+     * inputs are incomplete.
+     */
+    public StagingDecision evaluate(StageCodeEnum current, RiskGradeEnum grade, Double currentPd,
+                                    Double originationPd, Integer daysPastDue) {
+        if (current == StageCodeEnum.POCI || !hasInputs(currentPd, daysPastDue)) {
+            return null;
+        }
+        StagingDecision decision = target(grade, currentPd, originationPd, daysPastDue);
+        if (decision.stage() == current
+                || (!properties.isAllowCure() && decision.stage().ordinal() < current.ordinal())) {
+            return null;
+        }
+        return decision;
+    }
+
+    /**
+     * Whether a case carries the current PD and days past due the criteria need.
+     */
+    public static boolean hasInputs(Double currentPd, Integer daysPastDue) {
+        return currentPd != null && daysPastDue != null;
+    }
+
+    RiskGradeEnum impliedGrade(double pd) {
+        for (RiskGradeEnum grade : GRADES) {
+            if (pd <= oneYearPd[grade.ordinal()]) {
+                return grade;
+            }
+        }
+        return RiskGradeEnum.D;
+    }
+
+    private StagingDecision target(RiskGradeEnum grade, double currentPd, Double originationPd, int dpd) {
+        if (dpd >= properties.getStage3DaysPastDue()) {
+            return new StagingDecision(StageCodeEnum.STAGE_3, "Days past due " + dpd + " >= " + properties.getStage3DaysPastDue());
+        }
+        if (grade == RiskGradeEnum.D) {
+            return new StagingDecision(StageCodeEnum.STAGE_3, "Risk grade D");
+        }
+        if (currentPd >= 1.0) {
+            return new StagingDecision(StageCodeEnum.STAGE_3, "PD of 1");
+        }
+        if (dpd >= properties.getStage2DaysPastDue()) {
+            return new StagingDecision(StageCodeEnum.STAGE_2, "Days past due " + dpd + " >= " + properties.getStage2DaysPastDue());
+        }
+        if (originationPd != null && originationPd > 0
+                && currentPd >= originationPd * properties.getPdRelativeThreshold()
+                && currentPd - originationPd >= properties.getPdAbsoluteThreshold()) {
+            return new StagingDecision(StageCodeEnum.STAGE_2, String.format(Locale.ROOT,
+                    "PD %.4f vs %.4f at origination", currentPd, originationPd));
+        }
+        if (grade != null && originationPd != null) {
+            RiskGradeEnum originationGrade = impliedGrade(originationPd);
+            int notches = grade.ordinal() - originationGrade.ordinal();
+            if (notches >= properties.getGradeNotches()) {
+                return new StagingDecision(StageCodeEnum.STAGE_2,
+                        "Downgraded " + notches + " notches from " + originationGrade + " to " + grade);
+            }
+        }
+        return new StagingDecision(StageCodeEnum.STAGE_1, "No significant increase in credit risk");
+    }
+
+    /**
+     * Target stage of a case and the criterion that put it there.
+     */
+    public record StagingDecision(StageCodeEnum stage, String reason) {
+    }
+}
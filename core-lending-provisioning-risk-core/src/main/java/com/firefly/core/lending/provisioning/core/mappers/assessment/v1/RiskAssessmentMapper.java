@@ -20,9 +20,13 @@ package com.firefly.core.lending.provisioning.core.mappers.assessment.v1;
 import com.firefly.core.lending.provisioning.interfaces.dtos.assessment.v1.RiskAssessmentDTO;
 import com.firefly.core.lending.provisioning.models.entities.assessment.v1.RiskAssessment;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 
 @Mapper(componentModel = "spring")
 public interface RiskAssessmentMapper {
     RiskAssessmentDTO toDTO(RiskAssessment entity);
+
+    // New rows start at the column default; updates check the version in SQL
+    @Mapping(target = "version", ignore = true)
     RiskAssessment toEntity(RiskAssessmentDTO dto);
 }
\ No newline at end of file
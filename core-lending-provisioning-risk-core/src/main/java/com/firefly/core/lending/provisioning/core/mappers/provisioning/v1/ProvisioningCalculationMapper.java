@@ -20,9 +20,13 @@ package com.firefly.core.lending.provisioning.core.mappers.provisioning.v1;
 import com.firefly.core.lending.provisioning.interfaces.dtos.provisioning.v1.ProvisioningCalculationDTO;
 import com.firefly.core.lending.provisioning.models.entities.provisioning.v1.ProvisioningCalculation;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 
 @Mapper(componentModel = "spring")
 public interface ProvisioningCalculationMapper {
     ProvisioningCalculationDTO toDTO(ProvisioningCalculation entity);
+
+    // New rows start at the column default; updates check the version in SQL
+    @Mapping(target = "version", ignore = true)
     ProvisioningCalculation toEntity(ProvisioningCalculationDTO dto);
 }
\ No newline at end of file
@@ -20,9 +20,13 @@ package com.firefly.core.lending.provisioning.core.mappers.provisioning.v1;
 import com.firefly.core.lending.provisioning.interfaces.dtos.provisioning.v1.ProvisioningCaseDTO;
 import com.firefly.core.lending.provisioning.models.entities.provisioning.v1.ProvisioningCase;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 
 @Mapper(componentModel = "spring")
 public interface ProvisioningCaseMapper {
     ProvisioningCaseDTO toDTO(ProvisioningCase entity);
+
+    // New rows start at the column default; updates check the version in SQL
+    @Mapping(target = "version", ignore = true)
     ProvisioningCase toEntity(ProvisioningCaseDTO dto);
 }
@@ -20,6 +20,9 @@ package com.firefly.core.lending.provisioning.core.services.assessment.v1;
 import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
 import com.firefly.core.lending.provisioning.interfaces.dtos.assessment.v1.RiskAssessmentDTO;
+import com.firefly.core.lending.provisioning.interfaces.dtos.common.v1.CursorPageDTO;
+import com.firefly.core.lending.provisioning.interfaces.dtos.common.v1.BulkItemResultDTO;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.UUID;
@@ -54,6 +57,16 @@ public interface RiskAssessmentService {
      */
     Mono<RiskAssessmentDTO> getById(UUID provisioningCaseId, UUID riskAssessmentId);
 
+    /**
+     * Retrieves the most recent risk assessment of a provisioning case, by assessment date and then
+     * creation time, across all scenarios. Served from an in-memory cache that is evicted whenever an
+     * assessment of the case is written through this service.
+     *
+     * @param provisioningCaseId the unique identifier of the provisioning case
+     * @return a Mono emitting the latest RiskAssessmentDTO, or empty if the case has no assessments
+     */
+    Mono<RiskAssessmentDTO> getLatest(UUID provisioningCaseId);
+
     /**
      * Updates an existing risk assessment for a specified provisioning case with the provided details.
      *
@@ -70,7 +83,32 @@ public interface RiskAssessmentService {
      *
      * @param provisioningCaseId the unique identifier of the provisioning case
      * @param riskAssessmentId the unique identifier of the risk assessment to delete
-     * @return a Mono that completes when the deletion process is successful
+     * @return a Mono emitting the number of rows deleted, 0 if no such assessment exists under the case
+     */
+    Mono<Integer> delete(UUID provisioningCaseId, UUID riskAssessmentId);
+
+    /**
+     * Creates risk assessments from a stream of NDJSON lines, one assessment per line. Lines are
+     * parsed and validated individually and written in batched multi-row inserts; a line that fails
+     * parsing, validation or persistence is reported without interrupting the rest of the stream.
+     *
+     * @param lines the NDJSON lines, each holding a RiskAssessmentDTO including its provisioning case ID
+     * @return a Flux emitting one BulkItemResultDTO per non-blank line, in input order, indexed by
+     * the line's zero-based position in the request body, blank lines included
+     */
+    Flux<BulkItemResultDTO> createBulk(Flux<String> lines);
+
+    /**
+     * Retrieves one page of risk assessments of a provisioning case using keyset pagination. Rows are ordered by
+     * creation time and primary key and each page resumes after the position encoded in the cursor,
+     * so the cost of a page does not depend on how deep into the result set it is.
+     *
+     * @param provisioningCaseId the unique identifier of the provisioning case the assessments belong to
+     * @param filterRequest the filter criteria; offset pagination settings are ignored
+     * @param cursor the {@code nextCursor} returned with the previous page, or null for the first page
+     * @param limit the maximum number of items to return
+     * @return a Mono emitting the page and the cursor of the following one
      */
-    Mono<Void> delete(UUID provisioningCaseId, UUID riskAssessmentId);
+    Mono<CursorPageDTO<RiskAssessmentDTO>> findAllByCursor(UUID provisioningCaseId, FilterRequest<RiskAssessmentDTO> filterRequest,
+                                                           String cursor, int limit);
 }
@@ -17,18 +17,34 @@
 
 package com.firefly.core.lending.provisioning.core.services.assessment.v1;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.filters.FilterUtils;
 import org.fireflyframework.core.queries.PaginationResponse;
+import com.firefly.core.lending.provisioning.core.config.BulkProperties;
 import com.firefly.core.lending.provisioning.core.mappers.assessment.v1.RiskAssessmentMapper;
+import com.firefly.core.lending.provisioning.core.utils.KeysetPaginator;
+import com.firefly.core.lending.provisioning.core.utils.NdjsonBulkWriter;
+import com.firefly.core.lending.provisioning.core.utils.NdjsonBulkWriter.Row;
+import com.firefly.core.lending.provisioning.core.utils.ReadThroughCache;
+import com.firefly.core.lending.provisioning.core.utils.VersionConflicts;
 import com.firefly.core.lending.provisioning.interfaces.dtos.assessment.v1.RiskAssessmentDTO;
+import com.firefly.core.lending.provisioning.interfaces.dtos.common.v1.CursorPageDTO;
+import com.firefly.core.lending.provisioning.interfaces.dtos.common.v1.BulkItemResultDTO;
+import com.firefly.core.lending.provisioning.interfaces.enums.common.v1.BulkItemStatusEnum;
 import com.firefly.core.lending.provisioning.models.entities.assessment.v1.RiskAssessment;
 import com.firefly.core.lending.provisioning.models.repositories.assessment.v1.RiskAssessmentRepository;
+import jakarta.validation.Validator;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
 import java.util.UUID;
 
 @Service
@@ -41,6 +57,21 @@ public class RiskAssessmentServiceImpl implements RiskAssessmentService {
     @Autowired
     private RiskAssessmentMapper mapper;
 
+    @Autowired
+    private KeysetPaginator keysetPaginator;
+
+    @Autowired
+    private BulkProperties bulkProperties;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private Validator validator;
+
+    @Autowired
+    private ReadThroughCache<UUID, RiskAssessment> latestRiskAssessmentCache;
+
     @Override
     public Mono<PaginationResponse<RiskAssessmentDTO>> findAll(UUID provisioningCaseId, FilterRequest<RiskAssessmentDTO> filterRequest) {
         filterRequest.getFilters().setProvisioningCaseId(provisioningCaseId);
@@ -54,33 +85,87 @@ public class RiskAssessmentServiceImpl implements RiskAssessmentService {
     public Mono<RiskAssessmentDTO> create(UUID provisioningCaseId, RiskAssessmentDTO dto) {
         dto.setProvisioningCaseId(provisioningCaseId);
         return repository.save(mapper.toEntity(dto))
+                .flatMap(saved -> latestRiskAssessmentCache.evict(provisioningCaseId).thenReturn(saved))
                 .map(mapper::toDTO);
     }
 
     @Override
     public Mono<RiskAssessmentDTO> getById(UUID provisioningCaseId, UUID riskAssessmentId) {
-        return repository.findById(riskAssessmentId)
-                .filter(entity -> entity.getProvisioningCaseId().equals(provisioningCaseId))
+        return repository.findByRiskAssessmentIdAndProvisioningCaseId(riskAssessmentId, provisioningCaseId)
+                .map(mapper::toDTO);
+    }
+
+    @Override
+    public Mono<RiskAssessmentDTO> getLatest(UUID provisioningCaseId) {
+        return latestRiskAssessmentCache.get(provisioningCaseId,
+                        repository::findFirstByProvisioningCaseIdOrderByAssessmentDateDescCreatedAtDesc)
                 .map(mapper::toDTO);
     }
 
     @Override
     public Mono<RiskAssessmentDTO> update(UUID provisioningCaseId, UUID riskAssessmentId, RiskAssessmentDTO dto) {
-        return repository.findById(riskAssessmentId)
-                .filter(entity -> entity.getProvisioningCaseId().equals(provisioningCaseId))
-                .flatMap(existing -> {
-                    RiskAssessment updated = mapper.toEntity(dto);
-                    updated.setRiskAssessmentId(riskAssessmentId);
-                    updated.setProvisioningCaseId(provisioningCaseId);
-                    return repository.save(updated);
-                })
+        return repository.updateIfCurrent(riskAssessmentId, provisioningCaseId, dto.getPdValue(),
+                        dto.getLgdValue(), dto.getEadValue(), dto.getModelVersion(), dto.getScenarioCode().name(),
+                        dto.getAssessmentDate(), dto.getDetails(), dto.getVersion())
+                .switchIfEmpty(VersionConflicts.conflictIfExists(repository
+                        .findByRiskAssessmentIdAndProvisioningCaseId(riskAssessmentId, provisioningCaseId)
+                        .hasElement(), "Risk assessment"))
+                .flatMap(saved -> latestRiskAssessmentCache.evict(provisioningCaseId).thenReturn(saved))
                 .map(mapper::toDTO);
     }
 
     @Override
-    public Mono<Void> delete(UUID provisioningCaseId, UUID riskAssessmentId) {
-        return repository.findById(riskAssessmentId)
-                .filter(entity -> entity.getProvisioningCaseId().equals(provisioningCaseId))
-                .flatMap(repository::delete);
+    public Mono<Integer> delete(UUID provisioningCaseId, UUID riskAssessmentId) {
+        return repository.deleteByRiskAssessmentIdAndProvisioningCaseId(riskAssessmentId, provisioningCaseId)
+                .flatMap(deleted -> latestRiskAssessmentCache.evict(provisioningCaseId).thenReturn(deleted));
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Flux<BulkItemResultDTO> createBulk(Flux<String> lines) {
+        return new NdjsonBulkWriter<RiskAssessmentDTO>(RiskAssessmentDTO.class, objectMapper, validator,
+                bulkProperties.getBatchSize(), List::of, this::insert, row -> insert(List.of(row)).single())
+                .writeLines(lines);
+    }
+
+    private Flux<BulkItemResultDTO> insert(List<Row<RiskAssessmentDTO>> rows) {
+        int size = rows.size();
+        UUID[] ids = new UUID[size];
+        UUID[] caseIds = new UUID[size];
+        String[] pdValues = new String[size];
+        String[] lgdValues = new String[size];
+        String[] eadValues = new String[size];
+        String[] modelVersions = new String[size];
+        String[] scenarioCodes = new String[size];
+        String[] assessmentDates = new String[size];
+        String[] details = new String[size];
+        for (int i = 0; i < size; i++) {
+            RiskAssessmentDTO dto = rows.get(i).dto();
+            ids[i] = UUID.randomUUID();
+            caseIds[i] = dto.getProvisioningCaseId();
+            pdValues[i] = toPlainString(dto.getPdValue());
+            lgdValues[i] = toPlainString(dto.getLgdValue());
+            eadValues[i] = toPlainString(dto.getEadValue());
+            modelVersions[i] = dto.getModelVersion();
+            scenarioCodes[i] = dto.getScenarioCode().name();
+            assessmentDates[i] = dto.getAssessmentDate().toString();
+            details[i] = dto.getDetails();
+        }
+        return repository.insertBatch(ids, caseIds, pdValues, lgdValues, eadValues, modelVersions,
+                        scenarioCodes, assessmentDates, details)
+                .flatMap(inserted -> latestRiskAssessmentCache.evictAll(Arrays.asList(caseIds)).thenReturn(inserted))
+                .thenMany(Flux.range(0, size)
+                        .map(i -> rows.get(i).written(BulkItemStatusEnum.CREATED, ids[i])));
+    }
+
+    private static String toPlainString(BigDecimal value) {
+        return value == null ? null : value.toPlainString();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Mono<CursorPageDTO<RiskAssessmentDTO>> findAllByCursor(UUID provisioningCaseId, FilterRequest<RiskAssessmentDTO> filterRequest, String cursor, int limit) {
+        filterRequest.getFilters().setProvisioningCaseId(provisioningCaseId);
+        return keysetPaginator.page(RiskAssessment.class, filterRequest.getFilters(), cursor, limit, mapper::toDTO);
     }
-}
\ No newline at end of file
+}
@@ -20,6 +20,8 @@ package com.firefly.core.lending.provisioning.core.services.provisioning.v1;
 import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
 import com.firefly.core.lending.provisioning.interfaces.dtos.provisioning.v1.ProvisioningCalculationDTO;
+import com.firefly.core.lending.provisioning.interfaces.dtos.common.v1.CursorPageDTO;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.UUID;
@@ -71,7 +73,32 @@ public interface ProvisioningCalculationService {
      *
      * @param provisioningCaseId the unique identifier of the provisioning case
      * @param provisioningCalculationId the unique identifier of the provisioning calculation to be deleted
-     * @return a Mono that completes when the deletion operation is successful
+     * @return a Mono emitting the number of rows deleted, 0 if no such calculation exists under the case
      */
-    Mono<Void> delete(UUID provisioningCaseId, UUID provisioningCalculationId);
-}
\ No newline at end of file
+    Mono<Integer> delete(UUID provisioningCaseId, UUID provisioningCalculationId);
+
+    /**
+     * Streams every ProvisioningCalculationDTO of a provisioning case matching the filter criteria,
+     * without pagination. Rows are emitted as they are read from the database cursor.
+     *
+     * @param provisioningCaseId the unique identifier of the provisioning case the calculations belong to
+     * @param filterRequest the filter criteria; pagination settings are ignored
+     * @return a Flux emitting the matching provisioning calculations
+     */
+    Flux<ProvisioningCalculationDTO> stream(UUID provisioningCaseId,
+                                            FilterRequest<ProvisioningCalculationDTO> filterRequest);
+
+    /**
+     * Retrieves one page of provisioning calculations of a case using keyset pagination. Rows are ordered by
+     * creation time and primary key and each page resumes after the position encoded in the cursor,
+     * so the cost of a page does not depend on how deep into the result set it is.
+     *
+     * @param provisioningCaseId the unique identifier of the provisioning case the calculations belong to
+     * @param filterRequest the filter criteria; offset pagination settings are ignored
+     * @param cursor the {@code nextCursor} returned with the previous page, or null for the first page
+     * @param limit the maximum number of items to return
+     * @return a Mono emitting the page and the cursor of the following one
+     */
+    Mono<CursorPageDTO<ProvisioningCalculationDTO>> findAllByCursor(UUID provisioningCaseId, FilterRequest<ProvisioningCalculationDTO> filterRequest,
+                                                                    String cursor, int limit);
+}
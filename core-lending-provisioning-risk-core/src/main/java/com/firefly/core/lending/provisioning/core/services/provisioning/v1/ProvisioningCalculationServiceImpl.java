@@ -21,12 +21,19 @@ import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.filters.FilterUtils;
 import org.fireflyframework.core.queries.PaginationResponse;
 import com.firefly.core.lending.provisioning.core.mappers.provisioning.v1.ProvisioningCalculationMapper;
+import com.firefly.core.lending.provisioning.core.utils.FilterCriteria;
+import com.firefly.core.lending.provisioning.core.utils.KeysetPaginator;
+import com.firefly.core.lending.provisioning.core.utils.VersionConflicts;
 import com.firefly.core.lending.provisioning.interfaces.dtos.provisioning.v1.ProvisioningCalculationDTO;
+import com.firefly.core.lending.provisioning.interfaces.dtos.common.v1.CursorPageDTO;
 import com.firefly.core.lending.provisioning.models.entities.provisioning.v1.ProvisioningCalculation;
 import com.firefly.core.lending.provisioning.models.repositories.provisioning.v1.ProvisioningCalculationRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.data.relational.core.query.Query;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.time.LocalDateTime;
@@ -42,6 +49,12 @@ public class ProvisioningCalculationServiceImpl implements ProvisioningCalculati
     @Autowired
     private ProvisioningCalculationMapper mapper;
 
+    @Autowired
+    private KeysetPaginator keysetPaginator;
+
+    @Autowired
+    private R2dbcEntityTemplate template;
+
     @Override
     public Mono<PaginationResponse<ProvisioningCalculationDTO>> findAll(UUID provisioningCaseId, FilterRequest<ProvisioningCalculationDTO> filterRequest) {
         filterRequest.getFilters().setProvisioningCaseId(provisioningCaseId);
@@ -63,30 +76,40 @@ public class ProvisioningCalculationServiceImpl implements ProvisioningCalculati
 
     @Override
     public Mono<ProvisioningCalculationDTO> getById(UUID provisioningCaseId, UUID provisioningCalculationId) {
-        return repository.findById(provisioningCalculationId)
-                .filter(entity -> entity.getProvisioningCaseId().equals(provisioningCaseId))
+        return repository.findByProvisioningCalculationIdAndProvisioningCaseId(provisioningCalculationId, provisioningCaseId)
                 .map(mapper::toDTO);
     }
 
     @Override
     public Mono<ProvisioningCalculationDTO> update(UUID provisioningCaseId, UUID provisioningCalculationId, ProvisioningCalculationDTO dto) {
-        return repository.findById(provisioningCalculationId)
-                .filter(entity -> entity.getProvisioningCaseId().equals(provisioningCaseId))
-                .flatMap(entity -> {
-                    entity.setFinalEcl(dto.getFinalEcl());
-                    entity.setCalcMethod(dto.getCalcMethod());
-                    entity.setCalcTimestamp(dto.getCalcTimestamp());
-                    entity.setNotes(dto.getNotes());
-                    entity.setUpdatedAt(LocalDateTime.now());
-                    return repository.save(entity);
-                })
+        return repository.updateIfCurrent(provisioningCalculationId, provisioningCaseId, dto.getRiskAssessmentId(),
+                        dto.getFinalEcl(), dto.getCalcMethod().name(), dto.getCalcTimestamp(), dto.getNotes(),
+                        dto.getVersion())
+                .switchIfEmpty(VersionConflicts.conflictIfExists(repository
+                        .findByProvisioningCalculationIdAndProvisioningCaseId(provisioningCalculationId, provisioningCaseId)
+                        .hasElement(), "Provisioning calculation"))
                 .map(mapper::toDTO);
     }
 
     @Override
-    public Mono<Void> delete(UUID provisioningCaseId, UUID provisioningCalculationId) {
-        return repository.findById(provisioningCalculationId)
-                .filter(entity -> entity.getProvisioningCaseId().equals(provisioningCaseId))
-                .flatMap(repository::delete);
+    public Mono<Integer> delete(UUID provisioningCaseId, UUID provisioningCalculationId) {
+        return repository.deleteByProvisioningCalculationIdAndProvisioningCaseId(provisioningCalculationId, provisioningCaseId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Flux<ProvisioningCalculationDTO> stream(UUID provisioningCaseId, FilterRequest<ProvisioningCalculationDTO> filterRequest) {
+        filterRequest.getFilters().setProvisioningCaseId(provisioningCaseId);
+        return template.select(ProvisioningCalculation.class)
+                .matching(Query.query(FilterCriteria.from(filterRequest.getFilters(), ProvisioningCalculation.class)))
+                .all()
+                .map(mapper::toDTO);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Mono<CursorPageDTO<ProvisioningCalculationDTO>> findAllByCursor(UUID provisioningCaseId, FilterRequest<ProvisioningCalculationDTO> filterRequest, String cursor, int limit) {
+        filterRequest.getFilters().setProvisioningCaseId(provisioningCaseId);
+        return keysetPaginator.page(ProvisioningCalculation.class, filterRequest.getFilters(), cursor, limit, mapper::toDTO);
     }
-}
\ No newline at end of file
+}
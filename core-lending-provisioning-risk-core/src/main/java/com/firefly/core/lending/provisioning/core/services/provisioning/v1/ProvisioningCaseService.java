@@ -19,7 +19,10 @@ package com.firefly.core.lending.provisioning.core.services.provisioning.v1;
 
 import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
+import com.firefly.core.lending.provisioning.interfaces.dtos.common.v1.BulkItemResultDTO;
 import com.firefly.core.lending.provisioning.interfaces.dtos.provisioning.v1.ProvisioningCaseDTO;
+import com.firefly.core.lending.provisioning.interfaces.dtos.common.v1.CursorPageDTO;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.UUID;
@@ -65,4 +68,48 @@ public interface ProvisioningCaseService {
      * @return a Mono that completes when the deletion is successful
      */
     Mono<Void> delete(UUID provisioningCaseId);
-}
\ No newline at end of file
+
+    /**
+     * Creates or updates provisioning cases from a stream of NDJSON lines, one case per line, keyed
+     * on the loan servicing case ID. Lines are parsed and validated individually and written in
+     * batched multi-row upserts; a line that fails parsing, validation or persistence is reported
+     * without interrupting the rest of the stream.
+     *
+     * @param lines the NDJSON lines, each holding a ProvisioningCaseDTO
+     * @return a Flux emitting one BulkItemResultDTO per non-blank line, in input order and indexed by
+     * the line's zero-based position in the request body, CREATED or UPDATED depending on whether a
+     * case already held the loan servicing case ID
+     */
+    Flux<BulkItemResultDTO> upsertBulk(Flux<String> lines);
+
+    /**
+     * Creates or updates provisioning cases as {@link #upsertBulk(Flux)} does, from cases already
+     * decoded, e.g. the elements of a JSON array.
+     *
+     * @param cases the provisioning cases to write
+     * @return a Flux emitting one BulkItemResultDTO per case, in input order
+     */
+    Flux<BulkItemResultDTO> upsertBulkCases(Flux<ProvisioningCaseDTO> cases);
+
+    /**
+     * Streams every ProvisioningCaseDTO matching the filter criteria, without pagination. Rows are
+     * emitted as they are read from the database cursor, so memory use does not grow with the result.
+     *
+     * @param filterRequest the filter criteria; pagination settings are ignored
+     * @return a Flux emitting the matching provisioning cases
+     */
+    Flux<ProvisioningCaseDTO> stream(FilterRequest<ProvisioningCaseDTO> filterRequest);
+
+    /**
+     * Retrieves one page of provisioning cases using keyset pagination. Rows are ordered by
+     * creation time and primary key and each page resumes after the position encoded in the cursor,
+     * so the cost of a page does not depend on how deep into the result set it is.
+     *
+     * @param filterRequest the filter criteria; offset pagination settings are ignored
+     * @param cursor the {@code nextCursor} returned with the previous page, or null for the first page
+     * @param limit the maximum number of items to return
+     * @return a Mono emitting the page and the cursor of the following one
+     */
+    Mono<CursorPageDTO<ProvisioningCaseDTO>> findAllByCursor(FilterRequest<ProvisioningCaseDTO> filterRequest,
+                                                             String cursor, int limit);
+}
@@ -17,18 +17,42 @@
 
 package com.firefly.core.lending.provisioning.core.services.provisioning.v1;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.filters.FilterUtils;
 import org.fireflyframework.core.queries.PaginationResponse;
+import com.firefly.core.lending.provisioning.core.config.BulkProperties;
 import com.firefly.core.lending.provisioning.core.mappers.provisioning.v1.ProvisioningCaseMapper;
+import com.firefly.core.lending.provisioning.core.utils.FilterCriteria;
+import com.firefly.core.lending.provisioning.core.utils.KeysetPaginator;
+import com.firefly.core.lending.provisioning.core.utils.NdjsonBulkWriter;
+import com.firefly.core.lending.provisioning.core.utils.NdjsonBulkWriter.Row;
+import com.firefly.core.lending.provisioning.core.utils.ReadThroughCache;
+import com.firefly.core.lending.provisioning.core.utils.VersionConflicts;
 import com.firefly.core.lending.provisioning.interfaces.dtos.provisioning.v1.ProvisioningCaseDTO;
+import com.firefly.core.lending.provisioning.interfaces.dtos.common.v1.CursorPageDTO;
+import com.firefly.core.lending.provisioning.interfaces.dtos.common.v1.BulkItemResultDTO;
+import com.firefly.core.lending.provisioning.interfaces.enums.common.v1.BulkItemStatusEnum;
+import com.firefly.core.lending.provisioning.models.entities.assessment.v1.RiskAssessment;
 import com.firefly.core.lending.provisioning.models.entities.provisioning.v1.ProvisioningCase;
+import com.firefly.core.lending.provisioning.models.projections.provisioning.v1.CaseUpsertRow;
 import com.firefly.core.lending.provisioning.models.repositories.provisioning.v1.ProvisioningCaseRepository;
+import jakarta.validation.Validator;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.data.relational.core.query.Query;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 @Service
@@ -41,6 +65,27 @@ public class ProvisioningCaseServiceImpl implements ProvisioningCaseService {
     @Autowired
     private ProvisioningCaseMapper mapper;
 
+    @Autowired
+    private KeysetPaginator keysetPaginator;
+
+    @Autowired
+    private R2dbcEntityTemplate template;
+
+    @Autowired
+    private BulkProperties bulkProperties;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private Validator validator;
+
+    @Autowired
+    private ReadThroughCache<UUID, ProvisioningCase> provisioningCaseCache;
+
+    @Autowired
+    private ReadThroughCache<UUID, RiskAssessment> latestRiskAssessmentCache;
+
     @Override
     public Mono<PaginationResponse<ProvisioningCaseDTO>> findAll(FilterRequest<ProvisioningCaseDTO> filterRequest) {
         return FilterUtils.createFilter(
@@ -58,24 +103,123 @@ public class ProvisioningCaseServiceImpl implements ProvisioningCaseService {
 
     @Override
     public Mono<ProvisioningCaseDTO> getById(UUID provisioningCaseId) {
-        return repository.findById(provisioningCaseId)
+        return provisioningCaseCache.get(provisioningCaseId, repository::findById)
                 .map(mapper::toDTO);
     }
 
     @Override
     public Mono<ProvisioningCaseDTO> update(UUID provisioningCaseId, ProvisioningCaseDTO dto) {
-        return repository.findById(provisioningCaseId)
-                .flatMap(existing -> {
-                    mapper.toEntity(dto).setProvisioningCaseId(provisioningCaseId);
-                    ProvisioningCase updatedEntity = mapper.toEntity(dto);
-                    return repository.save(updatedEntity);
-                })
+        return repository.updateIfCurrent(provisioningCaseId, dto.getLoanServicingCaseId(),
+                        dto.getStageCode().name(), dto.getEclAmount(), dto.getRiskGrade().name(),
+                        dto.getLastCalculatedAt(), dto.getProvisioningStatus().name(), dto.getRemarks(),
+                        dto.getVersion())
+                .switchIfEmpty(VersionConflicts.conflictIfExists(repository.existsById(provisioningCaseId),
+                        "Provisioning case"))
+                .flatMap(saved -> provisioningCaseCache.evict(provisioningCaseId).thenReturn(saved))
                 .map(mapper::toDTO);
     }
 
     @Override
     public Mono<Void> delete(UUID provisioningCaseId) {
         return repository.findById(provisioningCaseId)
-                .flatMap(repository::delete);
+                .flatMap(repository::delete)
+                .then(provisioningCaseCache.evict(provisioningCaseId))
+                .then(latestRiskAssessmentCache.evict(provisioningCaseId));
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Flux<BulkItemResultDTO> upsertBulk(Flux<String> lines) {
+        return bulkWriter().writeLines(lines);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Flux<BulkItemResultDTO> upsertBulkCases(Flux<ProvisioningCaseDTO> cases) {
+        return bulkWriter().writeItems(cases);
+    }
+
+    private NdjsonBulkWriter<ProvisioningCaseDTO> bulkWriter() {
+        return new NdjsonBulkWriter<ProvisioningCaseDTO>(ProvisioningCaseDTO.class, objectMapper, validator,
+                bulkProperties.getBatchSize(), ProvisioningCaseServiceImpl::distinctRounds, this::upsert,
+                row -> upsert(List.of(row)).single());
+    }
+
+    /**
+     * Splits a batch into rounds without repeated loan servicing case IDs, since one upsert
+     * statement cannot update the same row twice. Repeats move to a later round, so the last
+     * occurrence in the input is the one that sticks.
+     */
+    private static List<List<Row<ProvisioningCaseDTO>>> distinctRounds(List<Row<ProvisioningCaseDTO>> rows) {
+        List<List<Row<ProvisioningCaseDTO>>> rounds = new ArrayList<>();
+        List<Row<ProvisioningCaseDTO>> pending = rows;
+        while (!pending.isEmpty()) {
+            Set<UUID> seen = new HashSet<>();
+            List<Row<ProvisioningCaseDTO>> round = new ArrayList<>();
+            List<Row<ProvisioningCaseDTO>> deferred = new ArrayList<>();
+            for (Row<ProvisioningCaseDTO> row : pending) {
+                (seen.add(row.dto().getLoanServicingCaseId()) ? round : deferred).add(row);
+            }
+            rounds.add(round);
+            pending = deferred;
+        }
+        return rounds;
+    }
+
+    private Flux<BulkItemResultDTO> upsert(List<Row<ProvisioningCaseDTO>> rows) {
+        int size = rows.size();
+        UUID[] ids = new UUID[size];
+        UUID[] loanServicingCaseIds = new UUID[size];
+        String[] stageCodes = new String[size];
+        String[] eclAmounts = new String[size];
+        String[] riskGrades = new String[size];
+        String[] lastCalculatedAts = new String[size];
+        String[] provisioningStatuses = new String[size];
+        String[] remarks = new String[size];
+        for (int i = 0; i < size; i++) {
+            ProvisioningCaseDTO dto = rows.get(i).dto();
+            ids[i] = UUID.randomUUID();
+            loanServicingCaseIds[i] = dto.getLoanServicingCaseId();
+            stageCodes[i] = dto.getStageCode().name();
+            eclAmounts[i] = toPlainString(dto.getEclAmount());
+            riskGrades[i] = dto.getRiskGrade().name();
+            lastCalculatedAts[i] = dto.getLastCalculatedAt() == null ? null : dto.getLastCalculatedAt().toString();
+            provisioningStatuses[i] = dto.getProvisioningStatus().name();
+            remarks[i] = dto.getRemarks();
+        }
+        return repository.upsertBatch(ids, loanServicingCaseIds, stageCodes, eclAmounts, riskGrades,
+                        lastCalculatedAts, provisioningStatuses, remarks)
+                .collectMap(CaseUpsertRow::getLoanServicingCaseId)
+                .flatMapMany(written -> provisioningCaseCache.evictAll(written.values().stream()
+                                .map(CaseUpsertRow::getProvisioningCaseId)
+                                .toList())
+                        .thenMany(Flux.fromIterable(rows).map(row -> written(row, written))));
+    }
+
+    private static BulkItemResultDTO written(Row<ProvisioningCaseDTO> row, Map<UUID, CaseUpsertRow> written) {
+        CaseUpsertRow upserted = written.get(row.dto().getLoanServicingCaseId());
+        return row.written(Boolean.TRUE.equals(upserted.getInserted())
+                        ? BulkItemStatusEnum.CREATED
+                        : BulkItemStatusEnum.UPDATED,
+                upserted.getProvisioningCaseId());
+    }
+
+    private static String toPlainString(BigDecimal value) {
+        return value == null ? null : value.toPlainString();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Flux<ProvisioningCaseDTO> stream(FilterRequest<ProvisioningCaseDTO> filterRequest) {
+        return template.select(ProvisioningCase.class)
+                .matching(Query.query(FilterCriteria.from(filterRequest.getFilters(), ProvisioningCase.class)))
+                .all()
+                .map(mapper::toDTO);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Mono<CursorPageDTO<ProvisioningCaseDTO>> findAllByCursor(FilterRequest<ProvisioningCaseDTO> filterRequest, String cursor, int limit) {
+        return keysetPaginator.page(ProvisioningCase.class, filterRequest.getFilters(), cursor, limit, mapper::toDTO);
     }
 }
@@ -0,0 +1,40 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.provisioning.core.services.provisioning.v1;
+
+import com.firefly.core.lending.provisioning.interfaces.dtos.provisioning.v1.EclPortfolioDTO;
+import com.firefly.core.lending.provisioning.interfaces.enums.assessment.v1.StageCodeEnum;
+import com.firefly.core.lending.provisioning.interfaces.enums.provisioning.v1.ProvisioningStatusEnum;
+import com.firefly.core.lending.provisioning.interfaces.enums.provisioning.v1.RiskGradeEnum;
+import reactor.core.publisher.Mono;
+
+public interface ProvisioningEclAggregateService {
+
+    /**
+     * Retrieves the portfolio ECL and case counts broken down by stage, risk grade and provisioning
+     * status. The figures are read from an aggregate maintained incrementally on every provisioning
+     * case write, so the cost depends on the number of cells, not on the number of cases.
+     *
+     * @param stageCode restricts the breakdown to one stage, or null for all
+     * @param riskGrade restricts the breakdown to one risk grade, or null for all
+     * @param provisioningStatus restricts the breakdown to one status, or null for all
+     * @return a Mono emitting the matching non-empty cells and their totals
+     */
+    Mono<EclPortfolioDTO> getPortfolio(StageCodeEnum stageCode, RiskGradeEnum riskGrade,
+                                       ProvisioningStatusEnum provisioningStatus);
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.provisioning.core.services.provisioning.v1;
+
+import com.firefly.core.lending.provisioning.interfaces.dtos.provisioning.v1.EclAggregateDTO;
+import com.firefly.core.lending.provisioning.interfaces.dtos.provisioning.v1.EclPortfolioDTO;
+import com.firefly.core.lending.provisioning.interfaces.enums.assessment.v1.StageCodeEnum;
+import com.firefly.core.lending.provisioning.interfaces.enums.provisioning.v1.ProvisioningStatusEnum;
+import com.firefly.core.lending.provisioning.interfaces.enums.provisioning.v1.RiskGradeEnum;
+import com.firefly.core.lending.provisioning.models.projections.provisioning.v1.EclAggregateRow;
+import com.firefly.core.lending.provisioning.models.repositories.provisioning.v1.ProvisioningCaseRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Service
+@Transactional(readOnly = true)
+public class ProvisioningEclAggregateServiceImpl implements ProvisioningEclAggregateService {
+
+    @Autowired
+    private ProvisioningCaseRepository caseRepository;
+
+    @Override
+    public Mono<EclPortfolioDTO> getPortfolio(StageCodeEnum stageCode, RiskGradeEnum riskGrade,
+                                              ProvisioningStatusEnum provisioningStatus) {
+        return caseRepository.findEclAggregates(nameOf(stageCode), nameOf(riskGrade), nameOf(provisioningStatus))
+                .map(ProvisioningEclAggregateServiceImpl::toDTO)
+                .collectList()
+                .map(ProvisioningEclAggregateServiceImpl::toPortfolio);
+    }
+
+    private static EclAggregateDTO toDTO(EclAggregateRow row) {
+        return EclAggregateDTO.builder()
+                .stageCode(row.getStageCode())
+                .riskGrade(row.getRiskGrade())
+                .provisioningStatus(row.getProvisioningStatus())
+                .caseCount(row.getCaseCount())
+                .totalEcl(row.getTotalEcl())
+                .updatedAt(row.getUpdatedAt())
+                .build();
+    }
+
+    private static EclPortfolioDTO toPortfolio(List<EclAggregateDTO> cells) {
+        return EclPortfolioDTO.builder()
+                .cells(cells)
+                .caseCount(cells.stream().mapToLong(EclAggregateDTO::getCaseCount).sum())
+                .totalEcl(cells.stream().map(EclAggregateDTO::getTotalEcl).reduce(BigDecimal.ZERO, BigDecimal::add))
+                .build();
+    }
+
+    private static String nameOf(Enum<?> value) {
+        return value == null ? null : value.name();
+    }
+}
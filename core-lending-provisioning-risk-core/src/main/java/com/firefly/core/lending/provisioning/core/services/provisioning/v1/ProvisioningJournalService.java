@@ -20,8 +20,11 @@ package com.firefly.core.lending.provisioning.core.services.provisioning.v1;
 import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
 import com.firefly.core.lending.provisioning.interfaces.dtos.provisioning.v1.ProvisioningJournalDTO;
+import com.firefly.core.lending.provisioning.interfaces.dtos.common.v1.CursorPageDTO;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 public interface ProvisioningJournalService {
@@ -33,7 +36,8 @@ public interface ProvisioningJournalService {
      * @param provisioningCaseId the unique identifier of the provisioning case to which the provisioning journals are linked
      * @param provisioningCalculationId the unique identifier of the provisioning calculation to which the provisioning journals are linked
      * @param filterRequest an object containing filtering and pagination criteria for the query
-     * @return a Mono containing a PaginationResponse of ProvisioningJournalDTO representing the filtered and paginated list of provisioning journals
+     * @return a Mono containing a PaginationResponse of ProvisioningJournalDTO representing the filtered and paginated list of provisioning journals,
+     * or empty if the calculation does not belong to the provisioning case
      */
     Mono<PaginationResponse<ProvisioningJournalDTO>> findAll(UUID provisioningCaseId, UUID provisioningCalculationId,
                                                              FilterRequest<ProvisioningJournalDTO> filterRequest);
@@ -78,7 +82,44 @@ public interface ProvisioningJournalService {
      * @param provisioningCaseId the unique identifier of the provisioning case
      * @param provisioningCalculationId the unique identifier of the provisioning calculation
      * @param provisioningJournalId the unique identifier of the provisioning journal entry to delete
-     * @return a Mono that completes when the deletion process is successful
+     * @return a Mono emitting the number of rows deleted, 0 if no such entry exists under the case and
+     * calculation
      */
-    Mono<Void> delete(UUID provisioningCaseId, UUID provisioningCalculationId, UUID provisioningJournalId);
+    Mono<Integer> delete(UUID provisioningCaseId, UUID provisioningCalculationId, UUID provisioningJournalId);
+
+    /**
+     * Streams every ProvisioningJournalDTO of a provisioning calculation matching the filter criteria,
+     * without pagination. Rows are emitted as they are read from the database cursor.
+     *
+     * @param provisioningCaseId the unique identifier of the provisioning case
+     * @param provisioningCalculationId the unique identifier of the provisioning calculation the journals belong to
+     * @param filterRequest the filter criteria; pagination settings are ignored
+     * @param postedFrom the inclusive lower bound on the posting time, or null; bounding the posting
+     *                   time limits the scan to the monthly partitions in range
+     * @param postedTo the exclusive upper bound on the posting time, or null
+     * @return a Flux emitting the matching provisioning journal entries, none if the calculation does
+     * not belong to the provisioning case
+     */
+    Flux<ProvisioningJournalDTO> stream(UUID provisioningCaseId, UUID provisioningCalculationId,
+                                        FilterRequest<ProvisioningJournalDTO> filterRequest,
+                                        LocalDateTime postedFrom, LocalDateTime postedTo);
+
+    /**
+     * Retrieves one page of journal entries of a provisioning calculation using keyset pagination. Rows are ordered by
+     * creation time and primary key and each page resumes after the position encoded in the cursor,
+     * so the cost of a page does not depend on how deep into the result set it is.
+     *
+     * @param provisioningCaseId the unique identifier of the provisioning case
+     * @param provisioningCalculationId the unique identifier of the provisioning calculation the journals belong to
+     * @param filterRequest the filter criteria; offset pagination settings are ignored
+     * @param cursor the {@code nextCursor} returned with the previous page, or null for the first page
+     * @param limit the maximum number of items to return
+     * @param postedFrom the inclusive lower bound on the posting time, or null
+     * @param postedTo the exclusive upper bound on the posting time, or null
+     * @return a Mono emitting the page and the cursor of the following one, or empty if the
+     * calculation does not belong to the provisioning case
+     */
+    Mono<CursorPageDTO<ProvisioningJournalDTO>> findAllByCursor(UUID provisioningCaseId, UUID provisioningCalculationId, FilterRequest<ProvisioningJournalDTO> filterRequest,
+                                                                String cursor, int limit,
+                                                                LocalDateTime postedFrom, LocalDateTime postedTo);
 }
@@ -21,14 +21,25 @@ import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.filters.FilterUtils;
 import org.fireflyframework.core.queries.PaginationResponse;
 import com.firefly.core.lending.provisioning.core.mappers.provisioning.v1.ProvisioningJournalMapper;
+import com.firefly.core.lending.provisioning.core.utils.FilterCriteria;
+import com.firefly.core.lending.provisioning.core.utils.KeysetPaginator;
+import com.firefly.core.lending.provisioning.core.utils.VersionConflicts;
 import com.firefly.core.lending.provisioning.interfaces.dtos.provisioning.v1.ProvisioningJournalDTO;
+import com.firefly.core.lending.provisioning.interfaces.dtos.common.v1.CursorPageDTO;
+import com.firefly.core.lending.provisioning.models.entities.provisioning.v1.ProvisioningCalculation;
 import com.firefly.core.lending.provisioning.models.entities.provisioning.v1.ProvisioningJournal;
+import com.firefly.core.lending.provisioning.models.repositories.provisioning.v1.ProvisioningCalculationRepository;
 import com.firefly.core.lending.provisioning.models.repositories.provisioning.v1.ProvisioningJournalRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.data.relational.core.query.Criteria;
+import org.springframework.data.relational.core.query.Query;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Service
@@ -38,16 +49,26 @@ public class ProvisioningJournalServiceImpl implements ProvisioningJournalServic
     @Autowired
     private ProvisioningJournalRepository repository;
 
+    @Autowired
+    private ProvisioningCalculationRepository calculationRepository;
+
     @Autowired
     private ProvisioningJournalMapper mapper;
 
+    @Autowired
+    private KeysetPaginator keysetPaginator;
+
+    @Autowired
+    private R2dbcEntityTemplate template;
+
     @Override
     public Mono<PaginationResponse<ProvisioningJournalDTO>> findAll(UUID provisioningCaseId, UUID provisioningCalculationId, FilterRequest<ProvisioningJournalDTO> filterRequest) {
         filterRequest.getFilters().setProvisioningCalculationId(provisioningCalculationId);
-        return FilterUtils.createFilter(
-                ProvisioningJournal.class,
-                mapper::toDTO
-        ).filter(filterRequest);
+        return calculationUnderCase(provisioningCaseId, provisioningCalculationId)
+                .flatMap(calculation -> FilterUtils.createFilter(
+                        ProvisioningJournal.class,
+                        mapper::toDTO
+                ).filter(filterRequest));
     }
 
     @Override
@@ -61,27 +82,64 @@ public class ProvisioningJournalServiceImpl implements ProvisioningJournalServic
 
     @Override
     public Mono<ProvisioningJournalDTO> getById(UUID provisioningCaseId, UUID provisioningCalculationId, UUID provisioningJournalId) {
-        return repository.findById(provisioningJournalId)
-                .filter(entity -> provisioningCalculationId.equals(entity.getProvisioningCalculationId()))
+        return repository.findByProvisioningJournalIdAndProvisioningCalculationIdAndProvisioningCaseId(
+                        provisioningJournalId, provisioningCalculationId, provisioningCaseId)
                 .map(mapper::toDTO);
     }
 
     @Override
     public Mono<ProvisioningJournalDTO> update(UUID provisioningCaseId, UUID provisioningCalculationId, UUID provisioningJournalId, ProvisioningJournalDTO dto) {
-        return repository.findById(provisioningJournalId)
-                .filter(entity -> provisioningCalculationId.equals(entity.getProvisioningCalculationId()))
-                .flatMap(existingEntity -> {
-                    ProvisioningJournal updatedEntity = mapper.toEntity(dto);
-                    updatedEntity.setProvisioningJournalId(provisioningJournalId);
-                    return repository.save(updatedEntity);
-                })
+        return repository.updateIfCurrent(provisioningJournalId, provisioningCalculationId, provisioningCaseId,
+                        dto.getAccountingJournalEntryId(), dto.getProvisionChangeAmount(), dto.getPostedAt(),
+                        dto.getPostingDescription(), dto.getIsReversal(), dto.getVersion())
+                .switchIfEmpty(VersionConflicts.conflictIfExists(repository
+                        .findByProvisioningJournalIdAndProvisioningCalculationIdAndProvisioningCaseId(
+                                provisioningJournalId, provisioningCalculationId, provisioningCaseId)
+                        .hasElement(), "Journal entry"))
                 .map(mapper::toDTO);
     }
 
     @Override
-    public Mono<Void> delete(UUID provisioningCaseId, UUID provisioningCalculationId, UUID provisioningJournalId) {
-        return repository.findById(provisioningJournalId)
-                .filter(entity -> provisioningCalculationId.equals(entity.getProvisioningCalculationId()))
-                .flatMap(repository::delete);
+    public Mono<Integer> delete(UUID provisioningCaseId, UUID provisioningCalculationId, UUID provisioningJournalId) {
+        return repository.deleteByProvisioningJournalIdAndProvisioningCalculationIdAndProvisioningCaseId(
+                provisioningJournalId, provisioningCalculationId, provisioningCaseId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Flux<ProvisioningJournalDTO> stream(UUID provisioningCaseId, UUID provisioningCalculationId, FilterRequest<ProvisioningJournalDTO> filterRequest,
+                                               LocalDateTime postedFrom, LocalDateTime postedTo) {
+        filterRequest.getFilters().setProvisioningCalculationId(provisioningCalculationId);
+        return calculationUnderCase(provisioningCaseId, provisioningCalculationId)
+                .flatMapMany(calculation -> template.select(ProvisioningJournal.class)
+                        .matching(Query.query(criteria(filterRequest, postedFrom, postedTo)))
+                        .all())
+                .map(mapper::toDTO);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Mono<CursorPageDTO<ProvisioningJournalDTO>> findAllByCursor(UUID provisioningCaseId, UUID provisioningCalculationId, FilterRequest<ProvisioningJournalDTO> filterRequest, String cursor, int limit,
+                                                                       LocalDateTime postedFrom, LocalDateTime postedTo) {
+        filterRequest.getFilters().setProvisioningCalculationId(provisioningCalculationId);
+        return calculationUnderCase(provisioningCaseId, provisioningCalculationId)
+                .flatMap(calculation -> keysetPaginator.page(ProvisioningJournal.class,
+                        criteria(filterRequest, postedFrom, postedTo), cursor, limit, mapper::toDTO));
+    }
+
+    /**
+     * Loads the calculation only if it belongs to the provisioning case, so listing the journal of
+     * a calculation under another case finds nothing. Journal rows carry no case id, so the lists
+     * are scoped through the calculation like the point lookups are.
+     */
+    private Mono<ProvisioningCalculation> calculationUnderCase(UUID provisioningCaseId, UUID provisioningCalculationId) {
+        return calculationRepository.findByProvisioningCalculationIdAndProvisioningCaseId(provisioningCalculationId,
+                provisioningCaseId);
+    }
+
+    private static Criteria criteria(FilterRequest<ProvisioningJournalDTO> filterRequest, LocalDateTime postedFrom,
+                                     LocalDateTime postedTo) {
+        return FilterCriteria.within(FilterCriteria.from(filterRequest.getFilters(), ProvisioningJournal.class),
+                "postedAt", postedFrom, postedTo);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.provisioning.core.services.provisioning.v1;
+
+import com.firefly.core.lending.provisioning.interfaces.dtos.provisioning.v1.LossSimulationDTO;
+import com.firefly.core.lending.provisioning.interfaces.enums.assessment.v1.ScenarioCodeEnum;
+import reactor.core.publisher.Mono;
+
+public interface ProvisioningLossSimulationService {
+
+    /**
+     * Simulates the credit-loss distribution of the active portfolio under a single-factor Gaussian
+     * copula. Each case contributes the PD, LGD and EAD of its latest assessment for the scenario,
+     * falling back to its latest BASE assessment when it has none.
+     *
+     * @param scenarioCode scenario whose assessments supply the risk parameters
+     * @param trials number of trials, or null for the configured default
+     * @param assetCorrelation correlation with the systematic factor in [0, 1), or null for the configured default
+     * @param seed generator seed, or null for a random one; the same seed reproduces the same losses
+     * @return a Mono emitting the loss distribution and its tail quantiles
+     */
+    Mono<LossSimulationDTO> simulate(ScenarioCodeEnum scenarioCode, Integer trials, Double assetCorrelation,
+                                     Long seed);
+}
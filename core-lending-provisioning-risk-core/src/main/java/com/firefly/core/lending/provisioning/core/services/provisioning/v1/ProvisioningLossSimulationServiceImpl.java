@@ -0,0 +1,125 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.provisioning.core.services.provisioning.v1;
+
+import com.firefly.core.lending.provisioning.core.config.SimulationProperties;
+import com.firefly.core.lending.provisioning.core.engine.v1.EclKernel;
+import com.firefly.core.lending.provisioning.core.engine.v1.ExposureColumns;
+import com.firefly.core.lending.provisioning.core.engine.v1.LossDistribution;
+import com.firefly.core.lending.provisioning.core.engine.v1.LossSimulationTask;
+import com.firefly.core.lending.provisioning.interfaces.dtos.provisioning.v1.LossBucketDTO;
+import com.firefly.core.lending.provisioning.interfaces.dtos.provisioning.v1.LossQuantileDTO;
+import com.firefly.core.lending.provisioning.interfaces.dtos.provisioning.v1.LossSimulationDTO;
+import com.firefly.core.lending.provisioning.interfaces.enums.assessment.v1.ScenarioCodeEnum;
+import com.firefly.core.lending.provisioning.models.repositories.provisioning.v1.ProvisioningCaseRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Mono;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+
+@Slf4j
+@Service
+public class ProvisioningLossSimulationServiceImpl implements ProvisioningLossSimulationService {
+
+    private static final int INITIAL_EXPOSURES = 4096;
+
+    @Autowired
+    private ProvisioningCaseRepository caseRepository;
+
+    @Autowired
+    private SimulationProperties properties;
+
+    @Autowired
+    private ForkJoinPool eclComputePool;
+
+    @Override
+    public Mono<LossSimulationDTO> simulate(ScenarioCodeEnum scenarioCode, Integer trials, Double assetCorrelation,
+                                            Long seed) {
+        int trialCount = trials != null ? trials : properties.getDefaultTrials();
+        double rho = assetCorrelation != null ? assetCorrelation : properties.getAssetCorrelation();
+        if (trialCount < 1 || trialCount > properties.getMaxTrials()) {
+            return Mono.error(new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "trials must be between 1 and " + properties.getMaxTrials()));
+        }
+        if (!(rho >= 0 && rho < 1)) {
+            return Mono.error(new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "assetCorrelation must be in [0, 1)"));
+        }
+        long actualSeed = seed != null ? seed : new SplittableRandom().nextLong();
+
+        return caseRepository.streamExposures(scenarioCode.name())
+                .collect(() -> new ExposureColumns(INITIAL_EXPOSURES),
+                        (columns, row) -> columns.add(row.getPdValue(), row.getLgdValue(), row.getEadCents()))
+                .flatMap(columns -> Mono.fromFuture(() -> CompletableFuture.supplyAsync(
+                        () -> simulate(scenarioCode, columns, trialCount, rho, actualSeed), eclComputePool)))
+                .doOnNext(result -> log.info("Simulated {} trials over {} exposures for scenario {} in {} ms",
+                        result.getTrials(), result.getExposures(), scenarioCode, result.getElapsedMillis()));
+    }
+
+    /**
+     * Runs on the compute pool: seals the columns, simulates every trial and summarises the losses.
+     */
+    private LossSimulationDTO simulate(ScenarioCodeEnum scenarioCode, ExposureColumns columns, int trials,
+                                       double rho, long seed) {
+        long started = System.nanoTime();
+        columns.seal(rho);
+        long[] losses = new long[trials];
+        new LossSimulationTask(columns, losses, properties.getBlockSize(), new SplittableRandom(seed)).invoke();
+        LossDistribution distribution = LossDistribution.of(losses, confidenceLevels(),
+                Math.max(1, properties.getHistogramBuckets()));
+        long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+
+        return LossSimulationDTO.builder()
+                .scenarioCode(scenarioCode)
+                .trials(trials)
+                .exposures(columns.size())
+                .assetCorrelation(rho)
+                .seed(seed)
+                .expectedLoss(EclKernel.toDecimal(columns.expectedLossCents()))
+                .meanLoss(EclKernel.toDecimal(Math.round(distribution.meanLossCents())))
+                .stdDevLoss(EclKernel.toDecimal(Math.round(distribution.stdDevLossCents())))
+                .minLoss(EclKernel.toDecimal(distribution.minLossCents()))
+                .maxLoss(EclKernel.toDecimal(distribution.maxLossCents()))
+                .tail(distribution.tail().stream()
+                        .map(quantile -> LossQuantileDTO.builder()
+                                .confidenceLevel(quantile.level())
+                                .valueAtRisk(EclKernel.toDecimal(quantile.valueAtRiskCents()))
+                                .expectedShortfall(EclKernel.toDecimal(Math.round(quantile.expectedShortfallCents())))
+                                .build())
+                        .toList())
+                .histogram(distribution.histogram().stream()
+                        .map(bucket -> LossBucketDTO.builder()
+                                .lowerBound(EclKernel.toDecimal(bucket.lowerCents()))
+                                .upperBound(EclKernel.toDecimal(bucket.upperCents()))
+                                .trials(bucket.trials())
+                                .build())
+                        .toList())
+                .elapsedMillis(elapsedMillis)
+                .build();
+    }
+
+    private double[] confidenceLevels() {
+        return properties.getConfidenceLevels().stream().mapToDouble(Double::doubleValue).toArray();
+    }
+}
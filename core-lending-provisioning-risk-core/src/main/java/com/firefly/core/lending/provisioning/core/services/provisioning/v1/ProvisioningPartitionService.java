@@ -0,0 +1,32 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.provisioning.core.services.provisioning.v1;
+
+import reactor.core.publisher.Mono;
+
+public interface ProvisioningPartitionService {
+
+    /**
+     * Creates the monthly partitions of the provisioning journal and the stage history that are
+     * missing between the current month and the configured horizon. Safe to run concurrently from
+     * several instances; partitions that already exist are left untouched.
+     *
+     * @return a Mono emitting the number of partitions created across both tables
+     */
+    Mono<Integer> createUpcomingPartitions();
+}
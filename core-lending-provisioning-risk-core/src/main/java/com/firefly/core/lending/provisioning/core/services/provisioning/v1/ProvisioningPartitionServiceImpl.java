@@ -0,0 +1,58 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.provisioning.core.services.provisioning.v1;
+
+import com.firefly.core.lending.provisioning.core.config.PartitionProperties;
+import com.firefly.core.lending.provisioning.models.repositories.provisioning.v1.ProvisioningJournalRepository;
+import com.firefly.core.lending.provisioning.models.repositories.provisioning.v1.ProvisioningStageHistoryRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+@Slf4j
+@Service
+public class ProvisioningPartitionServiceImpl implements ProvisioningPartitionService {
+
+    @Autowired
+    private ProvisioningJournalRepository journalRepository;
+
+    @Autowired
+    private ProvisioningStageHistoryRepository stageHistoryRepository;
+
+    @Autowired
+    private PartitionProperties properties;
+
+    @Override
+    public Mono<Integer> createUpcomingPartitions() {
+        int monthsAhead = properties.getMonthsAhead();
+        return journalRepository.createMonthlyPartitions(monthsAhead)
+                .zipWith(stageHistoryRepository.createMonthlyPartitions(monthsAhead), Integer::sum);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${provisioning.partitions.maintenance-cron:0 0 2 * * *}")
+    public void maintainPartitions() {
+        createUpcomingPartitions().subscribe(
+                created -> log.info("Partition maintenance created {} monthly partitions", created),
+                e -> log.error("Partition maintenance failed", e));
+    }
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.provisioning.core.services.provisioning.v1;
+
+import com.firefly.core.lending.provisioning.interfaces.dtos.provisioning.v1.JournalPostingDTO;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+public interface ProvisioningPostingService {
+
+    /**
+     * Posts the provision movement of every case calculated by a provisioning run as journal
+     * entries: the run's ECL minus the amount already posted for the case. Releases are posted as
+     * entries with a negative amount. Posting is idempotent per run; calling it again for the same
+     * run writes nothing. Only COMPLETED runs can be posted; any other status is rejected with 409.
+     *
+     * @param provisioningRunId the ID of the provisioning run whose calculations are posted
+     * @return a Mono emitting the posting totals, or empty if the run is unknown
+     */
+    Mono<JournalPostingDTO> post(UUID provisioningRunId);
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.provisioning.core.services.provisioning.v1;
+
+import com.firefly.core.lending.provisioning.interfaces.dtos.provisioning.v1.JournalPostingDTO;
+import com.firefly.core.lending.provisioning.interfaces.enums.provisioning.v1.RunStatusEnum;
+import com.firefly.core.lending.provisioning.models.repositories.provisioning.v1.ProvisioningJournalRepository;
+import com.firefly.core.lending.provisioning.models.repositories.provisioning.v1.ProvisioningRunRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+@Slf4j
+@Service
+@Transactional
+public class ProvisioningPostingServiceImpl implements ProvisioningPostingService {
+
+    @Autowired
+    private ProvisioningJournalRepository journalRepository;
+
+    @Autowired
+    private ProvisioningRunRepository runRepository;
+
+    @Override
+    public Mono<JournalPostingDTO> post(UUID provisioningRunId) {
+        return journalRepository.lockPostings()
+                .then(runRepository.findById(provisioningRunId))
+                .flatMap(run -> run.getStatus() != RunStatusEnum.COMPLETED
+                        ? Mono.error(new ResponseStatusException(HttpStatus.CONFLICT,
+                                "Only completed provisioning runs can be posted"))
+                        : runRepository.pinPostedAt(provisioningRunId))
+                .flatMap(postedAt -> journalRepository.postRunDeltas(provisioningRunId, postedAt)
+                        .map(totals -> JournalPostingDTO.builder()
+                                .provisioningRunId(provisioningRunId)
+                                .journalsPosted(totals.getJournalsPosted())
+                                .releasesPosted(totals.getReleasesPosted())
+                                .netChange(totals.getNetChange())
+                                .postedAt(postedAt)
+                                .build()))
+                .doOnNext(posting -> log.info("Posted {} journal entries for run {}", posting.getJournalsPosted(),
+                        provisioningRunId));
+    }
+}
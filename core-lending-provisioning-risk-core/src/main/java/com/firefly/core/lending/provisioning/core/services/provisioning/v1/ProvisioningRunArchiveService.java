@@ -0,0 +1,59 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.provisioning.core.services.provisioning.v1;
+
+import com.firefly.core.lending.provisioning.interfaces.dtos.provisioning.v1.RunArchiveDTO;
+import com.firefly.core.lending.provisioning.interfaces.dtos.provisioning.v1.RunReplayDTO;
+import reactor.core.publisher.Mono;
+
+import java.nio.file.Path;
+import java.util.UUID;
+
+public interface ProvisioningRunArchiveService {
+
+    /**
+     * Writes the binary archive of a completed run: the calculation it wrote for every case, the
+     * scenario inputs recorded when each was computed and the journal entries the run posted. An
+     * existing archive of the run is replaced. Inputs whose assessment has changed since the run are
+     * flagged, but archived as the run read them.
+     *
+     * @param provisioningRunId the run to archive
+     * @return a Mono emitting the archive's size, checksum and record counts, empty if the run does
+     * not exist, or a 409 error if it has not completed
+     */
+    Mono<RunArchiveDTO> archive(UUID provisioningRunId);
+
+    /**
+     * Locates the archive file of a run in the archive directory of this instance.
+     *
+     * @param provisioningRunId the archived run
+     * @return a Mono emitting the archive path, or a 404 error if the run has not been archived or
+     * was archived by an instance that does not share the archive directory
+     */
+    Mono<Path> locate(UUID provisioningRunId);
+
+    /**
+     * Streams the archive of a run back through the ECL engine, from the file alone, and compares
+     * every recomputed case with the ECL the run wrote.
+     *
+     * @param provisioningRunId the archived run
+     * @return a Mono emitting matches, mismatches and totals, a 404 error if the archive cannot be
+     * found, or a 422 error if the archive fails its checksum
+     */
+    Mono<RunReplayDTO> replay(UUID provisioningRunId);
+}
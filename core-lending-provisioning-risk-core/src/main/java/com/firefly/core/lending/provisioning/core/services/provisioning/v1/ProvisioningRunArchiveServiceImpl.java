@@ -0,0 +1,239 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.provisioning.core.services.provisioning.v1;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.firefly.core.lending.provisioning.core.config.ArchiveProperties;
+import com.firefly.core.lending.provisioning.core.config.EclEngineProperties;
+import com.firefly.core.lending.provisioning.core.engine.v1.EclKernel;
+import com.firefly.core.lending.provisioning.core.engine.v1.LifetimeEclEngine;
+import com.firefly.core.lending.provisioning.core.engine.v1.RunArchive;
+import com.firefly.core.lending.provisioning.core.engine.v1.RunArchiveReader;
+import com.firefly.core.lending.provisioning.core.engine.v1.RunArchiveReplayer;
+import com.firefly.core.lending.provisioning.core.engine.v1.RunArchiveWriter;
+import com.firefly.core.lending.provisioning.core.engine.v1.RunParameters;
+import com.firefly.core.lending.provisioning.interfaces.dtos.provisioning.v1.ReplayMismatchDTO;
+import com.firefly.core.lending.provisioning.interfaces.dtos.provisioning.v1.RunArchiveDTO;
+import com.firefly.core.lending.provisioning.interfaces.dtos.provisioning.v1.RunReplayDTO;
+import com.firefly.core.lending.provisioning.interfaces.enums.provisioning.v1.RunStatusEnum;
+import com.firefly.core.lending.provisioning.models.entities.provisioning.v1.ProvisioningRun;
+import com.firefly.core.lending.provisioning.models.projections.provisioning.v1.ArchiveCaseRow;
+import com.firefly.core.lending.provisioning.models.projections.provisioning.v1.ArchiveJournalRow;
+import com.firefly.core.lending.provisioning.models.repositories.provisioning.v1.ProvisioningCalculationRepository;
+import com.firefly.core.lending.provisioning.models.repositories.provisioning.v1.ProvisioningCaseRepository;
+import com.firefly.core.lending.provisioning.models.repositories.provisioning.v1.ProvisioningJournalRepository;
+import com.firefly.core.lending.provisioning.models.repositories.provisioning.v1.ProvisioningRunRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Mono;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
+
+@Slf4j
+@Service
+public class ProvisioningRunArchiveServiceImpl implements ProvisioningRunArchiveService {
+
+    @Autowired
+    private ProvisioningRunRepository runRepository;
+
+    @Autowired
+    private ProvisioningCaseRepository caseRepository;
+
+    @Autowired
+    private ProvisioningCalculationRepository calculationRepository;
+
+    @Autowired
+    private ProvisioningJournalRepository journalRepository;
+
+    @Autowired
+    private ArchiveProperties properties;
+
+    @Autowired
+    private EclEngineProperties engineProperties;
+
+    @Autowired
+    private LifetimeEclEngine lifetimeEclEngine;
+
+    @Autowired
+    private ForkJoinPool eclComputePool;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Override
+    public Mono<RunArchiveDTO> archive(UUID provisioningRunId) {
+        return runRepository.findById(provisioningRunId)
+                .flatMap(run -> run.getStatus() != RunStatusEnum.COMPLETED
+                        ? Mono.error(new ResponseStatusException(HttpStatus.CONFLICT,
+                                "Only completed provisioning runs can be archived"))
+                        : caseRepository.currentTimestamp().flatMap(archivedAt -> write(run, archivedAt)));
+    }
+
+    @Override
+    public Mono<Path> locate(UUID provisioningRunId) {
+        return Mono.fromCallable(() -> archivePath(provisioningRunId))
+                .filter(Files::isRegularFile)
+                // Archives are local files: an instance that does not share the archive directory with
+                // the one that wrote the archive cannot find it
+                .switchIfEmpty(Mono.error(() -> new ResponseStatusException(HttpStatus.NOT_FOUND,
+                        "No archive of provisioning run " + provisioningRunId + " in " + properties.getDirectory()
+                                + "; archive the run first, and keep provisioning.archive.directory on storage"
+                                + " shared by every instance")));
+    }
+
+    @Override
+    public Mono<RunReplayDTO> replay(UUID provisioningRunId) {
+        return locate(provisioningRunId)
+                .flatMap(path -> onComputePool(() -> replay(provisioningRunId, path)))
+                .onErrorMap(IllegalStateException.class,
+                        e -> new ResponseStatusException(HttpStatus.UNPROCESSABLE_ENTITY, e.getMessage(), e))
+                .doOnNext(replay -> log.info("Replayed archive of provisioning run {}: {} of {} cases match",
+                        provisioningRunId, replay.getCasesMatched(), replay.getCasesReplayed()));
+    }
+
+    /**
+     * Streams the run's cases, with their inputs, and its journals into the archive writer. Writes
+     * happen on the compute pool, one chunk at a time and in order.
+     */
+    private Mono<RunArchiveDTO> write(ProvisioningRun run, LocalDateTime archivedAt) {
+        long started = System.nanoTime();
+        UUID runId = run.getProvisioningRunId();
+        RunParameters parameters = RunParameters.parse(run.getParameters(), objectMapper, engineProperties);
+        RunArchive.Header header = new RunArchive.Header(runId, run.getRunMode(), run.getStartedAt(),
+                run.getCompletedAt(), archivedAt, parameters.scenarioWeights());
+
+        return Mono.using(() -> RunArchiveWriter.create(archivePath(runId), properties.getBufferSize()),
+                        writer -> onComputePool(() -> {
+                                    writer.writeHeader(header);
+                                    return writer;
+                                })
+                                .thenMany(calculationRepository.streamRunArchiveRows(runId, run.getCompletedAt())
+                                        .bufferUntilChanged(ArchiveCaseRow::getProvisioningCaseId)
+                                        .buffer(properties.getChunkSize())
+                                        .concatMap(chunk -> onComputePool(() -> writeCases(writer, chunk))))
+                                .thenMany(journalRepository.streamRunJournals(runId)
+                                        .buffer(properties.getChunkSize())
+                                        .concatMap(chunk -> onComputePool(() -> writeJournals(writer, chunk))))
+                                .then(onComputePool(() -> {
+                                    RunArchive.Trailer trailer = writer.finish();
+                                    return toDTO(runId, trailer, writer.bytesWritten(), archivedAt, started);
+                                })),
+                        RunArchiveWriter::close)
+                .doOnNext(archive -> log.info("Archived provisioning run {}: {} cases, {} inputs, {} journals, {} bytes",
+                        runId, archive.getCasesArchived(), archive.getInputsArchived(),
+                        archive.getJournalsArchived(), archive.getSizeBytes()));
+    }
+
+    private static int writeCases(RunArchiveWriter writer, List<List<ArchiveCaseRow>> chunk) {
+        for (List<ArchiveCaseRow> caseRows : chunk) {
+            ArchiveCaseRow first = caseRows.get(0);
+            writer.writeCase(new RunArchive.CaseResult(first.getProvisioningCalculationId(),
+                    first.getProvisioningCaseId(), first.getRiskAssessmentId(), first.getCalcMethod(),
+                    first.getRiskGrade(), first.getFinalEclCents()));
+            for (ArchiveCaseRow row : caseRows) {
+                if (row.getInputAssessmentId() == null) {
+                    continue;
+                }
+                writer.writeInput(new RunArchive.Input(row.getInputAssessmentId(), row.getScenarioCode(),
+                        row.getPdValue(), row.getLgdValue(), row.getEadCents(), row.getRemainingTermMonths(),
+                        row.getEffectiveInterestRate(),
+                        Boolean.TRUE.equals(row.getModifiedSinceRun())));
+            }
+        }
+        return chunk.size();
+    }
+
+    private static int writeJournals(RunArchiveWriter writer, List<ArchiveJournalRow> chunk) {
+        for (ArchiveJournalRow journal : chunk) {
+            writer.writeJournal(new RunArchive.Journal(journal.getProvisioningJournalId(),
+                    journal.getProvisioningCalculationId(), journal.getAccountingJournalEntryId(),
+                    journal.getAmountCents() == null ? 0 : journal.getAmountCents(),
+                    Boolean.TRUE.equals(journal.getIsReversal()), journal.getPostedAt()));
+        }
+        return chunk.size();
+    }
+
+    private RunReplayDTO replay(UUID provisioningRunId, Path path) {
+        long started = System.nanoTime();
+        try (RunArchiveReader reader = RunArchiveReader.open(path, properties.getBufferSize())) {
+            if (!provisioningRunId.equals(reader.header().provisioningRunId())) {
+                throw new IllegalStateException("Archive " + path + " belongs to run "
+                        + reader.header().provisioningRunId());
+            }
+            RunArchiveReplayer replayer = new RunArchiveReplayer(lifetimeEclEngine,
+                    reader.header().scenarioWeights(), properties.getChunkSize(),
+                    engineProperties.getSplitThreshold(), properties.getMaxReportedMismatches());
+            RunArchive.Trailer trailer = reader.read(replayer);
+            RunArchiveReplayer.Result result = replayer.finish();
+
+            return RunReplayDTO.builder()
+                    .provisioningRunId(provisioningRunId)
+                    .casesReplayed(result.cases())
+                    .casesMatched(result.matched())
+                    .casesMismatched(result.mismatched())
+                    .inputsModifiedSinceRun(trailer.modifiedInputs())
+                    .journalsRead(result.journals())
+                    .archivedTotalEcl(EclKernel.toDecimal(result.archivedTotalCents()))
+                    .replayedTotalEcl(EclKernel.toDecimal(result.replayedTotalCents()))
+                    .mismatches(result.mismatches().stream()
+                            .map(mismatch -> ReplayMismatchDTO.builder()
+                                    .provisioningCaseId(mismatch.provisioningCaseId())
+                                    .archivedEcl(EclKernel.toDecimal(mismatch.archivedEclCents()))
+                                    .replayedEcl(EclKernel.toDecimal(mismatch.replayedEclCents()))
+                                    .build())
+                            .toList())
+                    .elapsedMillis((System.nanoTime() - started) / 1_000_000)
+                    .build();
+        }
+    }
+
+    private RunArchiveDTO toDTO(UUID runId, RunArchive.Trailer trailer, long sizeBytes, LocalDateTime archivedAt,
+                                long started) {
+        return RunArchiveDTO.builder()
+                .provisioningRunId(runId)
+                .fileName(archivePath(runId).getFileName().toString())
+                .formatVersion((int) RunArchive.FORMAT_VERSION)
+                .sizeBytes(sizeBytes)
+                .checksum(String.format("%08x", trailer.checksum()))
+                .casesArchived(trailer.cases())
+                .inputsArchived(trailer.inputs())
+                .journalsArchived(trailer.journals())
+                .inputsModifiedSinceRun(trailer.modifiedInputs())
+                .archivedAt(archivedAt)
+                .elapsedMillis((System.nanoTime() - started) / 1_000_000)
+                .build();
+    }
+
+    private Path archivePath(UUID provisioningRunId) {
+        return Path.of(properties.getDirectory(), "run-" + provisioningRunId + ".prva");
+    }
+
+    private <T> Mono<T> onComputePool(Supplier<T> work) {
+        return Mono.fromFuture(() -> CompletableFuture.supplyAsync(work, eclComputePool));
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.provisioning.core.services.provisioning.v1;
+
+import com.firefly.core.lending.provisioning.interfaces.dtos.provisioning.v1.ProvisioningRunDTO;
+import com.firefly.core.lending.provisioning.interfaces.dtos.provisioning.v1.RunPurgeDTO;
+import com.firefly.core.lending.provisioning.interfaces.enums.provisioning.v1.RunModeEnum;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+public interface ProvisioningRunService {
+
+    /**
+     * Computes ECL for ACTIVE provisioning cases as the probability-weighted ECL of their latest
+     * risk assessment per configured scenario, writing one provisioning calculation per case and
+     * updating the case's ECL amount and calculation timestamp.
+     *
+     * <p>The book is split into hash partitions of the case ID, registered as shards of the run.
+     * Every worker instance leases and processes open shards in the background, so the run is
+     * spread over all replicas and outlives the request that started it. The run is registered with
+     * the parameters it computes with, and each shard checkpoints every committed chunk, so an
+     * interrupted run can be resumed.
+     *
+     * @param runMode    FULL to recalculate every active case, INCREMENTAL to recalculate only cases
+     *                   whose assessments or stage changed since their last calculation
+     * @param shardCount number of hash partitions, or null for the configured default
+     * @return a Mono emitting the RUNNING run once it and its shards are registered; its progress is
+     * available from {@link #getById(UUID)}
+     */
+    Mono<ProvisioningRunDTO> run(RunModeEnum runMode, Integer shardCount);
+
+    /**
+     * Resumes a run that failed or whose instances all stopped. FAILED shards get a fresh attempt
+     * budget and every open shard continues after its last checkpoint, so work already committed is
+     * not repeated. The shards are processed in the background; a run that is still RUNNING or
+     * COMPLETED is returned as is.
+     *
+     * @param provisioningRunId the run ID
+     * @return a Mono emitting the run with its current progress, or empty if the run is unknown
+     */
+    Mono<ProvisioningRunDTO> resume(UUID provisioningRunId);
+
+    /**
+     * Retrieves a registered run with its progress, summed over its shards while it runs.
+     *
+     * @param provisioningRunId the run ID
+     * @return a Mono emitting the run summary, or empty if the run is unknown
+     */
+    Mono<ProvisioningRunDTO> getById(UUID provisioningRunId);
+
+    /**
+     * Deletes the calculations of a failed run that were never posted, in a single statement. Cases
+     * the run had recalculated are set back to their latest calculation from another run, and the
+     * run's shards are reset, so resuming it recomputes every case. Calculations already posted to
+     * the journal are kept.
+     *
+     * @param provisioningRunId the run ID
+     * @return a Mono emitting the purge totals, or empty if the run is unknown
+     */
+    Mono<RunPurgeDTO> purgeDrafts(UUID provisioningRunId);
+}
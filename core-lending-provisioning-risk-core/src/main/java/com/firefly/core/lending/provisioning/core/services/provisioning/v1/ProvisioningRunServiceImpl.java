@@ -0,0 +1,387 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.provisioning.core.services.provisioning.v1;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.firefly.core.lending.provisioning.core.config.EclEngineProperties;
+import com.firefly.core.lending.provisioning.core.config.ShardingProperties;
+import com.firefly.core.lending.provisioning.core.engine.v1.AssessmentDetails;
+import com.firefly.core.lending.provisioning.core.engine.v1.EclBatchTask;
+import com.firefly.core.lending.provisioning.core.engine.v1.EclCalculator;
+import com.firefly.core.lending.provisioning.core.engine.v1.EclColumnBatch;
+import com.firefly.core.lending.provisioning.core.engine.v1.LifetimeEclEngine;
+import com.firefly.core.lending.provisioning.core.engine.v1.RunParameters;
+import com.firefly.core.lending.provisioning.core.utils.ReadThroughCache;
+import com.firefly.core.lending.provisioning.interfaces.dtos.provisioning.v1.ProvisioningRunDTO;
+import com.firefly.core.lending.provisioning.interfaces.dtos.provisioning.v1.RunPurgeDTO;
+import com.firefly.core.lending.provisioning.interfaces.enums.assessment.v1.ScenarioCodeEnum;
+import com.firefly.core.lending.provisioning.interfaces.enums.provisioning.v1.RunModeEnum;
+import com.firefly.core.lending.provisioning.interfaces.enums.provisioning.v1.RunStatusEnum;
+import com.firefly.core.lending.provisioning.models.entities.provisioning.v1.ProvisioningCase;
+import com.firefly.core.lending.provisioning.models.entities.provisioning.v1.ProvisioningRunShard;
+import com.firefly.core.lending.provisioning.models.projections.provisioning.v1.EclInputRow;
+import com.firefly.core.lending.provisioning.models.projections.provisioning.v1.RunProgressRow;
+import com.firefly.core.lending.provisioning.models.repositories.provisioning.v1.ProvisioningCalculationRepository;
+import com.firefly.core.lending.provisioning.models.repositories.provisioning.v1.ProvisioningCaseRepository;
+import com.firefly.core.lending.provisioning.models.repositories.provisioning.v1.ProvisioningRunRepository;
+import com.firefly.core.lending.provisioning.models.repositories.provisioning.v1.ProvisioningRunShardRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Slf4j
+@Service
+public class ProvisioningRunServiceImpl implements ProvisioningRunService {
+
+    @Autowired
+    private ProvisioningCaseRepository caseRepository;
+
+    @Autowired
+    private ProvisioningCalculationRepository calculationRepository;
+
+    @Autowired
+    private ProvisioningRunRepository runRepository;
+
+    @Autowired
+    private ProvisioningRunShardRepository shardRepository;
+
+    @Autowired
+    private EclEngineProperties properties;
+
+    @Autowired
+    private ShardingProperties sharding;
+
+    @Autowired
+    private LifetimeEclEngine lifetimeEclEngine;
+
+    @Autowired
+    private ForkJoinPool eclComputePool;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ReadThroughCache<UUID, ProvisioningCase> provisioningCaseCache;
+
+    private final AtomicBoolean draining = new AtomicBoolean();
+
+    @Override
+    public Mono<ProvisioningRunDTO> run(RunModeEnum runMode, Integer shardCount) {
+        int shards = shardCount == null ? sharding.getShardCount() : shardCount;
+        if (shards < 1) {
+            return Mono.error(new ResponseStatusException(HttpStatus.BAD_REQUEST, "shards must be at least 1"));
+        }
+        UUID runId = UUID.randomUUID();
+        String parameters = RunParameters.from(properties).toJson(objectMapper);
+        // The database clock at start is both the calculation timestamp and the new watermark:
+        // anything updated while the run is in flight is newer and will be picked up next time
+        return caseRepository.currentTimestamp()
+                .flatMap(startedAt -> runRepository.createRun(runId, runMode.name(), shards, parameters, startedAt))
+                .doOnNext(created -> {
+                    log.info("{} provisioning run {} registered with {} shards", runMode, runId, created);
+                    claimOpenShards();
+                })
+                .then(Mono.defer(() -> getById(runId)));
+    }
+
+    @Override
+    public Mono<ProvisioningRunDTO> resume(UUID provisioningRunId) {
+        return runRepository.reopen(provisioningRunId)
+                .doOnNext(reopened -> {
+                    if (reopened > 0) {
+                        log.info("Resuming provisioning run {} from its shard checkpoints", provisioningRunId);
+                        claimOpenShards();
+                    }
+                })
+                .then(Mono.defer(() -> getById(provisioningRunId)));
+    }
+
+    @Override
+    public Mono<ProvisioningRunDTO> getById(UUID provisioningRunId) {
+        return runRepository.findProgress(provisioningRunId)
+                .map(progress -> toDto(provisioningRunId, progress));
+    }
+
+    @Override
+    public Mono<RunPurgeDTO> purgeDrafts(UUID provisioningRunId) {
+        return runRepository.findById(provisioningRunId)
+                .flatMap(run -> run.getStatus() != RunStatusEnum.FAILED
+                        ? Mono.error(new ResponseStatusException(HttpStatus.CONFLICT,
+                                "Only failed provisioning runs can be purged"))
+                        : calculationRepository.purgeDraftCalculations(provisioningRunId))
+                // Reverted cases have a new ECL and calculation date, so cached copies are stale
+                .flatMap(totals -> provisioningCaseCache.evictAll(Arrays.asList(totals.getRevertedCaseIds()))
+                        .thenReturn(totals))
+                .map(totals -> RunPurgeDTO.builder()
+                        .provisioningRunId(provisioningRunId)
+                        .calculationsDeleted(totals.getCalculationsDeleted())
+                        .casesReverted(totals.getCasesReverted())
+                        .calculationsKept(totals.getCalculationsKept())
+                        .build())
+                .doOnNext(purge -> log.info(
+                        "Purged {} draft calculations of provisioning run {}: {} cases reverted, {} posted kept",
+                        purge.getCalculationsDeleted(), provisioningRunId, purge.getCasesReverted(),
+                        purge.getCalculationsKept()));
+    }
+
+    /**
+     * Claims open shards of any run while there are some, in the background. Runs on every worker
+     * instance, which is what processes runs and spreads them over the instances, and what resumes
+     * the shards of an instance that died once their leases lapse. Starting or resuming a run
+     * triggers it at once instead of waiting for the next poll; a drain already in progress picks
+     * the new shards up.
+     */
+    @Scheduled(fixedDelayString = "${provisioning.sharding.poll-interval:10s}")
+    public void claimOpenShards() {
+        if (!sharding.isWorkerEnabled() || !draining.compareAndSet(false, true)) {
+            return;
+        }
+        closeAbandonedShards()
+                .then(claimAndProcess()
+                        .repeat()
+                        .takeWhile(Boolean::booleanValue)
+                        .count())
+                .doFinally(signal -> draining.set(false))
+                .subscribe(
+                        processed -> {
+                            if (processed > 0) {
+                                log.info("Processed {} provisioning run shards", processed);
+                            }
+                        },
+                        e -> log.error("Claiming provisioning run shards failed", e));
+    }
+
+    /**
+     * Fails the shards whose last permitted lease lapsed and closes their runs.
+     */
+    private Mono<Void> closeAbandonedShards() {
+        return shardRepository.failAbandonedShards(sharding.getMaxAttempts())
+                .distinct()
+                .concatMap(this::closeIfDone)
+                .then();
+    }
+
+    /**
+     * Leases one open shard of any run, processes it and closes the run if that was its last open
+     * shard.
+     *
+     * @return whether a shard was claimed
+     */
+    private Mono<Boolean> claimAndProcess() {
+        return shardRepository.claimShard(null, sharding.getInstanceId(), sharding.leaseSeconds(),
+                        sharding.getMaxAttempts())
+                .flatMap(shard -> process(shard)
+                        .then(closeIfDone(shard.getProvisioningRunId()))
+                        .thenReturn(true))
+                .defaultIfEmpty(false);
+    }
+
+    /**
+     * Closes the run once none of its shards is open, and logs its outcome.
+     */
+    private Mono<Void> closeIfDone(UUID runId) {
+        return runRepository.closeIfDone(runId)
+                .filter(closed -> closed > 0)
+                .flatMap(closed -> runRepository.findProgress(runId))
+                .doOnNext(progress -> {
+                    if (progress.getStatus() == RunStatusEnum.FAILED) {
+                        log.warn("Provisioning run {} failed on {} of {} shards; resume it once the cause is fixed",
+                                runId, progress.getShardsFailed(), progress.getShardCount());
+                    } else {
+                        log.info("{} provisioning run {} wrote {} calculations over {} shards, total ECL {}",
+                                progress.getRunMode(), runId, progress.getCasesProcessed(),
+                                progress.getShardCount(), progress.getTotalEcl());
+                    }
+                })
+                .then();
+    }
+
+    /**
+     * Computes a leased shard from its checkpoint while renewing its lease, then marks it completed.
+     * Processing stops as soon as a renewal or checkpoint finds the lease taken over. On failure the
+     * shard is handed back for another attempt, which resumes after the last checkpoint; chunks
+     * committed past it are written again over the run's calculations of the same cases, which are
+     * keyed on (run, case).
+     */
+    private Mono<Void> process(ProvisioningRunShard shard) {
+        UUID shardId = shard.getProvisioningRunShardId();
+        String owner = sharding.getInstanceId();
+        Mono<Void> work = runRepository.findById(shard.getProvisioningRunId())
+                .map(run -> RunParameters.parse(run.getParameters(), objectMapper, properties))
+                .flatMap(parameters -> compute(shard, parameters));
+        Mono<Void> leaseLost = Flux.interval(sharding.getHeartbeatInterval())
+                .concatMap(tick -> shardRepository.renewLease(shardId, owner, sharding.leaseSeconds()))
+                .filter(renewed -> renewed == 0)
+                .next()
+                .flatMap(lost -> Mono.error(leaseTakenOver(shard)));
+
+        return Mono.firstWithSignal(work, leaseLost)
+                .then(shardRepository.completeShard(shardId, owner))
+                .doOnNext(completed -> log.debug("Shard {}/{} of provisioning run {} completed",
+                        shard.getShardNo(), shard.getShardCount(), shard.getProvisioningRunId()))
+                .then()
+                .onErrorResume(e -> {
+                    log.warn("Shard {}/{} of provisioning run {} failed on attempt {}", shard.getShardNo(),
+                            shard.getShardCount(), shard.getProvisioningRunId(), shard.getAttempts(), e);
+                    return shardRepository.releaseShard(shardId, owner, sharding.getMaxAttempts()).then();
+                });
+    }
+
+    /**
+     * Computes and writes the cases of one hash partition after its checkpoint. Chunks are written
+     * concurrently but checkpointed in case order, so the high-water mark never passes a chunk that
+     * has not been committed.
+     */
+    private Mono<Void> compute(ProvisioningRunShard shard, RunParameters parameters) {
+        UUID runId = shard.getProvisioningRunId();
+        String notes = (shard.getRunMode() == RunModeEnum.INCREMENTAL ? "Incremental run " : "Portfolio run ") + runId;
+        String[] scenarios = parameters.weightedScenarios();
+        Flux<EclInputRow> inputs = shard.getRunMode() == RunModeEnum.INCREMENTAL
+                ? caseRepository.streamChangedEclInputs(scenarios, shard.getShardNo(), shard.getShardCount(),
+                        shard.getCheckpointCaseId(), shard.getRunStartedAt())
+                : caseRepository.streamActiveEclInputs(scenarios, shard.getShardNo(), shard.getShardCount(),
+                        shard.getCheckpointCaseId());
+
+        return inputs
+                .bufferUntilChanged(EclInputRow::getProvisioningCaseId)
+                .buffer(properties.getChunkSize())
+                .flatMapSequential(chunk -> writeChunk(chunk, parameters, runId, shard.getRunStartedAt(), notes),
+                        properties.getWriteConcurrency())
+                .concatMap(written -> shardRepository.checkpoint(shard.getProvisioningRunShardId(),
+                                sharding.getInstanceId(), written.lastCaseId(), written.casesWritten(),
+                                written.eclCents(), sharding.leaseSeconds())
+                        .filter(recorded -> recorded > 0)
+                        .switchIfEmpty(Mono.error(() -> leaseTakenOver(shard))))
+                .then();
+    }
+
+    private static IllegalStateException leaseTakenOver(ProvisioningRunShard shard) {
+        return new IllegalStateException("Lease on shard " + shard.getShardNo() + " of provisioning run "
+                + shard.getProvisioningRunId() + " was taken over");
+    }
+
+    private ProvisioningRunDTO toDto(UUID runId, RunProgressRow progress) {
+        return ProvisioningRunDTO.builder()
+                .provisioningRunId(runId)
+                .runMode(progress.getRunMode())
+                .status(progress.getStatus())
+                .shardCount(progress.getShardCount())
+                .shardsCompleted(progress.getShardsCompleted())
+                .casesProcessed(progress.getCasesProcessed())
+                .totalEcl(progress.getTotalEcl())
+                .startedAt(progress.getStartedAt())
+                .completedAt(progress.getCompletedAt())
+                .build();
+    }
+
+    /**
+     * Computes and persists one chunk. Computation runs on the fork-join pool so that lifetime
+     * cases never occupy the event loop.
+     */
+    private Mono<ChunkWritten> writeChunk(List<List<EclInputRow>> chunk, RunParameters parameters, UUID runId,
+                                          LocalDateTime calculatedAt, String notes) {
+        EclColumnBatch batch = toBatch(chunk, parameters);
+        EclBatchTask task = new EclBatchTask(batch, lifetimeEclEngine, properties.getSplitThreshold());
+        return Mono.fromFuture(() -> CompletableFuture.supplyAsync(task::invoke, eclComputePool))
+                .flatMap(chunkTotal -> save(batch, chunkTotal, runId, calculatedAt, notes));
+    }
+
+    private EclColumnBatch toBatch(List<List<EclInputRow>> chunk, RunParameters parameters) {
+        EclEngineProperties.Lifetime lifetime = properties.getLifetime();
+        EclColumnBatch batch = new EclColumnBatch(chunk.size(), chunk.size() * ScenarioCodeEnum.values().length);
+        for (List<EclInputRow> caseRows : chunk) {
+            EclInputRow first = caseRows.get(0);
+            batch.startCase(first.getProvisioningCaseId(), EclCalculator.methodFor(first.getStageCode()),
+                    first.getRiskGrade());
+            for (EclInputRow row : caseRows) {
+                AssessmentDetails details = AssessmentDetails.parse(row.getDetails(), objectMapper);
+                batch.addScenario(row.getRiskAssessmentId(), row.getScenarioCode(),
+                        parameters.weightOf(row.getScenarioCode()),
+                        row.getPdValue(), row.getLgdValue(), row.getEadCents(),
+                        details.remainingTermMonthsOr(lifetime.getDefaultRemainingTermMonths()),
+                        details.effectiveInterestRateOr(lifetime.getDefaultEffectiveInterestRate()));
+            }
+        }
+        return batch;
+    }
+
+    private Mono<ChunkWritten> save(EclColumnBatch batch, long chunkTotal, UUID runId, LocalDateTime calculatedAt,
+                                    String notes) {
+        int size = batch.size();
+        UUID[] caseIds = new UUID[size];
+        UUID[] riskAssessmentIds = new UUID[size];
+        Long[] finalEclCents = new Long[size];
+        String[] calcMethods = new String[size];
+        String[] riskGrades = new String[size];
+        for (int i = 0; i < size; i++) {
+            caseIds[i] = batch.caseId(i);
+            riskAssessmentIds[i] = batch.riskAssessmentId(i);
+            finalEclCents[i] = batch.eclCents(i);
+            calcMethods[i] = batch.calcMethod(i).name();
+            riskGrades[i] = batch.riskGrade(i).name();
+        }
+
+        // The scenario inputs the engine read, recorded with each calculation for the run archive
+        int rows = batch.rowCount();
+        UUID[] inputCaseIds = new UUID[rows];
+        UUID[] inputAssessmentIds = new UUID[rows];
+        String[] inputScenarioCodes = new String[rows];
+        Double[] inputPdValues = new Double[rows];
+        Double[] inputLgdValues = new Double[rows];
+        Long[] inputEadCents = new Long[rows];
+        Integer[] inputTermMonths = new Integer[rows];
+        Double[] inputEffectiveInterestRates = new Double[rows];
+        for (int i = 0; i < size; i++) {
+            for (int row = batch.firstRow(i); row < batch.firstRow(i + 1); row++) {
+                inputCaseIds[row] = batch.caseId(i);
+                inputAssessmentIds[row] = batch.rowRiskAssessmentId(row);
+                inputScenarioCodes[row] = batch.scenario(row).name();
+                inputPdValues[row] = batch.pd(row);
+                inputLgdValues[row] = batch.lgd(row);
+                inputEadCents[row] = batch.eadCents(row);
+                inputTermMonths[row] = batch.remainingTermMonths(row);
+                inputEffectiveInterestRates[row] = batch.effectiveInterestRate(row);
+            }
+        }
+
+        return calculationRepository.saveEclBatch(caseIds, riskAssessmentIds, finalEclCents, calcMethods, riskGrades,
+                        inputCaseIds, inputAssessmentIds, inputScenarioCodes, inputPdValues, inputLgdValues,
+                        inputEadCents, inputTermMonths, inputEffectiveInterestRates, calculatedAt, notes, runId)
+                .flatMap(updated -> provisioningCaseCache.evictAll(Arrays.asList(caseIds)).thenReturn(updated))
+                .map(updated -> new ChunkWritten(caseIds[size - 1], updated, chunkTotal));
+    }
+
+    /**
+     * A committed chunk: its last case in input order and what it wrote.
+     */
+    private record ChunkWritten(UUID lastCaseId, long casesWritten, long eclCents) {
+    }
+}
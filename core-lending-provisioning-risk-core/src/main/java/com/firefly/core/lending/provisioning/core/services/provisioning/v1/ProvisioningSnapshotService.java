@@ -0,0 +1,62 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.provisioning.core.services.provisioning.v1;
+
+import com.firefly.core.lending.provisioning.core.engine.v1.PortfolioSnapshot;
+import com.firefly.core.lending.provisioning.interfaces.dtos.provisioning.v1.PortfolioSnapshotDTO;
+import com.firefly.core.lending.provisioning.interfaces.enums.assessment.v1.ScenarioCodeEnum;
+import com.firefly.core.lending.provisioning.interfaces.enums.assessment.v1.StageCodeEnum;
+import com.firefly.core.lending.provisioning.interfaces.enums.provisioning.v1.ProvisioningStatusEnum;
+import com.firefly.core.lending.provisioning.interfaces.enums.provisioning.v1.RiskGradeEnum;
+import reactor.core.publisher.Mono;
+
+import java.util.function.Function;
+
+public interface ProvisioningSnapshotService {
+
+    /**
+     * Runs an in-process scan over the columnar portfolio snapshot. The scan runs on the compute pool
+     * while refreshes are held off, so it sees every row consistently; it must not keep the snapshot
+     * or block.
+     *
+     * @param scan reads the snapshot and returns its result
+     * @return a Mono emitting the scan result, or a 503 error until the snapshot has been built
+     */
+    <T> Mono<T> query(Function<PortfolioSnapshot, T> scan);
+
+    /**
+     * Retrieves case counts, ECL and the 12-month expected loss under a scenario by stage and risk
+     * grade, scanned from the snapshot rather than the database.
+     *
+     * @param stageCode restricts the breakdown to one stage, or null for all
+     * @param riskGrade restricts the breakdown to one risk grade, or null for all
+     * @param provisioningStatus restricts the breakdown to one status, or null for all
+     * @param scenarioCode scenario whose latest assessments give the expected loss
+     * @return a Mono emitting the non-empty cells, their totals and the snapshot's freshness
+     */
+    Mono<PortfolioSnapshotDTO> getPortfolio(StageCodeEnum stageCode, RiskGradeEnum riskGrade,
+                                            ProvisioningStatusEnum provisioningStatus, ScenarioCodeEnum scenarioCode);
+
+    /**
+     * Rebuilds the snapshot from the database and swaps it in once complete; queries keep reading
+     * the previous one meanwhile.
+     *
+     * @return a Mono emitting the whole portfolio as seen by the new snapshot
+     */
+    Mono<PortfolioSnapshotDTO> rebuild();
+}
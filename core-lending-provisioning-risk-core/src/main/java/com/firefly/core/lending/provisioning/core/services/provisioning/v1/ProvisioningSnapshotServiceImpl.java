@@ -0,0 +1,301 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.provisioning.core.services.provisioning.v1;
+
+import com.firefly.core.lending.provisioning.core.config.SnapshotProperties;
+import com.firefly.core.lending.provisioning.core.engine.v1.EclKernel;
+import com.firefly.core.lending.provisioning.core.engine.v1.PortfolioSnapshot;
+import com.firefly.core.lending.provisioning.core.engine.v1.SnapshotAggregate;
+import com.firefly.core.lending.provisioning.core.engine.v1.SnapshotFilter;
+import com.firefly.core.lending.provisioning.interfaces.dtos.provisioning.v1.PortfolioSnapshotDTO;
+import com.firefly.core.lending.provisioning.interfaces.dtos.provisioning.v1.SnapshotCellDTO;
+import com.firefly.core.lending.provisioning.interfaces.enums.assessment.v1.ScenarioCodeEnum;
+import com.firefly.core.lending.provisioning.interfaces.enums.assessment.v1.StageCodeEnum;
+import com.firefly.core.lending.provisioning.interfaces.enums.provisioning.v1.ProvisioningStatusEnum;
+import com.firefly.core.lending.provisioning.interfaces.enums.provisioning.v1.RiskGradeEnum;
+import com.firefly.core.lending.provisioning.models.projections.provisioning.v1.SnapshotRow;
+import com.firefly.core.lending.provisioning.models.repositories.provisioning.v1.ProvisioningCaseRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Mono;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+@Slf4j
+@Service
+public class ProvisioningSnapshotServiceImpl implements ProvisioningSnapshotService {
+
+    @Autowired
+    private ProvisioningCaseRepository caseRepository;
+
+    @Autowired
+    private SnapshotProperties properties;
+
+    @Autowired
+    private ForkJoinPool eclComputePool;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final AtomicBoolean maintaining = new AtomicBoolean();
+
+    // Guarded by lock
+    private PortfolioSnapshot snapshot;
+    private LocalDateTime builtAt;
+    private LocalDateTime refreshedAt;
+
+    @Override
+    public <T> Mono<T> query(Function<PortfolioSnapshot, T> scan) {
+        return Mono.fromFuture(() -> CompletableFuture.supplyAsync(() -> {
+            lock.readLock().lock();
+            try {
+                if (snapshot == null) {
+                    throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE,
+                            "Portfolio snapshot has not been built");
+                }
+                return scan.apply(snapshot);
+            } finally {
+                lock.readLock().unlock();
+            }
+        }, eclComputePool));
+    }
+
+    @Override
+    public Mono<PortfolioSnapshotDTO> getPortfolio(StageCodeEnum stageCode, RiskGradeEnum riskGrade,
+                                                   ProvisioningStatusEnum provisioningStatus,
+                                                   ScenarioCodeEnum scenarioCode) {
+        SnapshotFilter filter = SnapshotFilter.of(stageCode, riskGrade, provisioningStatus);
+        return query(current -> {
+            long started = System.nanoTime();
+            SnapshotAggregate aggregate = current.aggregate(filter, scenarioCode);
+            long scanMicros = (System.nanoTime() - started) / 1_000;
+            return toDTO(aggregate, scenarioCode, current.liveRows(), scanMicros);
+        });
+    }
+
+    @Override
+    public Mono<PortfolioSnapshotDTO> rebuild() {
+        if (!maintaining.compareAndSet(false, true)) {
+            return Mono.error(new ResponseStatusException(HttpStatus.CONFLICT,
+                    "Portfolio snapshot is already being refreshed"));
+        }
+        return caseRepository.currentTimestamp()
+                .flatMap(this::build)
+                .doFinally(signal -> maintaining.set(false))
+                .then(getPortfolio(null, null, null, ScenarioCodeEnum.BASE));
+    }
+
+    /**
+     * Builds the snapshot on start and applies the changes made since on every tick, rebuilding it
+     * instead once too many rows are out of order or deleted, or when the tombstones it would need
+     * may have been pruned.
+     */
+    @Scheduled(fixedDelayString = "${provisioning.snapshot.refresh-interval:30s}")
+    public void refreshSnapshot() {
+        if (!properties.isEnabled() || !maintaining.compareAndSet(false, true)) {
+            return;
+        }
+        caseRepository.currentTimestamp()
+                .flatMap(now -> needsRebuild(now) ? build(now) : refresh(now))
+                .doFinally(signal -> maintaining.set(false))
+                .subscribe(null, e -> log.error("Refreshing the portfolio snapshot failed", e));
+    }
+
+    @PreDestroy
+    public void close() {
+        lock.writeLock().lock();
+        try {
+            if (snapshot != null) {
+                snapshot.close();
+                snapshot = null;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private boolean needsRebuild(LocalDateTime now) {
+        lock.readLock().lock();
+        try {
+            if (snapshot == null || refreshedAt.isBefore(now.minus(properties.getTombstoneRetention()))) {
+                return true;
+            }
+            double limit = properties.getCompactionThreshold() * Math.max(1, snapshot.size());
+            return snapshot.unsortedRows() > limit || snapshot.deletedRows() > limit;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Loads the whole book, in UUID order, into a new snapshot and swaps it in. The new snapshot is
+     * private until then, so it is written without the lock.
+     */
+    private Mono<Void> build(LocalDateTime startedAt) {
+        long started = System.nanoTime();
+        return onComputePool(() -> PortfolioSnapshot.create(Path.of(properties.getDirectory()),
+                        properties.getInitialCapacity()))
+                .flatMap(fresh -> caseRepository.streamSnapshotRows(null)
+                        .bufferUntilChanged(SnapshotRow::getProvisioningCaseId)
+                        .buffer(properties.getChunkSize())
+                        .concatMap(chunk -> onComputePool(() -> apply(fresh, chunk)))
+                        .then(Mono.fromRunnable(() -> swap(fresh, startedAt)))
+                        .doOnError(e -> fresh.close())
+                        .doOnSuccess(done -> log.info("Built portfolio snapshot of {} cases in {} ms",
+                                fresh.liveRows(), (System.nanoTime() - started) / 1_000_000)))
+                .then(caseRepository.pruneTombstones(startedAt.minus(properties.getTombstoneRetention())))
+                .then();
+    }
+
+    /**
+     * Applies the cases changed or deleted since the last refresh, less the change lag, in place.
+     * Each chunk is applied under the write lock, so queries never see a half-written case.
+     */
+    private Mono<Void> refresh(LocalDateTime now) {
+        LocalDateTime since = refreshedAt.minus(properties.getChangeLag());
+        PortfolioSnapshot current = snapshot;
+        return caseRepository.streamSnapshotRows(since)
+                .bufferUntilChanged(SnapshotRow::getProvisioningCaseId)
+                .buffer(properties.getChunkSize())
+                .concatMap(chunk -> onComputePool(() -> locked(() -> apply(current, chunk))))
+                .reduce(0, Integer::sum)
+                .zipWith(caseRepository.findDeletedCaseIds(since).collectList())
+                .flatMap(changes -> onComputePool(() -> locked(() -> {
+                    int deleted = delete(current, changes.getT2());
+                    refreshedAt = now;
+                    return changes.getT1() + deleted;
+                })))
+                .doOnNext(changed -> {
+                    if (changed > 0) {
+                        log.debug("Applied {} case changes to the portfolio snapshot", changed);
+                    }
+                })
+                .then();
+    }
+
+    /**
+     * Writes a chunk of cases, appending those not yet in the snapshot, and returns its size.
+     */
+    private static int apply(PortfolioSnapshot target, List<List<SnapshotRow>> chunk) {
+        for (List<SnapshotRow> caseRows : chunk) {
+            SnapshotRow first = caseRows.get(0);
+            int row = target.find(first.getProvisioningCaseId());
+            if (row < 0) {
+                row = target.append(first.getProvisioningCaseId());
+            }
+            target.setCase(row, first.getStageCode(), first.getRiskGrade(), first.getProvisioningStatus(),
+                    first.getEclCents());
+            for (SnapshotRow assessment : caseRows) {
+                if (assessment.getScenarioCode() != null) {
+                    target.setAssessment(row, assessment.getScenarioCode(), assessment.getPdValue(),
+                            assessment.getLgdValue(), assessment.getEadCents());
+                }
+            }
+        }
+        return chunk.size();
+    }
+
+    private static int delete(PortfolioSnapshot target, List<UUID> caseIds) {
+        int deleted = 0;
+        for (UUID caseId : caseIds) {
+            int row = target.find(caseId);
+            if (row >= 0 && target.status(row) != null) {
+                target.delete(row);
+                deleted++;
+            }
+        }
+        return deleted;
+    }
+
+    private void swap(PortfolioSnapshot fresh, LocalDateTime startedAt) {
+        PortfolioSnapshot previous = locked(() -> {
+            PortfolioSnapshot replaced = snapshot;
+            snapshot = fresh;
+            builtAt = startedAt;
+            refreshedAt = startedAt;
+            return replaced;
+        });
+        // No query can still hold the previous snapshot once the write lock has been released
+        if (previous != null) {
+            previous.close();
+        }
+    }
+
+    private <T> T locked(Supplier<T> write) {
+        lock.writeLock().lock();
+        try {
+            return write.get();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private <T> Mono<T> onComputePool(Supplier<T> work) {
+        return Mono.fromFuture(() -> CompletableFuture.supplyAsync(work, eclComputePool));
+    }
+
+    private PortfolioSnapshotDTO toDTO(SnapshotAggregate aggregate, ScenarioCodeEnum scenarioCode, int snapshotRows,
+                                       long scanMicros) {
+        List<SnapshotCellDTO> cells = new ArrayList<>();
+        long caseCount = 0;
+        long eclCents = 0;
+        long expectedLossCents = 0;
+        for (StageCodeEnum stage : StageCodeEnum.values()) {
+            for (RiskGradeEnum grade : RiskGradeEnum.values()) {
+                long cases = aggregate.caseCount(stage, grade);
+                if (cases == 0) {
+                    continue;
+                }
+                cells.add(SnapshotCellDTO.builder()
+                        .stageCode(stage)
+                        .riskGrade(grade)
+                        .caseCount(cases)
+                        .totalEcl(EclKernel.toDecimal(aggregate.eclCents(stage, grade)))
+                        .expectedLoss(EclKernel.toDecimal(aggregate.expectedLossCents(stage, grade)))
+                        .build());
+                caseCount += cases;
+                eclCents += aggregate.eclCents(stage, grade);
+                expectedLossCents += aggregate.expectedLossCents(stage, grade);
+            }
+        }
+        return PortfolioSnapshotDTO.builder()
+                .scenarioCode(scenarioCode)
+                .cells(cells)
+                .caseCount(caseCount)
+                .totalEcl(EclKernel.toDecimal(eclCents))
+                .expectedLoss(EclKernel.toDecimal(expectedLossCents))
+                .snapshotRows(snapshotRows)
+                .builtAt(builtAt)
+                .refreshedAt(refreshedAt)
+                .scanMicros(scanMicros)
+                .build();
+    }
+}
@@ -20,8 +20,10 @@ package com.firefly.core.lending.provisioning.core.services.provisioning.v1;
 import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
 import com.firefly.core.lending.provisioning.interfaces.dtos.provisioning.v1.ProvisioningStageHistoryDTO;
+import com.firefly.core.lending.provisioning.interfaces.dtos.common.v1.CursorPageDTO;
 import reactor.core.publisher.Mono;
 
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 public interface ProvisioningStageHistoryService {
@@ -70,7 +72,25 @@ public interface ProvisioningStageHistoryService {
      *
      * @param provisioningCaseId the unique identifier of the provisioning case to which the stage history belongs
      * @param provisioningStageHistoryId the unique identifier of the provisioning stage history to delete
-     * @return a Mono that completes when the deletion process is successful
+     * @return a Mono emitting the number of rows deleted, 0 if no such record exists under the case
      */
-    Mono<Void> delete(UUID provisioningCaseId, UUID provisioningStageHistoryId);
+    Mono<Integer> delete(UUID provisioningCaseId, UUID provisioningStageHistoryId);
+
+    /**
+     * Retrieves one page of stage changes of a provisioning case using keyset pagination. Rows are ordered by
+     * creation time and primary key and each page resumes after the position encoded in the cursor,
+     * so the cost of a page does not depend on how deep into the result set it is.
+     *
+     * @param provisioningCaseId the unique identifier of the provisioning case the stage changes belong to
+     * @param filterRequest the filter criteria; offset pagination settings are ignored
+     * @param cursor the {@code nextCursor} returned with the previous page, or null for the first page
+     * @param limit the maximum number of items to return
+     * @param changedFrom the inclusive lower bound on the change time, or null; bounding the change
+     *                    time limits the scan to the monthly partitions in range
+     * @param changedTo the exclusive upper bound on the change time, or null
+     * @return a Mono emitting the page and the cursor of the following one
+     */
+    Mono<CursorPageDTO<ProvisioningStageHistoryDTO>> findAllByCursor(UUID provisioningCaseId, FilterRequest<ProvisioningStageHistoryDTO> filterRequest,
+                                                                     String cursor, int limit, LocalDateTime changedFrom,
+                                                                     LocalDateTime changedTo);
 }
@@ -21,7 +21,11 @@ import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.filters.FilterUtils;
 import org.fireflyframework.core.queries.PaginationResponse;
 import com.firefly.core.lending.provisioning.core.mappers.provisioning.v1.ProvisioningStageHistoryMapper;
+import com.firefly.core.lending.provisioning.core.utils.FilterCriteria;
+import com.firefly.core.lending.provisioning.core.utils.KeysetPaginator;
+import com.firefly.core.lending.provisioning.core.utils.VersionConflicts;
 import com.firefly.core.lending.provisioning.interfaces.dtos.provisioning.v1.ProvisioningStageHistoryDTO;
+import com.firefly.core.lending.provisioning.interfaces.dtos.common.v1.CursorPageDTO;
 import com.firefly.core.lending.provisioning.models.entities.provisioning.v1.ProvisioningStageHistory;
 import com.firefly.core.lending.provisioning.models.repositories.provisioning.v1.ProvisioningStageHistoryRepository;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -29,6 +33,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Mono;
 
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Service
@@ -41,6 +46,9 @@ public class ProvisioningStageHistoryServiceImpl implements ProvisioningStageHis
     @Autowired
     private ProvisioningStageHistoryMapper mapper;
 
+    @Autowired
+    private KeysetPaginator keysetPaginator;
+
     @Override
     public Mono<PaginationResponse<ProvisioningStageHistoryDTO>> findAll(UUID provisioningCaseId, FilterRequest<ProvisioningStageHistoryDTO> filterRequest) {
         filterRequest.getFilters().setProvisioningCaseId(provisioningCaseId);
@@ -60,28 +68,34 @@ public class ProvisioningStageHistoryServiceImpl implements ProvisioningStageHis
 
     @Override
     public Mono<ProvisioningStageHistoryDTO> getById(UUID provisioningCaseId, UUID provisioningStageHistoryId) {
-        return repository.findById(provisioningStageHistoryId)
-                .filter(entity -> entity.getProvisioningCaseId().equals(provisioningCaseId))
+        return repository.findByProvisioningStageHistoryIdAndProvisioningCaseId(provisioningStageHistoryId, provisioningCaseId)
                 .map(mapper::toDTO);
     }
 
     @Override
     public Mono<ProvisioningStageHistoryDTO> update(UUID provisioningCaseId, UUID provisioningStageHistoryId, ProvisioningStageHistoryDTO dto) {
-        return repository.findById(provisioningStageHistoryId)
-                .filter(entity -> entity.getProvisioningCaseId().equals(provisioningCaseId))
-                .flatMap(entity -> {
-                    dto.setProvisioningStageHistoryId(provisioningStageHistoryId);
-                    dto.setProvisioningCaseId(provisioningCaseId);
-                    ProvisioningStageHistory updatedEntity = mapper.toEntity(dto);
-                    return repository.save(updatedEntity);
-                })
+        return repository.updateIfCurrent(provisioningStageHistoryId, provisioningCaseId,
+                        dto.getOldStageCode().name(), dto.getNewStageCode().name(), dto.getEclAmountAtChange(),
+                        dto.getChangedAt(), dto.getChangedBy(), dto.getReason(), dto.getVersion())
+                .switchIfEmpty(VersionConflicts.conflictIfExists(repository
+                        .findByProvisioningStageHistoryIdAndProvisioningCaseId(provisioningStageHistoryId, provisioningCaseId)
+                        .hasElement(), "Stage history entry"))
                 .map(mapper::toDTO);
     }
 
     @Override
-    public Mono<Void> delete(UUID provisioningCaseId, UUID provisioningStageHistoryId) {
-        return repository.findById(provisioningStageHistoryId)
-                .filter(entity -> entity.getProvisioningCaseId().equals(provisioningCaseId))
-                .flatMap(repository::delete);
+    public Mono<Integer> delete(UUID provisioningCaseId, UUID provisioningStageHistoryId) {
+        return repository.deleteByProvisioningStageHistoryIdAndProvisioningCaseId(provisioningStageHistoryId, provisioningCaseId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Mono<CursorPageDTO<ProvisioningStageHistoryDTO>> findAllByCursor(UUID provisioningCaseId, FilterRequest<ProvisioningStageHistoryDTO> filterRequest, String cursor, int limit,
+                                                                            LocalDateTime changedFrom, LocalDateTime changedTo) {
+        filterRequest.getFilters().setProvisioningCaseId(provisioningCaseId);
+        return keysetPaginator.page(ProvisioningStageHistory.class,
+                FilterCriteria.within(FilterCriteria.from(filterRequest.getFilters(), ProvisioningStageHistory.class),
+                        "changedAt", changedFrom, changedTo),
+                cursor, limit, mapper::toDTO);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,33 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.provisioning.core.services.provisioning.v1;
+
+import com.firefly.core.lending.provisioning.interfaces.dtos.provisioning.v1.StagingRunDTO;
+import reactor.core.publisher.Mono;
+
+public interface ProvisioningStagingService {
+
+    /**
+     * Re-evaluates the stage of every ACTIVE, non-POCI provisioning case against the SICR criteria
+     * (days past due, PD deterioration since origination, grade notches) and applies all resulting
+     * transitions atomically, each with its provisioning stage history entry.
+     *
+     * @return a Mono emitting a summary of the restaging
+     */
+    Mono<StagingRunDTO> restage();
+}
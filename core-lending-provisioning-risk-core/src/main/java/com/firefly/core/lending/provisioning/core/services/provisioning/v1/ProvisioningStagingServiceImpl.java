@@ -0,0 +1,137 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.provisioning.core.services.provisioning.v1;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.firefly.core.lending.provisioning.core.config.StagingProperties;
+import com.firefly.core.lending.provisioning.core.engine.v1.AssessmentDetails;
+import com.firefly.core.lending.provisioning.core.engine.v1.StagingRules;
+import com.firefly.core.lending.provisioning.core.engine.v1.StagingRules.StagingDecision;
+import com.firefly.core.lending.provisioning.core.utils.ReadThroughCache;
+import com.firefly.core.lending.provisioning.interfaces.dtos.provisioning.v1.StagingRunDTO;
+import com.firefly.core.lending.provisioning.interfaces.enums.assessment.v1.StageCodeEnum;
+import com.firefly.core.lending.provisioning.models.entities.provisioning.v1.ProvisioningCase;
+import com.firefly.core.lending.provisioning.models.projections.provisioning.v1.StagingInputRow;
+import com.firefly.core.lending.provisioning.models.repositories.provisioning.v1.ProvisioningCaseRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+@Service
+@Transactional
+public class ProvisioningStagingServiceImpl implements ProvisioningStagingService {
+
+    @Autowired
+    private ProvisioningCaseRepository caseRepository;
+
+    @Autowired
+    private StagingRules stagingRules;
+
+    @Autowired
+    private StagingProperties properties;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ReadThroughCache<UUID, ProvisioningCase> provisioningCaseCache;
+
+    @Override
+    public Mono<StagingRunDTO> restage() {
+        return caseRepository.currentTimestamp()
+                .flatMap(this::restage);
+    }
+
+    private Mono<StagingRunDTO> restage(LocalDateTime startedAt) {
+        AtomicLong evaluated = new AtomicLong();
+        AtomicLong skipped = new AtomicLong();
+        // The whole book is evaluated before anything is written: reads and writes share the
+        // transaction's connection, and only the (few) transitions are held in memory
+        return caseRepository.streamStagingInputs()
+                .doOnNext(row -> evaluated.incrementAndGet())
+                .mapNotNull(row -> evaluate(row, skipped))
+                .collectList()
+                .flatMap(transitions -> Flux.fromIterable(transitions)
+                        .buffer(properties.getBatchSize())
+                        .concatMap(batch -> apply(batch, startedAt))
+                        .reduce(0L, Long::sum)
+                        .map(restaged -> summary(evaluated.get(), skipped.get(), restaged, transitions,
+                                startedAt)))
+                .doOnNext(summary -> log.info("Restaged {} of {} cases, {} skipped for missing inputs",
+                        summary.getCasesRestaged(), summary.getCasesEvaluated(), summary.getCasesSkipped()));
+    }
+
+    private Transition evaluate(StagingInputRow row, AtomicLong skipped) {
+        Integer daysPastDue = AssessmentDetails.parse(row.getDetails(), objectMapper).daysPastDue();
+        if (!StagingRules.hasInputs(row.getCurrentPd(), daysPastDue)) {
+            skipped.incrementAndGet();
+            return null;
+        }
+        StagingDecision decision = stagingRules.evaluate(row.getStageCode(), row.getRiskGrade(),
+                row.getCurrentPd(), row.getOriginationPd(), daysPastDue);
+        return decision == null ? null : new Transition(row.getProvisioningCaseId(), row.getStageCode(), decision);
+    }
+
+    private Mono<Long> apply(List<Transition> batch, LocalDateTime changedAt) {
+        int size = batch.size();
+        UUID[] caseIds = new UUID[size];
+        String[] fromStages = new String[size];
+        String[] toStages = new String[size];
+        String[] reasons = new String[size];
+        for (int i = 0; i < size; i++) {
+            Transition transition = batch.get(i);
+            caseIds[i] = transition.caseId();
+            fromStages[i] = transition.from().name();
+            toStages[i] = transition.decision().stage().name();
+            reasons[i] = transition.decision().reason();
+        }
+        return caseRepository.applyStageTransitions(caseIds, fromStages, toStages, reasons, changedAt,
+                        properties.getChangedBy())
+                .flatMap(restaged -> provisioningCaseCache.evictAll(Arrays.asList(caseIds)).thenReturn(restaged))
+                .map(Integer::longValue);
+    }
+
+    private static StagingRunDTO summary(long evaluated, long skipped, long restaged,
+                                         List<Transition> transitions, LocalDateTime startedAt) {
+        long[] into = new long[StageCodeEnum.values().length];
+        transitions.forEach(transition -> into[transition.decision().stage().ordinal()]++);
+        return StagingRunDTO.builder()
+                .casesEvaluated(evaluated)
+                .casesSkipped(skipped)
+                .casesRestaged(restaged)
+                .movedToStage1(into[StageCodeEnum.STAGE_1.ordinal()])
+                .movedToStage2(into[StageCodeEnum.STAGE_2.ordinal()])
+                .movedToStage3(into[StageCodeEnum.STAGE_3.ordinal()])
+                .startedAt(startedAt)
+                .completedAt(LocalDateTime.now())
+                .build();
+    }
+
+    private record Transition(UUID caseId, StageCodeEnum from, StagingDecision decision) {
+    }
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.provisioning.core.services.provisioning.v1;
+
+import com.firefly.core.lending.provisioning.interfaces.dtos.provisioning.v1.WhatIfRequestDTO;
+import com.firefly.core.lending.provisioning.interfaces.dtos.provisioning.v1.WhatIfResultDTO;
+import reactor.core.publisher.Mono;
+
+public interface ProvisioningWhatIfService {
+
+    /**
+     * Recomputes the ECL of every active case in memory from its current risk assessments, once
+     * as they are and once with the PD/LGD shocks applied, and returns the difference by stage and
+     * risk grade. Nothing is persisted.
+     *
+     * @param request shocks keyed by risk grade, stage and scenario
+     * @return a Mono emitting the baseline and shocked ECL of every non-empty cell and their totals
+     */
+    Mono<WhatIfResultDTO> evaluate(WhatIfRequestDTO request);
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.provisioning.core.services.provisioning.v1;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.firefly.core.lending.provisioning.core.config.EclEngineProperties;
+import com.firefly.core.lending.provisioning.core.engine.v1.AssessmentDetails;
+import com.firefly.core.lending.provisioning.core.engine.v1.EclBatchTask;
+import com.firefly.core.lending.provisioning.core.engine.v1.EclCalculator;
+import com.firefly.core.lending.provisioning.core.engine.v1.EclColumnBatch;
+import com.firefly.core.lending.provisioning.core.engine.v1.EclDeltaTally;
+import com.firefly.core.lending.provisioning.core.engine.v1.EclKernel;
+import com.firefly.core.lending.provisioning.core.engine.v1.LifetimeEclEngine;
+import com.firefly.core.lending.provisioning.core.engine.v1.RunParameters;
+import com.firefly.core.lending.provisioning.core.engine.v1.ShockTable;
+import com.firefly.core.lending.provisioning.interfaces.dtos.provisioning.v1.EclShockDTO;
+import com.firefly.core.lending.provisioning.interfaces.dtos.provisioning.v1.WhatIfCellDTO;
+import com.firefly.core.lending.provisioning.interfaces.dtos.provisioning.v1.WhatIfRequestDTO;
+import com.firefly.core.lending.provisioning.interfaces.dtos.provisioning.v1.WhatIfResultDTO;
+import com.firefly.core.lending.provisioning.interfaces.enums.assessment.v1.ScenarioCodeEnum;
+import com.firefly.core.lending.provisioning.interfaces.enums.assessment.v1.StageCodeEnum;
+import com.firefly.core.lending.provisioning.interfaces.enums.provisioning.v1.RiskGradeEnum;
+import com.firefly.core.lending.provisioning.models.projections.provisioning.v1.EclInputRow;
+import com.firefly.core.lending.provisioning.models.repositories.provisioning.v1.ProvisioningCaseRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+
+@Slf4j
+@Service
+public class ProvisioningWhatIfServiceImpl implements ProvisioningWhatIfService {
+
+    @Autowired
+    private ProvisioningCaseRepository caseRepository;
+
+    @Autowired
+    private EclEngineProperties properties;
+
+    @Autowired
+    private LifetimeEclEngine lifetimeEclEngine;
+
+    @Autowired
+    private ForkJoinPool eclComputePool;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Override
+    public Mono<WhatIfResultDTO> evaluate(WhatIfRequestDTO request) {
+        long started = System.nanoTime();
+        ShockTable shocks = toShockTable(request.getShocks());
+        RunParameters parameters = RunParameters.from(properties);
+
+        // The whole book as a single partition; chunks are evaluated concurrently on the compute pool
+        return caseRepository.streamActiveEclInputs(parameters.weightedScenarios(), 0, 1, null)
+                .bufferUntilChanged(EclInputRow::getProvisioningCaseId)
+                .buffer(properties.getChunkSize())
+                .flatMap(chunk -> Mono.fromFuture(() -> CompletableFuture.supplyAsync(
+                        () -> evaluateChunk(chunk, parameters, shocks), eclComputePool)),
+                        eclComputePool.getParallelism())
+                .reduce(new EclDeltaTally(), EclDeltaTally::merge)
+                .map(tally -> toResult(tally, (System.nanoTime() - started) / 1_000_000))
+                .doOnNext(result -> log.info("What-if over {} cases: ECL {} -> {} ({} ms)", result.getCaseCount(),
+                        result.getBaselineEcl(), result.getShockedEcl(), result.getElapsedMillis()));
+    }
+
+    /**
+     * Computes one chunk twice, unshocked and shocked, and tallies both per stage and grade.
+     */
+    private EclDeltaTally evaluateChunk(List<List<EclInputRow>> chunk, RunParameters parameters, ShockTable shocks) {
+        int rowCapacity = chunk.size() * ScenarioCodeEnum.values().length;
+        EclColumnBatch baseline = new EclColumnBatch(chunk.size(), rowCapacity);
+        EclColumnBatch shocked = new EclColumnBatch(chunk.size(), rowCapacity);
+        EclEngineProperties.Lifetime lifetime = properties.getLifetime();
+        for (List<EclInputRow> caseRows : chunk) {
+            EclInputRow first = caseRows.get(0);
+            StageCodeEnum stage = first.getStageCode();
+            RiskGradeEnum grade = first.getRiskGrade();
+            baseline.startCase(first.getProvisioningCaseId(), EclCalculator.methodFor(stage), grade);
+            shocked.startCase(first.getProvisioningCaseId(), EclCalculator.methodFor(stage), grade);
+            for (EclInputRow row : caseRows) {
+                AssessmentDetails details = AssessmentDetails.parse(row.getDetails(), objectMapper);
+                ScenarioCodeEnum scenario = row.getScenarioCode();
+                double weight = parameters.weightOf(scenario);
+                int termMonths = details.remainingTermMonthsOr(lifetime.getDefaultRemainingTermMonths());
+                double interestRate = details.effectiveInterestRateOr(lifetime.getDefaultEffectiveInterestRate());
+                baseline.addScenario(row.getRiskAssessmentId(), scenario, weight,
+                        row.getPdValue(), row.getLgdValue(), row.getEadCents(), termMonths, interestRate);
+                shocked.addScenario(row.getRiskAssessmentId(), scenario, weight,
+                        shocks.pd(scenario, stage, grade, row.getPdValue()),
+                        shocks.lgd(scenario, stage, grade, row.getLgdValue()),
+                        row.getEadCents(), termMonths, interestRate);
+            }
+        }
+
+        new EclBatchTask(baseline, lifetimeEclEngine, properties.getSplitThreshold()).invoke();
+        new EclBatchTask(shocked, lifetimeEclEngine, properties.getSplitThreshold()).invoke();
+
+        EclDeltaTally tally = new EclDeltaTally();
+        for (int i = 0; i < chunk.size(); i++) {
+            EclInputRow first = chunk.get(i).get(0);
+            tally.record(first.getStageCode(), first.getRiskGrade(), baseline.eclCents(i), shocked.eclCents(i));
+        }
+        return tally;
+    }
+
+    private static ShockTable toShockTable(List<EclShockDTO> shocks) {
+        ShockTable table = new ShockTable();
+        for (EclShockDTO shock : shocks) {
+            table.add(shock.getScenarioCodes(), shock.getStageCodes(), shock.getRiskGrades(),
+                    shock.getPdMultiplier() != null ? shock.getPdMultiplier() : 1,
+                    shock.getPdShift() != null ? shock.getPdShift() : 0,
+                    shock.getLgdShift() != null ? shock.getLgdShift() : 0);
+        }
+        return table;
+    }
+
+    private static WhatIfResultDTO toResult(EclDeltaTally tally, long elapsedMillis) {
+        List<WhatIfCellDTO> cells = new ArrayList<>();
+        long caseCount = 0;
+        long baselineCents = 0;
+        long shockedCents = 0;
+        for (StageCodeEnum stage : StageCodeEnum.values()) {
+            for (RiskGradeEnum grade : RiskGradeEnum.values()) {
+                long cases = tally.caseCount(stage, grade);
+                if (cases == 0) {
+                    continue;
+                }
+                long baseline = tally.baselineCents(stage, grade);
+                long shocked = tally.shockedCents(stage, grade);
+                cells.add(WhatIfCellDTO.builder()
+                        .stageCode(stage)
+                        .riskGrade(grade)
+                        .caseCount(cases)
+                        .baselineEcl(EclKernel.toDecimal(baseline))
+                        .shockedEcl(EclKernel.toDecimal(shocked))
+                        .eclDelta(EclKernel.toDecimal(shocked - baseline))
+                        .build());
+                caseCount += cases;
+                baselineCents += baseline;
+                shockedCents += shocked;
+            }
+        }
+        return WhatIfResultDTO.builder()
+                .cells(cells)
+                .caseCount(caseCount)
+                .baselineEcl(EclKernel.toDecimal(baselineCents))
+                .shockedEcl(EclKernel.toDecimal(shockedCents))
+                .eclDelta(EclKernel.toDecimal(shockedCents - baselineCents))
+                .elapsedMillis(elapsedMillis)
+                .build();
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.provisioning.core.utils;
+
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.data.relational.core.query.Criteria;
+
+import java.beans.PropertyDescriptor;
+import java.time.LocalDateTime;
+
+/**
+ * Translates the filter DTO of a {@code FilterRequest} into a relational {@link Criteria} so that
+ * queries issued outside {@code FilterUtils} (streaming, keyset pages) select the same rows: every
+ * populated DTO property that also exists on the entity becomes an equality predicate.
+ */
+public final class FilterCriteria {
+
+    private FilterCriteria() {
+    }
+
+    public static Criteria from(Object filters, Class<?> entityClass) {
+        Criteria criteria = Criteria.empty();
+        if (filters == null) {
+            return criteria;
+        }
+        BeanWrapper wrapper = PropertyAccessorFactory.forBeanPropertyAccess(filters);
+        for (PropertyDescriptor descriptor : wrapper.getPropertyDescriptors()) {
+            String property = descriptor.getName();
+            if ("class".equals(property) || descriptor.getReadMethod() == null
+                    || BeanUtils.getPropertyDescriptor(entityClass, property) == null) {
+                continue;
+            }
+            Object value = wrapper.getPropertyValue(property);
+            if (value != null) {
+                criteria = criteria.and(property).is(value);
+            }
+        }
+        return criteria;
+    }
+
+    /**
+     * Restricts the criteria to {@code from <= property < to}; either bound may be null. On a table
+     * range-partitioned by that column the bounds let Postgres skip every partition outside them.
+     */
+    public static Criteria within(Criteria criteria, String property, LocalDateTime from, LocalDateTime to) {
+        if (from != null) {
+            criteria = criteria.and(property).greaterThanOrEquals(from);
+        }
+        if (to != null) {
+            criteria = criteria.and(property).lessThan(to);
+        }
+        return criteria;
+    }
+}
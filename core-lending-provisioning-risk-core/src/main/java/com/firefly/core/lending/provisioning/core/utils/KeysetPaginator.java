@@ -0,0 +1,140 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.provisioning.core.utils;
+
+import com.firefly.core.lending.provisioning.interfaces.dtos.common.v1.CursorPageDTO;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.query.Criteria;
+import org.springframework.data.relational.core.query.Query;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Keyset (seek) pagination over any entity carrying a {@code createdAt} column and a UUID id.
+ *
+ * <p>Rows are ordered by {@code (created_at, id)} and each page resumes strictly after the last
+ * row of the previous one, which the client passes back as an opaque cursor. The predicate is
+ * written as {@code created_at >= :ts AND (created_at > :ts OR id > :id)} so the leading range
+ * condition seeds an index scan on {@code (parent, created_at, id)}; page N costs the same as
+ * page 1. Filters are applied with the same equality semantics as the offset listings.
+ */
+@Component
+public class KeysetPaginator {
+
+    public static final int MAX_PAGE_SIZE = 1000;
+
+    private static final String CREATED_AT = "createdAt";
+
+    @Autowired
+    private R2dbcEntityTemplate template;
+
+    public <E, D> Mono<CursorPageDTO<D>> page(Class<E> entityClass, Object filters, String cursor, int limit,
+                                               Function<E, D> mapper) {
+        return page(entityClass, FilterCriteria.from(filters, entityClass), cursor, limit, mapper);
+    }
+
+    /**
+     * Pages the rows matching an already built criteria, for callers adding predicates that the
+     * filter DTO cannot express.
+     */
+    public <E, D> Mono<CursorPageDTO<D>> page(Class<E> entityClass, Criteria criteria, String cursor, int limit,
+                                               Function<E, D> mapper) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            return Mono.error(new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "limit must be between 1 and " + MAX_PAGE_SIZE));
+        }
+        RelationalPersistentEntity<?> entity = template.getConverter().getMappingContext()
+                .getRequiredPersistentEntity(entityClass);
+        String idProperty = entity.getRequiredIdProperty().getName();
+
+        if (cursor != null && !cursor.isBlank()) {
+            Position position;
+            try {
+                position = Position.decode(cursor);
+            } catch (IllegalArgumentException e) {
+                return Mono.error(new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor"));
+            }
+            criteria = after(criteria, position, idProperty);
+        }
+
+        Query query = Query.query(criteria)
+                .sort(Sort.by(CREATED_AT, idProperty))
+                .limit(limit + 1);
+
+        return template.select(query, entityClass)
+                .collectList()
+                .map(rows -> {
+                    boolean hasNext = rows.size() > limit;
+                    List<E> page = hasNext ? rows.subList(0, limit) : rows;
+                    return CursorPageDTO.<D>builder()
+                            .content(page.stream().map(mapper).toList())
+                            .size(page.size())
+                            .nextCursor(hasNext ? Position.of(entity, page.get(limit - 1)).encode() : null)
+                            .build();
+                });
+    }
+
+    /**
+     * Narrows {@code criteria} to the rows strictly after {@code position} in {@code (created_at, id)}
+     * order.
+     */
+    static Criteria after(Criteria criteria, Position position, String idProperty) {
+        return criteria.and(Criteria.where(CREATED_AT).greaterThanOrEquals(position.createdAt())
+                .and(Criteria.where(CREATED_AT).greaterThan(position.createdAt())
+                        .or(idProperty).greaterThan(position.id())));
+    }
+
+    record Position(LocalDateTime createdAt, UUID id) {
+
+        static Position of(RelationalPersistentEntity<?> entity, Object row) {
+            PersistentPropertyAccessor<?> accessor = entity.getPropertyAccessor(row);
+            return new Position(
+                    (LocalDateTime) accessor.getProperty(entity.getRequiredPersistentProperty(CREATED_AT)),
+                    (UUID) accessor.getProperty(entity.getRequiredIdProperty()));
+        }
+
+        static Position decode(String token) {
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+                int separator = raw.indexOf('|');
+                return new Position(LocalDateTime.parse(raw.substring(0, separator)),
+                        UUID.fromString(raw.substring(separator + 1)));
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("Invalid cursor", e);
+            }
+        }
+
+        String encode() {
+            String raw = createdAt + "|" + id;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.provisioning.core.utils;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.firefly.core.lending.provisioning.interfaces.dtos.common.v1.BulkItemResultDTO;
+import com.firefly.core.lending.provisioning.interfaces.enums.common.v1.BulkItemStatusEnum;
+import jakarta.validation.Validator;
+import org.springframework.core.NestedExceptionUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.function.Tuple2;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Writes a stream of bulk items in batches and reports one result per item, in request order.
+ *
+ * <p>Items are validated first; invalid ones are reported as FAILED with their errors and never
+ * reach the database. The valid items of a batch are written with one statement per round. A
+ * round that fails is retried one item at a time, so only the offending items fail. Each statement
+ * commits on its own, so callers run outside a transaction: a bad round never rolls back earlier
+ * ones, and the per-item retries do not run inside an aborted transaction.
+ *
+ * @param <D> the request item type
+ */
+public class NdjsonBulkWriter<D> {
+
+    private final Class<D> type;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final int batchSize;
+    private final Function<List<Row<D>>, List<List<Row<D>>>> rounds;
+    private final Function<List<Row<D>>, Flux<BulkItemResultDTO>> batchWriter;
+    private final Function<Row<D>, Mono<BulkItemResultDTO>> rowWriter;
+
+    /**
+     * @param rounds      splits the valid items of a batch into the groups written by one statement
+     *                    each, for writers that cannot take some items together; {@code List::of}
+     *                    writes the batch at once
+     * @param batchWriter writes a group of valid items in one statement and emits their results
+     * @param rowWriter   writes one valid item, used to isolate the failing items of a group
+     */
+    public NdjsonBulkWriter(Class<D> type, ObjectMapper objectMapper, Validator validator, int batchSize,
+                            Function<List<Row<D>>, List<List<Row<D>>>> rounds,
+                            Function<List<Row<D>>, Flux<BulkItemResultDTO>> batchWriter,
+                            Function<Row<D>, Mono<BulkItemResultDTO>> rowWriter) {
+        this.type = type;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.batchSize = batchSize;
+        this.rounds = rounds;
+        this.batchWriter = batchWriter;
+        this.rowWriter = rowWriter;
+    }
+
+    /**
+     * Writes one item per NDJSON line. Blank lines are skipped; indexes still count them, so every
+     * result points at its request line.
+     */
+    public Flux<BulkItemResultDTO> writeLines(Flux<String> lines) {
+        return write(lines
+                .index()
+                .filter(line -> !line.getT2().isBlank())
+                .map(this::parse));
+    }
+
+    /**
+     * Writes items that are already deserialized, indexed by their position in the stream.
+     */
+    public Flux<BulkItemResultDTO> writeItems(Flux<D> items) {
+        return write(items
+                .index()
+                .map(item -> validate(item.getT1(), item.getT2())));
+    }
+
+    private Flux<BulkItemResultDTO> write(Flux<Row<D>> rows) {
+        return rows
+                .buffer(batchSize)
+                .concatMap(this::writeBatch);
+    }
+
+    private Row<D> parse(Tuple2<Long, String> line) {
+        try {
+            return validate(line.getT1(), objectMapper.readValue(line.getT2(), type));
+        } catch (JsonProcessingException e) {
+            return new Row<>(line.getT1(), null, List.of("Malformed JSON: " + e.getOriginalMessage()));
+        }
+    }
+
+    private Row<D> validate(long index, D dto) {
+        List<String> errors = validator.validate(dto).stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .toList();
+        return new Row<>(index, dto, errors);
+    }
+
+    private Flux<BulkItemResultDTO> writeBatch(List<Row<D>> rows) {
+        List<Row<D>> valid = rows.stream().filter(Row::isValid).toList();
+        Flux<BulkItemResultDTO> rejected = Flux.fromIterable(rows)
+                .filter(row -> !row.isValid())
+                .map(Row::rejected);
+        Flux<BulkItemResultDTO> written = valid.isEmpty()
+                ? Flux.empty()
+                : Flux.fromIterable(rounds.apply(valid))
+                        // Results are held back until the round commits, so a failed round reports
+                        // each item once, from its retry
+                        .concatMap(round -> batchWriter.apply(round)
+                                .collectList()
+                                .flatMapIterable(results -> results)
+                                // Isolate the offending items by retrying the round one item at a time
+                                .onErrorResume(e -> Flux.fromIterable(round)
+                                        .concatMap(row -> rowWriter.apply(row)
+                                                .onErrorResume(rowError -> Mono.just(row.failed(rowError))))));
+
+        return Flux.concat(rejected, written)
+                .sort(Comparator.comparing(BulkItemResultDTO::getIndex));
+    }
+
+    /**
+     * One bulk item: a valid DTO, or the errors that rejected it.
+     */
+    public record Row<D>(long index, D dto, List<String> errors) {
+
+        public boolean isValid() {
+            return errors.isEmpty();
+        }
+
+        /**
+         * The result of the item once written.
+         */
+        public BulkItemResultDTO written(BulkItemStatusEnum status, UUID id) {
+            return BulkItemResultDTO.builder()
+                    .index(index)
+                    .status(status)
+                    .id(id)
+                    .build();
+        }
+
+        BulkItemResultDTO rejected() {
+            return BulkItemResultDTO.builder()
+                    .index(index)
+                    .status(BulkItemStatusEnum.FAILED)
+                    .errors(errors)
+                    .build();
+        }
+
+        BulkItemResultDTO failed(Throwable error) {
+            Throwable cause = NestedExceptionUtils.getMostSpecificCause(error);
+            return BulkItemResultDTO.builder()
+                    .index(index)
+                    .status(BulkItemStatusEnum.FAILED)
+                    .errors(List.of(String.valueOf(cause.getMessage())))
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.provisioning.core.utils;
+
+import com.firefly.core.lending.provisioning.models.repositories.BaseRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Times every public {@code *ServiceImpl} method and every repository call.
+ *
+ * <p>Reactive results are timed from subscription to termination, so the timers reflect the
+ * database work and not just the assembly of the pipeline. Each sample is tagged with the owning
+ * class, the method ({@code operation}) and an {@code outcome} of {@code SUCCESS}, {@code ERROR}
+ * or {@code CANCELLED}, plus the exception class on errors; the timer counts double as
+ * per-outcome call counters. Runs outside the transaction advice so service timings include
+ * commit.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class OperationMetricsAspect {
+
+    public static final String SERVICE_TIMER = "provisioning.service";
+
+    public static final String REPOSITORY_TIMER = "provisioning.repository";
+
+    @Autowired
+    private MeterRegistry registry;
+
+    private final Map<Class<?>, String> repositoryNames = new ConcurrentHashMap<>();
+
+    @Around("execution(public * com.firefly.core.lending.provisioning.core.services..*ServiceImpl.*(..))")
+    public Object timeService(ProceedingJoinPoint joinPoint) throws Throwable {
+        String service = ClassUtils.getUserClass(joinPoint.getTarget()).getSimpleName();
+        return time(joinPoint, SERVICE_TIMER, "service", service);
+    }
+
+    @Around("target(com.firefly.core.lending.provisioning.models.repositories.BaseRepository)")
+    public Object timeRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(joinPoint, REPOSITORY_TIMER, "repository", repositoryName(joinPoint.getTarget()));
+    }
+
+    private Object time(ProceedingJoinPoint joinPoint, String timer, String ownerTag, String owner) throws Throwable {
+        Recorder recorder = new Recorder(registry, timer, ownerTag, owner, joinPoint.getSignature().getName());
+        Timer.Sample invocation = Timer.start(registry);
+        Object result;
+        try {
+            result = joinPoint.proceed();
+        } catch (Throwable e) {
+            recorder.record(invocation, "ERROR", e);
+            throw e;
+        }
+
+        if (result instanceof Mono<?> mono) {
+            return Mono.defer(() -> {
+                Timer.Sample sample = Timer.start(registry);
+                return mono.doOnSuccess(value -> recorder.record(sample, "SUCCESS", null))
+                        .doOnError(e -> recorder.record(sample, "ERROR", e))
+                        .doOnCancel(() -> recorder.record(sample, "CANCELLED", null));
+            });
+        }
+        if (result instanceof Flux<?> flux) {
+            return Flux.defer(() -> {
+                Timer.Sample sample = Timer.start(registry);
+                return flux.doOnComplete(() -> recorder.record(sample, "SUCCESS", null))
+                        .doOnError(e -> recorder.record(sample, "ERROR", e))
+                        .doOnCancel(() -> recorder.record(sample, "CANCELLED", null));
+            });
+        }
+        recorder.record(invocation, "SUCCESS", null);
+        return result;
+    }
+
+    private String repositoryName(Object repository) {
+        return repositoryNames.computeIfAbsent(repository.getClass(), type -> Arrays.stream(
+                        AopProxyUtils.proxiedUserInterfaces(repository))
+                .filter(BaseRepository.class::isAssignableFrom)
+                .findFirst()
+                .map(Class::getSimpleName)
+                .orElse(type.getSimpleName()));
+    }
+
+    private record Recorder(MeterRegistry registry, String timer, String ownerTag, String owner, String operation) {
+
+        void record(Timer.Sample sample, String outcome, Throwable error) {
+            sample.stop(Timer.builder(timer)
+                    .tag(ownerTag, owner)
+                    .tag("operation", operation)
+                    .tag("outcome", outcome)
+                    .tag("exception", error == null ? "none" : error.getClass().getSimpleName())
+                    .register(registry));
+        }
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.provisioning.core.utils;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.transaction.NoTransactionException;
+import org.springframework.transaction.reactive.TransactionSynchronization;
+import org.springframework.transaction.reactive.TransactionSynchronizationManager;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Bounded, expiring in-memory cache in front of a reactive lookup.
+ *
+ * <p>Concurrent misses on the same key share one load, and an empty lookup is not cached.
+ * Hit, miss and eviction counts are published as the {@code cache.*} meters tagged with the
+ * cache name.
+ *
+ * <p>Eviction happens immediately and again once the surrounding transaction completes, so a
+ * reader that reloads the entry between the write and the commit cannot leave the pre-write
+ * value behind.
+ */
+public class ReadThroughCache<K, V> {
+
+    private final AsyncCache<K, V> cache;
+
+    public ReadThroughCache(String name, long maximumSize, Duration expireAfterWrite, MeterRegistry registry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .buildAsync();
+        new CaffeineCacheMetrics<>(cache.synchronous(), name, List.of()).bindTo(registry);
+    }
+
+    /**
+     * Returns the cached value for the key, loading it with the given lookup on a miss.
+     */
+    public Mono<V> get(K key, Function<K, Mono<V>> loader) {
+        // The load is shared with other callers, so one of them cancelling must not cancel it
+        return Mono.fromFuture(() -> cache.get(key, (k, executor) -> loader.apply(k).toFuture()), true);
+    }
+
+    /**
+     * Evicts the key now and after the current transaction, if any, completes.
+     */
+    public Mono<Void> evict(K key) {
+        return evictNowAndAfterCompletion(() -> cache.synchronous().invalidate(key));
+    }
+
+    /**
+     * Evicts the keys now and after the current transaction, if any, completes.
+     */
+    public Mono<Void> evictAll(Iterable<K> keys) {
+        return evictNowAndAfterCompletion(() -> cache.synchronous().invalidateAll(keys));
+    }
+
+    /**
+     * Evicts every entry now and after the current transaction, if any, completes. Used after
+     * set-based writes that touch an unknown number of keys.
+     */
+    public Mono<Void> evictAll() {
+        return evictNowAndAfterCompletion(() -> cache.synchronous().invalidateAll());
+    }
+
+    private Mono<Void> evictNowAndAfterCompletion(Runnable eviction) {
+        return Mono.fromRunnable(eviction)
+                .then(TransactionSynchronizationManager.forCurrentTransaction())
+                .filter(TransactionSynchronizationManager::isSynchronizationActive)
+                .doOnNext(manager -> manager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public Mono<Void> afterCompletion(int status) {
+                        return Mono.fromRunnable(eviction);
+                    }
+                }))
+                .onErrorResume(NoTransactionException.class, e -> Mono.empty())
+                .then();
+    }
+}
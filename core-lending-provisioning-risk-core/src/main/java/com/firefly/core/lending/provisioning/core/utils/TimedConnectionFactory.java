@@ -0,0 +1,72 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.provisioning.core.utils;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import org.springframework.r2dbc.connection.DelegatingConnectionFactory;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+
+/**
+ * Records how long callers wait for a connection as the {@code r2dbc.pool.acquire} timer, tagged
+ * with the outcome. With a saturated pool this is where request latency goes before any query runs.
+ *
+ * <p>Still unwraps to the pool, so the pool gauges bound by Spring Boot keep working, and
+ * forwards {@code dispose} so the pool is shut down with the context.
+ */
+public class TimedConnectionFactory extends DelegatingConnectionFactory {
+
+    public static final String ACQUIRE_TIMER = "r2dbc.pool.acquire";
+
+    private final Timer acquired;
+
+    private final Timer failed;
+
+    public TimedConnectionFactory(ConnectionFactory delegate, String name, MeterRegistry registry) {
+        super(delegate);
+        this.acquired = timer(name, "SUCCESS", registry);
+        this.failed = timer(name, "ERROR", registry);
+    }
+
+    @Override
+    public Mono<? extends Connection> create() {
+        return Mono.defer(() -> {
+            Timer.Sample sample = Timer.start();
+            return super.create()
+                    .doOnSuccess(connection -> sample.stop(acquired))
+                    .doOnError(e -> sample.stop(failed));
+        });
+    }
+
+    public void dispose() {
+        if (unwrap() instanceof Disposable disposable) {
+            disposable.dispose();
+        }
+    }
+
+    private static Timer timer(String name, String outcome, MeterRegistry registry) {
+        return Timer.builder(ACQUIRE_TIMER)
+                .description("Time waited for an R2DBC connection")
+                .tag("name", name)
+                .tag("outcome", outcome)
+                .register(registry);
+    }
+}
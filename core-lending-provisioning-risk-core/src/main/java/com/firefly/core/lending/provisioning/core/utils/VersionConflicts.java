@@ -0,0 +1,46 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.provisioning.core.utils;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Mono;
+
+/**
+ * Tells the two reasons a conditional {@code UPDATE ... WHERE version = ? RETURNING *} can come
+ * back empty apart. Only that path pays the extra lookup; a successful update is one round trip.
+ */
+public final class VersionConflicts {
+
+    private VersionConflicts() {
+    }
+
+    /**
+     * Fails with 409 if the row still exists, since another writer has then moved its version on,
+     * or completes empty if it does not, so the caller answers as for a missing row.
+     *
+     * @param exists   whether the row exists under the requested path
+     * @param resource what the row is, for the error message
+     */
+    public static <T> Mono<T> conflictIfExists(Mono<Boolean> exists, String resource) {
+        return exists.flatMap(found -> found
+                ? Mono.error(new ResponseStatusException(HttpStatus.CONFLICT,
+                        resource + " was modified concurrently; reload it and retry"))
+                : Mono.empty());
+    }
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.provisioning.core.engine.v1;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Proves the fixed-point path of {@link EclKernel} matches the {@link BigDecimal} reference in
+ * {@link EclCalculator#ecl(BigDecimal, BigDecimal, BigDecimal)} for values the schema can hold:
+ * PD and LGD at DECIMAL(9,4) in {@code [0, 1]}, EAD at DECIMAL(15,2).
+ */
+class EclKernelTest {
+
+    private static final BigDecimal MAX_EAD = new BigDecimal("9999999999999.99");
+
+    private static final BigDecimal HALF = new BigDecimal("0.5");
+
+    private static final BigInteger PRODUCT_FACTOR = BigInteger.valueOf(EclKernel.RATE_FACTOR * EclKernel.RATE_FACTOR);
+
+    private static final String[] RATE_EDGES = {"0", "0.0001", "0.5000", "0.9999", "1"};
+
+    @Test
+    void matchesReferenceOnRandomInputs() {
+        Random random = new Random(20240601L);
+        for (int i = 0; i < 200_000; i++) {
+            BigDecimal pd = randomRate(random);
+            BigDecimal lgd = randomRate(random);
+            BigDecimal ead = randomEad(random);
+            assertMatchesReference(pd, lgd, ead);
+        }
+    }
+
+    @Test
+    void matchesReferenceOnHalfCentTies() {
+        assertMatchesReference(new BigDecimal("0.5"), BigDecimal.ONE, new BigDecimal("0.01"));
+        assertMatchesReference(new BigDecimal("0.25"), new BigDecimal("0.5"), new BigDecimal("0.04"));
+        assertMatchesReference(new BigDecimal("0.5"), BigDecimal.ONE, new BigDecimal("-0.01"));
+        assertMatchesReference(new BigDecimal("0.5"), new BigDecimal("0.5"), new BigDecimal("-0.02"));
+
+        // Solve for an EAD that puts random rates exactly on half a cent, in both signs
+        Random random = new Random(7L);
+        int ties = 0;
+        while (ties < 10_000) {
+            BigDecimal pd = randomRate(random);
+            BigDecimal lgd = randomRate(random);
+            BigDecimal ead = tieExposure(pd, lgd, random);
+            if (ead == null) {
+                continue;
+            }
+            BigDecimal cents = pd.multiply(lgd).multiply(ead).movePointRight(EclCalculator.ECL_SCALE);
+            assertEquals(0, cents.remainder(BigDecimal.ONE).abs().compareTo(HALF));
+            assertMatchesReference(pd, lgd, ead);
+            assertMatchesReference(pd, lgd, ead.negate());
+            ties++;
+        }
+    }
+
+    @Test
+    void matchesReferenceAtMaximumExposure() {
+        for (String pd : RATE_EDGES) {
+            for (String lgd : RATE_EDGES) {
+                assertMatchesReference(new BigDecimal(pd), new BigDecimal(lgd), MAX_EAD);
+                assertMatchesReference(new BigDecimal(pd), new BigDecimal(lgd), MAX_EAD.negate());
+            }
+        }
+        assertMatchesReference(new BigDecimal("0.1234"), new BigDecimal("0.5678"), MAX_EAD);
+    }
+
+    @Test
+    void matchesReferenceAtZeroAndOneRates() {
+        BigDecimal[] exposures = {BigDecimal.ZERO, new BigDecimal("0.01"), new BigDecimal("123456.78"),
+                new BigDecimal("-0.01"), MAX_EAD};
+        for (BigDecimal ead : exposures) {
+            for (String pd : new String[]{"0", "1"}) {
+                for (String lgd : new String[]{"0", "0.4500", "1"}) {
+                    assertMatchesReference(new BigDecimal(pd), new BigDecimal(lgd), ead);
+                    assertMatchesReference(new BigDecimal(lgd), new BigDecimal(pd), ead);
+                }
+            }
+        }
+        assertEquals(0, EclKernel.eclCents(0, 1, Long.MAX_VALUE));
+        assertEquals(EclKernel.toCents(MAX_EAD), EclKernel.eclCents(1, 1, EclKernel.toCents(MAX_EAD)));
+    }
+
+    @Test
+    void twelveMonthFillsOnlyTheRequestedRange() {
+        double[] pd = {0.02, 0.5, 0.25, 1};
+        double[] lgd = {0.45, 1, 0.5, 0.6};
+        long[] ead = {100_000_00L, 1L, 4L, -250_00L};
+        long[] ecl = {-1, -1, -1, -1};
+
+        EclKernel.twelveMonth(pd, lgd, ead, ecl, 1, 4);
+
+        assertEquals(-1, ecl[0]);
+        for (int i = 1; i < 4; i++) {
+            assertEquals(EclKernel.eclCents(pd[i], lgd[i], ead[i]), ecl[i]);
+        }
+        assertEquals(1, ecl[1]);
+        assertEquals(1, ecl[2]);
+        assertEquals(-150_00L, ecl[3]);
+    }
+
+    @Test
+    void roundHalfUpRoundsTiesAwayFromZero() {
+        assertEquals(3, EclKernel.roundHalfUp(2.5));
+        assertEquals(-3, EclKernel.roundHalfUp(-2.5));
+        assertEquals(-2, EclKernel.roundHalfUp(-2.4));
+        assertEquals(2, EclKernel.roundHalfUp(2.4));
+        assertEquals(0, EclKernel.roundHalfUp(-0.4));
+        assertEquals(-5_000, EclKernel.toRateUnits(-0.5));
+    }
+
+    @Test
+    void weightedCentsRoundsNegativeTiesLikeHalfUp() {
+        long[] ecl = {-1, -2};
+        double[] weights = {0.5, 0.5};
+
+        assertEquals(-2, EclKernel.weightedCents(ecl, weights, 0, 2));
+        assertEquals(-1, EclKernel.weightedCents(ecl, weights, 0, 1));
+        assertEquals(0, EclKernel.weightedCents(ecl, new double[]{0, 0}, 0, 2));
+    }
+
+    @Test
+    void centsConversionRoundTrips() {
+        assertEquals(new BigDecimal("-0.01"), EclKernel.toDecimal(-1));
+        assertEquals(MAX_EAD, EclKernel.toDecimal(EclKernel.toCents(MAX_EAD)));
+        assertEquals(-1, EclKernel.toCents(new BigDecimal("-0.005")));
+        assertEquals(1, EclKernel.toCents(new BigDecimal("0.005")));
+    }
+
+    private static void assertMatchesReference(BigDecimal pd, BigDecimal lgd, BigDecimal ead) {
+        BigDecimal expected = EclCalculator.ecl(pd, lgd, ead);
+        long cents = EclKernel.eclCents(pd.doubleValue(), lgd.doubleValue(), EclKernel.toCents(ead));
+        BigDecimal actual = EclKernel.toDecimal(cents);
+        assertEquals(expected, actual, () -> "PD " + pd + " x LGD " + lgd + " x EAD " + ead);
+        assertEquals(EclCalculator.ECL_SCALE, actual.scale());
+    }
+
+    /**
+     * Returns an EAD at which {@code PD x LGD x EAD} sits exactly on half a cent, or {@code null}
+     * when no such EAD exists for these rates. With {@code R} the rate product in units of 1e-8
+     * and {@code E} the EAD in cents, that is {@code R * E = 5e7 (mod 1e8)}.
+     */
+    private static BigDecimal tieExposure(BigDecimal pd, BigDecimal lgd, Random random) {
+        BigInteger rate = pd.multiply(lgd).movePointRight(8).toBigIntegerExact();
+        BigInteger half = PRODUCT_FACTOR.shiftRight(1);
+        BigInteger gcd = rate.gcd(PRODUCT_FACTOR);
+        if (rate.signum() == 0 || half.mod(gcd).signum() != 0) {
+            return null;
+        }
+        BigInteger modulus = PRODUCT_FACTOR.divide(gcd);
+        BigInteger base = half.divide(gcd).multiply(rate.divide(gcd).modInverse(modulus)).mod(modulus);
+        BigInteger maxCents = MAX_EAD.movePointRight(2).toBigIntegerExact();
+        BigInteger steps = maxCents.subtract(base).divide(modulus);
+        BigInteger cents = base.add(modulus.multiply(BigInteger.valueOf(Math.floorMod(random.nextLong(), steps.longValue() + 1))));
+        return new BigDecimal(cents, 2);
+    }
+
+    private static BigDecimal randomRate(Random random) {
+        return BigDecimal.valueOf(random.nextInt((int) EclKernel.RATE_FACTOR + 1), 4);
+    }
+
+    /**
+     * Draws EADs across magnitudes, from a few cents up to the DECIMAL(15,2) maximum.
+     */
+    private static BigDecimal randomEad(Random random) {
+        long bound = (long) Math.pow(10, 1 + random.nextInt(15));
+        long cents = Math.floorMod(random.nextLong(), bound);
+        BigDecimal ead = BigDecimal.valueOf(cents, 2).min(MAX_EAD).setScale(2, RoundingMode.UNNECESSARY);
+        return random.nextInt(8) == 0 ? ead.negate() : ead;
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.provisioning.core.engine.v1;
+
+import com.firefly.core.lending.provisioning.interfaces.enums.provisioning.v1.RiskGradeEnum;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LifetimeEclEngineTest {
+
+    private static final int BB = RiskGradeEnum.BB.ordinal();
+
+    private static final long EAD_CENTS = 1_000_000_00L;
+
+    private static final double LGD = 0.45;
+
+    private final LifetimeEclEngine engine = new LifetimeEclEngine(
+            new PdTermStructure(PdTermStructureTest.curves(RiskGradeEnum.BB, List.of(0.01, 0.03))), 360);
+
+    @Test
+    void twelveMonthsUndiscountedEqualsTheTwelveMonthEcl() {
+        assertEquals(900_000L, engine.eclCents(BB, 0.02, LGD, EAD_CENTS, 12, 0));
+        assertEquals(EclKernel.eclCents(0.02, LGD, EAD_CENTS), engine.eclCents(BB, 0.02, LGD, EAD_CENTS, 12, 0));
+    }
+
+    @Test
+    void followsTheGradeCurveAtTheGradePd() {
+        // Two years at the grade's own PD reach its two-year cumulative PD
+        assertEquals(EclKernel.roundHalfUp(0.03 * LGD * EAD_CENTS), engine.eclCents(BB, 0.01, LGD, EAD_CENTS, 24, 0));
+    }
+
+    @Test
+    void scalesTheGradeCurveUnderProportionalHazards() {
+        double pd = 0.04;
+        double k = Math.log1p(-pd) / Math.log1p(-0.01);
+        double cumulative = 1 - Math.pow(0.97, k);
+
+        long expected = EclKernel.roundHalfUp(cumulative * LGD * EAD_CENTS);
+        long actual = engine.eclCents(BB, pd, LGD, EAD_CENTS, 24, 0);
+        assertTrue(Math.abs(expected - actual) <= 1, () -> expected + " vs " + actual);
+    }
+
+    @Test
+    void capsTheTermAndIntegratesAtLeastOneMonth() {
+        LifetimeEclEngine capped = new LifetimeEclEngine(
+                new PdTermStructure(PdTermStructureTest.curves(RiskGradeEnum.BB, List.of(0.01, 0.03))), 12);
+
+        assertEquals(capped.eclCents(BB, 0.02, LGD, EAD_CENTS, 12, 0), capped.eclCents(BB, 0.02, LGD, EAD_CENTS, 360, 0));
+        assertEquals(engine.eclCents(BB, 0.02, LGD, EAD_CENTS, 1, 0), engine.eclCents(BB, 0.02, LGD, EAD_CENTS, 0, 0));
+        assertEquals(engine.eclCents(BB, 0.02, LGD, EAD_CENTS, 1, 0), engine.eclCents(BB, 0.02, LGD, EAD_CENTS, -5, 0));
+
+        long oneMonth = EclKernel.roundHalfUp((1 - Math.pow(0.98, 1 / 12.0)) * LGD * EAD_CENTS);
+        assertEquals(oneMonth, engine.eclCents(BB, 0.02, LGD, EAD_CENTS, 1, 0));
+    }
+
+    @Test
+    void discountsAtTheEffectiveInterestRate() {
+        long undiscounted = engine.eclCents(BB, 0.02, LGD, EAD_CENTS, 12, 0);
+        long discounted = engine.eclCents(BB, 0.02, LGD, EAD_CENTS, 12, 0.05);
+
+        // Each month's loss is discounted by less than a full year
+        assertTrue(discounted < undiscounted);
+        assertTrue(discounted > undiscounted / 1.05);
+    }
+
+    @Test
+    void defaultedExposuresLoseLgdTimesEad() {
+        long expected = EclKernel.eclCents(1, LGD, EAD_CENTS);
+
+        assertEquals(45_000_000L, expected);
+        assertEquals(expected, engine.eclCents(BB, 1, LGD, EAD_CENTS, 360, 0.05));
+        assertEquals(expected, engine.eclCents(BB, 1.5, LGD, EAD_CENTS, 1, 0));
+    }
+
+    @Test
+    void degenerateInputsHaveNoLoss() {
+        assertEquals(0, engine.eclCents(BB, 0, LGD, EAD_CENTS, 360, 0.05));
+        assertEquals(0, engine.eclCents(BB, -0.01, LGD, EAD_CENTS, 360, 0.05));
+        assertEquals(0, engine.eclCents(BB, 0.02, 0, EAD_CENTS, 360, 0.05));
+        assertEquals(0, engine.eclCents(BB, 0.02, LGD, 0, 360, 0.05));
+    }
+
+    @Test
+    void gradeWithCertainDefaultFallsBackToAFlatCaseHazard() {
+        // Grade D has an infinite hazard, so the case's own PD drives the whole term
+        long actual = engine.eclCents(RiskGradeEnum.D.ordinal(), 0.3, LGD, EAD_CENTS, 24, 0);
+        assertEquals(EclKernel.roundHalfUp((1 - 0.7 * 0.7) * LGD * EAD_CENTS), actual);
+    }
+
+    @Test
+    void negativeExposureMirrorsPositive() {
+        for (int months : new int[]{1, 12, 37, 360}) {
+            assertEquals(-engine.eclCents(BB, 0.0237, LGD, 123_456_789L, months, 0.031),
+                    engine.eclCents(BB, 0.0237, LGD, -123_456_789L, months, 0.031));
+        }
+    }
+}
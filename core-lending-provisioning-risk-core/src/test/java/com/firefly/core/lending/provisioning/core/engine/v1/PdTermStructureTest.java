@@ -0,0 +1,108 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.provisioning.core.engine.v1;
+
+import com.firefly.core.lending.provisioning.interfaces.enums.provisioning.v1.RiskGradeEnum;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PdTermStructureTest {
+
+    private static final double TOLERANCE = 1e-12;
+
+    @Test
+    void convertsCumulativePdsToAnnualHazards() {
+        PdTermStructure structure = new PdTermStructure(curves(RiskGradeEnum.BB, List.of(0.01, 0.03, 0.06)));
+
+        int bb = RiskGradeEnum.BB.ordinal();
+        assertEquals(-Math.log(0.99), structure.annualHazard(bb, 0), TOLERANCE);
+        assertEquals(Math.log(0.99 / 0.97), structure.annualHazard(bb, 1), TOLERANCE);
+        assertEquals(Math.log(0.97 / 0.94), structure.annualHazard(bb, 2), TOLERANCE);
+    }
+
+    @Test
+    void carriesTheLastHazardForward() {
+        PdTermStructure structure = new PdTermStructure(curves(RiskGradeEnum.BB, List.of(0.01, 0.03)));
+
+        int bb = RiskGradeEnum.BB.ordinal();
+        assertEquals(structure.annualHazard(bb, 1), structure.annualHazard(bb, 2));
+        assertEquals(structure.annualHazard(bb, 1), structure.annualHazard(bb, 40));
+
+        // A single point is a constant hazard
+        int a = RiskGradeEnum.A.ordinal();
+        assertEquals(-Math.log(1 - 0.0006), structure.annualHazard(a, 0), TOLERANCE);
+        assertEquals(structure.annualHazard(a, 0), structure.annualHazard(a, 10));
+    }
+
+    @Test
+    void certainDefaultIsAnInfiniteHazard() {
+        PdTermStructure structure = new PdTermStructure(curves(RiskGradeEnum.CCC, List.of(0.5, 1.0)));
+
+        assertEquals(Double.POSITIVE_INFINITY, structure.annualHazard(RiskGradeEnum.D.ordinal(), 0));
+        assertEquals(Math.log(2), structure.annualHazard(RiskGradeEnum.CCC.ordinal(), 0), TOLERANCE);
+        assertEquals(Double.POSITIVE_INFINITY, structure.annualHazard(RiskGradeEnum.CCC.ordinal(), 1));
+    }
+
+    @Test
+    void rejectsMissingCurves() {
+        Map<RiskGradeEnum, List<Double>> missing = curves(RiskGradeEnum.BB, List.of(0.01));
+        missing.remove(RiskGradeEnum.C);
+        IllegalArgumentException error = assertThrows(IllegalArgumentException.class,
+                () -> new PdTermStructure(missing));
+        assertTrue(error.getMessage().endsWith("grade C"), error.getMessage());
+
+        assertThrows(IllegalArgumentException.class,
+                () -> new PdTermStructure(curves(RiskGradeEnum.BB, List.of())));
+    }
+
+    @Test
+    void rejectsCurvesOutsideTheUnitIntervalOrDecreasing() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new PdTermStructure(curves(RiskGradeEnum.BB, List.of(0.03, 0.01))));
+        assertThrows(IllegalArgumentException.class,
+                () -> new PdTermStructure(curves(RiskGradeEnum.BB, List.of(-0.01))));
+        assertThrows(IllegalArgumentException.class,
+                () -> new PdTermStructure(curves(RiskGradeEnum.BB, List.of(0.5, 1.2))));
+    }
+
+    /**
+     * The default one-year PDs of every grade, with {@code curve} in place of {@code grade}'s.
+     */
+    static Map<RiskGradeEnum, List<Double>> curves(RiskGradeEnum grade, List<Double> curve) {
+        Map<RiskGradeEnum, List<Double>> curves = new EnumMap<>(RiskGradeEnum.class);
+        curves.put(RiskGradeEnum.AAA, List.of(0.0001));
+        curves.put(RiskGradeEnum.AA, List.of(0.0002));
+        curves.put(RiskGradeEnum.A, List.of(0.0006));
+        curves.put(RiskGradeEnum.BBB, List.of(0.0018));
+        curves.put(RiskGradeEnum.BB, List.of(0.0080));
+        curves.put(RiskGradeEnum.B, List.of(0.0350));
+        curves.put(RiskGradeEnum.CCC, List.of(0.15));
+        curves.put(RiskGradeEnum.CC, List.of(0.25));
+        curves.put(RiskGradeEnum.C, List.of(0.35));
+        curves.put(RiskGradeEnum.D, List.of(1.0));
+        curves.put(grade, curve);
+        return curves;
+    }
+}
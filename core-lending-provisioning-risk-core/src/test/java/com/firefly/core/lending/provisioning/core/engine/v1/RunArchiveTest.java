@@ -0,0 +1,276 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.provisioning.core.engine.v1;
+
+import com.firefly.core.lending.provisioning.interfaces.enums.assessment.v1.ScenarioCodeEnum;
+import com.firefly.core.lending.provisioning.interfaces.enums.provisioning.v1.CalcMethodEnum;
+import com.firefly.core.lending.provisioning.interfaces.enums.provisioning.v1.RiskGradeEnum;
+import com.firefly.core.lending.provisioning.interfaces.enums.provisioning.v1.RunModeEnum;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RunArchiveTest {
+
+    private static final int BUFFER_SIZE = 4096;
+
+    private static final int TAG_OFFSET_OF_FIRST_CASE = 4 + 2 + 1 + 16 + 1 + 3 * 8 + 1 + 2 * 9;
+
+    private static final int ECL_OFFSET_IN_CASE = 1 + 3 * 16 + 1 + 1;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void roundTripsEveryRecord() {
+        Path file = directory.resolve("run.prva");
+        Archive written = sample(new Random(42L), 600);
+
+        RunArchive.Trailer trailer = write(file, written);
+        Archive read = new Archive();
+        RunArchive.Trailer verified;
+        try (RunArchiveReader reader = RunArchiveReader.open(file, BUFFER_SIZE)) {
+            read.header = reader.header();
+            verified = reader.read(read);
+        }
+
+        assertEquals(written.header, read.header);
+        assertEquals(written.records, read.records);
+        assertEquals(trailer, verified);
+        assertEquals(600, trailer.cases());
+        assertEquals(written.records.stream().filter(RunArchive.Input.class::isInstance).count(), trailer.inputs());
+        assertEquals(written.records.stream()
+                .filter(record -> record instanceof RunArchive.Input input && input.modifiedSinceRun())
+                .count(), trailer.modifiedInputs());
+    }
+
+    @Test
+    void roundTripsAnEmptyRun() throws IOException {
+        Path file = directory.resolve("empty.prva");
+        RunArchive.Header header = new RunArchive.Header(UUID.randomUUID(), RunModeEnum.FULL,
+                null, null, null, Map.of());
+
+        RunArchive.Trailer trailer;
+        long bytesWritten;
+        try (RunArchiveWriter writer = RunArchiveWriter.create(file, BUFFER_SIZE)) {
+            writer.writeHeader(header);
+            trailer = writer.finish();
+            bytesWritten = writer.bytesWritten();
+        }
+
+        assertEquals(Files.size(file), bytesWritten);
+        try (RunArchiveReader reader = RunArchiveReader.open(file, BUFFER_SIZE)) {
+            assertEquals(header, reader.header());
+            assertEquals(trailer, reader.read(new RunArchiveReader.Visitor() {
+            }));
+        }
+    }
+
+    @Test
+    void detectsADamagedAmount() throws IOException {
+        Path file = directory.resolve("run.prva");
+        write(file, sample(new Random(7L), 10));
+
+        flip(file, TAG_OFFSET_OF_FIRST_CASE + ECL_OFFSET_IN_CASE + 7);
+
+        assertCorrupt(file, "checksum mismatch");
+    }
+
+    @Test
+    void detectsADamagedRecordTag() throws IOException {
+        Path file = directory.resolve("run.prva");
+        write(file, sample(new Random(7L), 10));
+
+        flip(file, TAG_OFFSET_OF_FIRST_CASE);
+
+        assertCorrupt(file, "unknown record tag");
+    }
+
+    @Test
+    void detectsATruncatedArchive() throws IOException {
+        Path file = directory.resolve("run.prva");
+        write(file, sample(new Random(7L), 200));
+        byte[] bytes = Files.readAllBytes(file);
+
+        Files.write(file, Arrays.copyOf(bytes, bytes.length / 2));
+        assertCorrupt(file, "unexpected end of file");
+
+        // Cut anywhere, including inside the header or the trailer, it never reads as whole
+        for (int length = 0; length < bytes.length; length += 97) {
+            Files.write(file, Arrays.copyOf(bytes, length));
+            assertThrows(IllegalStateException.class, () -> readAll(file), "truncated to " + length);
+        }
+        Files.write(file, Arrays.copyOf(bytes, bytes.length - 1));
+        assertThrows(IllegalStateException.class, () -> readAll(file));
+    }
+
+    @Test
+    void rejectsOtherFiles() throws IOException {
+        Path file = directory.resolve("other.prva");
+        Files.writeString(file, "provisioning run, but not an archive");
+        assertCorrupt(file, "not a run archive");
+
+        write(file, sample(new Random(7L), 1));
+        flip(file, 5);
+        assertCorrupt(file, "unsupported format version");
+    }
+
+    @Test
+    void detectsEveryDamagedByte() throws IOException {
+        Path file = directory.resolve("run.prva");
+        write(file, sample(new Random(11L), 3));
+        byte[] bytes = Files.readAllBytes(file);
+
+        for (int offset = 0; offset < bytes.length; offset++) {
+            byte[] damaged = bytes.clone();
+            damaged[offset] ^= (byte) 0xFF;
+            Files.write(file, damaged);
+            int position = offset;
+            assertThrows(IllegalStateException.class, () -> readAll(file), () -> "byte " + position + " went unnoticed");
+        }
+    }
+
+    @Test
+    void discardsAnUnfinishedArchive() throws IOException {
+        Path file = directory.resolve("run.prva");
+        try (RunArchiveWriter writer = RunArchiveWriter.create(file, BUFFER_SIZE)) {
+            Archive archive = sample(new Random(3L), 200);
+            writer.writeHeader(archive.header);
+            archive.records.forEach(record -> writeRecord(writer, record));
+        }
+
+        assertFalse(Files.exists(file));
+        try (var files = Files.list(directory)) {
+            assertEquals(0, files.count());
+        }
+    }
+
+    private static RunArchive.Trailer write(Path file, Archive archive) {
+        try (RunArchiveWriter writer = RunArchiveWriter.create(file, BUFFER_SIZE)) {
+            writer.writeHeader(archive.header);
+            archive.records.forEach(record -> writeRecord(writer, record));
+            return writer.finish();
+        }
+    }
+
+    private static void writeRecord(RunArchiveWriter writer, Record record) {
+        if (record instanceof RunArchive.CaseResult result) {
+            writer.writeCase(result);
+        } else if (record instanceof RunArchive.Input input) {
+            writer.writeInput(input);
+        } else {
+            writer.writeJournal((RunArchive.Journal) record);
+        }
+    }
+
+    private static void readAll(Path file) {
+        try (RunArchiveReader reader = RunArchiveReader.open(file, BUFFER_SIZE)) {
+            reader.read(new Archive());
+        }
+    }
+
+    private static void assertCorrupt(Path file, String reason) {
+        IllegalStateException error = assertThrows(IllegalStateException.class, () -> readAll(file));
+        assertTrue(error.getMessage().startsWith("Corrupt run archive " + file + ": " + reason), error.getMessage());
+    }
+
+    private static void flip(Path file, int offset) throws IOException {
+        byte[] bytes = Files.readAllBytes(file);
+        bytes[offset] ^= (byte) 0xFF;
+        Files.write(file, bytes);
+    }
+
+    /**
+     * A run with {@code cases} cases of one to four scenario inputs each and a journal entry for
+     * every third case. Ids, assessments and timestamps are left out now and then, as they may be
+     * in the database.
+     */
+    private static Archive sample(Random random, int cases) {
+        Map<ScenarioCodeEnum, Double> weights = new EnumMap<>(ScenarioCodeEnum.class);
+        weights.put(ScenarioCodeEnum.BASE, 0.6);
+        weights.put(ScenarioCodeEnum.SEVERE, 0.4);
+
+        Archive archive = new Archive();
+        archive.header = new RunArchive.Header(UUID.randomUUID(), RunModeEnum.INCREMENTAL,
+                LocalDateTime.of(2024, 3, 31, 22, 0, 0, 123_456_000), null,
+                LocalDateTime.of(1969, 12, 31, 23, 59, 59, 999_999_000), weights);
+
+        List<RunArchive.Journal> journals = new ArrayList<>();
+        for (int i = 0; i < cases; i++) {
+            UUID calculationId = UUID.randomUUID();
+            archive.records.add(new RunArchive.CaseResult(calculationId, UUID.randomUUID(),
+                    i % 5 == 0 ? null : UUID.randomUUID(),
+                    CalcMethodEnum.values()[i % CalcMethodEnum.values().length],
+                    RiskGradeEnum.values()[i % RiskGradeEnum.values().length],
+                    random.nextLong()));
+            int scenarios = 1 + random.nextInt(ScenarioCodeEnum.values().length);
+            for (int s = 0; s < scenarios; s++) {
+                archive.records.add(new RunArchive.Input(UUID.randomUUID(), ScenarioCodeEnum.values()[s],
+                        random.nextDouble(), random.nextDouble(), random.nextLong(), random.nextInt(480),
+                        random.nextDouble() / 10, random.nextInt(4) == 0));
+            }
+            if (i % 3 == 0) {
+                journals.add(new RunArchive.Journal(UUID.randomUUID(), calculationId,
+                        i % 2 == 0 ? null : UUID.randomUUID(), random.nextLong(), random.nextBoolean(),
+                        i % 2 == 0 ? null : LocalDateTime.of(2024, 4, 1, 0, 0).plusNanos(i * 1_000L)));
+            }
+        }
+        archive.records.addAll(journals);
+        return archive;
+    }
+
+    /**
+     * The header and records of an archive in file order, as written or as read back.
+     */
+    private static final class Archive implements RunArchiveReader.Visitor {
+
+        private RunArchive.Header header;
+        private final List<Record> records = new ArrayList<>();
+
+        @Override
+        public void onCase(RunArchive.CaseResult result) {
+            records.add(result);
+        }
+
+        @Override
+        public void onInput(RunArchive.Input input) {
+            records.add(input);
+        }
+
+        @Override
+        public void onJournal(RunArchive.Journal journal) {
+            records.add(journal);
+        }
+    }
+}
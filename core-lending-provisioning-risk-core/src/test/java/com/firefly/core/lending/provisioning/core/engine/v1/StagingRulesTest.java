@@ -0,0 +1,139 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.provisioning.core.engine.v1;
+
+import com.firefly.core.lending.provisioning.core.config.StagingProperties;
+import com.firefly.core.lending.provisioning.core.engine.v1.StagingRules.StagingDecision;
+import com.firefly.core.lending.provisioning.interfaces.enums.assessment.v1.StageCodeEnum;
+import com.firefly.core.lending.provisioning.interfaces.enums.provisioning.v1.RiskGradeEnum;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StagingRulesTest {
+
+    private final StagingProperties properties = new StagingProperties();
+
+    private final StagingRules rules = new StagingRules(properties,
+            PdTermStructureTest.curves(RiskGradeEnum.BB, List.of(0.0080)));
+
+    @Test
+    void daysPastDueBeyondTheStage3ThresholdIsCreditImpaired() {
+        assertDecision(StageCodeEnum.STAGE_3, "Days past due 90 >= 90",
+                rules.evaluate(StageCodeEnum.STAGE_1, RiskGradeEnum.A, 0.001, 0.001, 90));
+        assertDecision(StageCodeEnum.STAGE_2, "Days past due 89 >= 30",
+                rules.evaluate(StageCodeEnum.STAGE_1, RiskGradeEnum.A, 0.001, 0.001, 89));
+    }
+
+    @Test
+    void defaultGradeOrCertainDefaultIsCreditImpaired() {
+        assertDecision(StageCodeEnum.STAGE_3, "Risk grade D",
+                rules.evaluate(StageCodeEnum.STAGE_1, RiskGradeEnum.D, 0.5, 0.5, 0));
+        assertDecision(StageCodeEnum.STAGE_3, "PD of 1",
+                rules.evaluate(StageCodeEnum.STAGE_2, RiskGradeEnum.C, 1.0, 0.3, 0));
+    }
+
+    @Test
+    void daysPastDueBeyondTheStage2ThresholdIsSignificant() {
+        assertDecision(StageCodeEnum.STAGE_2, "Days past due 30 >= 30",
+                rules.evaluate(StageCodeEnum.STAGE_1, null, 0.001, null, 30));
+        assertNull(rules.evaluate(StageCodeEnum.STAGE_1, null, 0.001, null, 29));
+    }
+
+    @Test
+    void pdIncreaseMustPassBothThresholds() {
+        assertDecision(StageCodeEnum.STAGE_2, "PD 0.0200 vs 0.0100 at origination",
+                rules.evaluate(StageCodeEnum.STAGE_1, null, 0.02, 0.01, 0));
+
+        // Tripled but only 0.2 points up, and 5 points up but only 1.5 times
+        assertNull(rules.evaluate(StageCodeEnum.STAGE_1, null, 0.003, 0.001, 0));
+        assertNull(rules.evaluate(StageCodeEnum.STAGE_1, null, 0.15, 0.10, 0));
+
+        // Without a usable origination PD there is nothing to compare against
+        assertNull(rules.evaluate(StageCodeEnum.STAGE_1, null, 0.2, null, 0));
+        assertNull(rules.evaluate(StageCodeEnum.STAGE_1, null, 0.2, 0.0, 0));
+    }
+
+    @Test
+    void downgradeByEnoughNotchesIsSignificant() {
+        // An origination PD of 0.0006 implies grade A
+        assertDecision(StageCodeEnum.STAGE_2, "Downgraded 3 notches from A to B",
+                rules.evaluate(StageCodeEnum.STAGE_1, RiskGradeEnum.B, 0.001, 0.0006, 0));
+        assertNull(rules.evaluate(StageCodeEnum.STAGE_1, RiskGradeEnum.BB, 0.001, 0.0006, 0));
+        assertNull(rules.evaluate(StageCodeEnum.STAGE_1, RiskGradeEnum.B, 0.001, null, 0));
+    }
+
+    @Test
+    void impliesTheBestGradeCoveringThePd() {
+        assertEquals(RiskGradeEnum.AAA, rules.impliedGrade(0));
+        assertEquals(RiskGradeEnum.AAA, rules.impliedGrade(0.0001));
+        assertEquals(RiskGradeEnum.AA, rules.impliedGrade(0.00011));
+        assertEquals(RiskGradeEnum.BB, rules.impliedGrade(0.008));
+        assertEquals(RiskGradeEnum.C, rules.impliedGrade(0.35));
+        assertEquals(RiskGradeEnum.D, rules.impliedGrade(0.5));
+    }
+
+    @Test
+    void unchangedStageIsNoDecision() {
+        assertNull(rules.evaluate(StageCodeEnum.STAGE_2, null, 0.001, null, 45));
+        assertNull(rules.evaluate(StageCodeEnum.STAGE_3, RiskGradeEnum.D, 1.0, 0.5, 120));
+    }
+
+    @Test
+    void curesUnlessDisabled() {
+        assertDecision(StageCodeEnum.STAGE_1, "No significant increase in credit risk",
+                rules.evaluate(StageCodeEnum.STAGE_3, RiskGradeEnum.A, 0.001, 0.001, 0));
+        assertDecision(StageCodeEnum.STAGE_2, "Days past due 30 >= 30",
+                rules.evaluate(StageCodeEnum.STAGE_3, RiskGradeEnum.A, 0.001, 0.001, 30));
+
+        properties.setAllowCure(false);
+        assertNull(rules.evaluate(StageCodeEnum.STAGE_3, RiskGradeEnum.A, 0.001, 0.001, 0));
+        assertNull(rules.evaluate(StageCodeEnum.STAGE_2, RiskGradeEnum.A, 0.001, 0.001, 0));
+        assertDecision(StageCodeEnum.STAGE_3, "Days past due 90 >= 90",
+                rules.evaluate(StageCodeEnum.STAGE_2, RiskGradeEnum.A, 0.001, 0.001, 90));
+    }
+
+    @Test
+    void pociKeepsItsStage() {
+        assertNull(rules.evaluate(StageCodeEnum.POCI, RiskGradeEnum.D, 1.0, 0.5, 120));
+        assertNull(rules.evaluate(StageCodeEnum.POCI, RiskGradeEnum.A, 0.001, 0.001, 0));
+    }
+
+    @Test
+    void missingInputsLeaveTheStageAlone() {
+        // Neither a cure nor a downgrade may come out of absent data
+        assertNull(rules.evaluate(StageCodeEnum.STAGE_3, RiskGradeEnum.A, null, 0.001, 0));
+        assertNull(rules.evaluate(StageCodeEnum.STAGE_3, RiskGradeEnum.A, 0.001, 0.001, null));
+        assertNull(rules.evaluate(StageCodeEnum.STAGE_2, null, null, null, null));
+        assertNull(rules.evaluate(StageCodeEnum.STAGE_1, RiskGradeEnum.D, null, 0.001, 120));
+        assertNull(rules.evaluate(StageCodeEnum.STAGE_1, RiskGradeEnum.D, 1.0, 0.001, null));
+
+        assertTrue(StagingRules.hasInputs(0.0, 0));
+        assertFalse(StagingRules.hasInputs(null, 0));
+        assertFalse(StagingRules.hasInputs(0.01, null));
+    }
+
+    private static void assertDecision(StageCodeEnum stage, String reason, StagingDecision decision) {
+        assertEquals(new StagingDecision(stage, reason), decision);
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.provisioning.core.services.provisioning.v1;
+
+import com.firefly.core.lending.provisioning.core.utils.ReadThroughCache;
+import com.firefly.core.lending.provisioning.interfaces.enums.provisioning.v1.RunStatusEnum;
+import com.firefly.core.lending.provisioning.models.entities.provisioning.v1.ProvisioningCase;
+import com.firefly.core.lending.provisioning.models.entities.provisioning.v1.ProvisioningRun;
+import com.firefly.core.lending.provisioning.models.projections.provisioning.v1.RunPurgeTotalsRow;
+import com.firefly.core.lending.provisioning.models.repositories.provisioning.v1.ProvisioningCalculationRepository;
+import com.firefly.core.lending.provisioning.models.repositories.provisioning.v1.ProvisioningRunRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+import reactor.test.publisher.PublisherProbe;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ProvisioningRunServiceImplTest {
+
+    private static final UUID RUN_ID = UUID.randomUUID();
+
+    @Mock
+    private ProvisioningRunRepository runRepository;
+
+    @Mock
+    private ProvisioningCalculationRepository calculationRepository;
+
+    @Mock
+    private ReadThroughCache<UUID, ProvisioningCase> provisioningCaseCache;
+
+    @InjectMocks
+    private ProvisioningRunServiceImpl service;
+
+    @Test
+    void purgeEvictsTheRevertedCasesBeforeReporting() {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        PublisherProbe<Void> eviction = PublisherProbe.empty();
+        when(runRepository.findById(RUN_ID)).thenReturn(Mono.just(run(RunStatusEnum.FAILED)));
+        when(calculationRepository.purgeDraftCalculations(RUN_ID)).thenReturn(Mono.just(RunPurgeTotalsRow.builder()
+                .calculationsDeleted(3L)
+                .casesReverted(2L)
+                .calculationsKept(1L)
+                .revertedCaseIds(new UUID[]{first, second})
+                .build()));
+        when(provisioningCaseCache.evictAll(List.of(first, second))).thenReturn(eviction.mono());
+
+        StepVerifier.create(service.purgeDrafts(RUN_ID))
+                .assertNext(purge -> {
+                    eviction.assertWasSubscribed();
+                    assertEquals(RUN_ID, purge.getProvisioningRunId());
+                    assertEquals(3L, purge.getCalculationsDeleted());
+                    assertEquals(2L, purge.getCasesReverted());
+                    assertEquals(1L, purge.getCalculationsKept());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void purgeOfARunThatHasNotFailedTouchesNothing() {
+        when(runRepository.findById(RUN_ID)).thenReturn(Mono.just(run(RunStatusEnum.COMPLETED)));
+
+        StepVerifier.create(service.purgeDrafts(RUN_ID))
+                .expectErrorSatisfies(error -> assertEquals(HttpStatus.CONFLICT,
+                        ((ResponseStatusException) error).getStatusCode()))
+                .verify();
+        verify(calculationRepository, never()).purgeDraftCalculations(any());
+        verify(provisioningCaseCache, never()).evictAll(any());
+    }
+
+    private static ProvisioningRun run(RunStatusEnum status) {
+        return ProvisioningRun.builder()
+                .provisioningRunId(RUN_ID)
+                .status(status)
+                .build();
+    }
+}
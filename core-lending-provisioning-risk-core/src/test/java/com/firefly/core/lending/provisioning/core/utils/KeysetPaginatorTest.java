@@ -0,0 +1,140 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.provisioning.core.utils;
+
+import com.firefly.core.lending.provisioning.core.utils.KeysetPaginator.Position;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.relational.core.query.Criteria;
+import org.springframework.data.relational.core.query.CriteriaDefinition;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class KeysetPaginatorTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2024, 3, 31, 23, 59, 59, 123_456_000);
+
+    private static final UUID ID = UUID.fromString("00000000-0000-0000-0000-000000000500");
+
+    @Test
+    void cursorRoundTrips() {
+        Position position = new Position(CREATED_AT, ID);
+
+        assertEquals(position, Position.decode(position.encode()));
+
+        // Whole minutes print without seconds and must still parse back
+        Position onTheMinute = new Position(LocalDateTime.of(2024, 1, 1, 10, 0), UUID.randomUUID());
+        assertEquals(onTheMinute, Position.decode(onTheMinute.encode()));
+    }
+
+    @Test
+    void cursorIsUrlSafeWithoutPadding() {
+        for (int i = 0; i < 100; i++) {
+            String cursor = new Position(CREATED_AT.plusNanos(i * 1_000L), UUID.randomUUID()).encode();
+            assertTrue(cursor.matches("[A-Za-z0-9_-]+"), cursor);
+        }
+    }
+
+    @Test
+    void malformedCursorsAreRejected() {
+        for (String cursor : List.of("not base64!", encode("no separator"), encode("yesterday|" + ID),
+                encode(CREATED_AT + "|not-a-uuid"), encode("|"), "")) {
+            IllegalArgumentException error = assertThrows(IllegalArgumentException.class, () -> Position.decode(cursor),
+                    () -> "accepted " + cursor);
+            assertEquals("Invalid cursor", error.getMessage());
+        }
+    }
+
+    @Test
+    void predicateSelectsRowsStrictlyAfterThePosition() {
+        Criteria criteria = KeysetPaginator.after(Criteria.empty(), new Position(CREATED_AT, ID), "id");
+
+        UUID lower = UUID.fromString("00000000-0000-0000-0000-000000000499");
+        UUID higher = UUID.fromString("00000000-0000-0000-0000-000000000501");
+        for (LocalDateTime createdAt : List.of(CREATED_AT.minusNanos(1_000), CREATED_AT, CREATED_AT.plusNanos(1_000))) {
+            for (UUID id : List.of(lower, ID, higher)) {
+                boolean expected = createdAt.isAfter(CREATED_AT) || (createdAt.isEqual(CREATED_AT) && id.compareTo(ID) > 0);
+                assertEquals(expected, matches(criteria, Map.of("createdAt", createdAt, "id", id)),
+                        () -> createdAt + " / " + id);
+            }
+        }
+    }
+
+    @Test
+    void predicateKeepsTheCallersFilters() {
+        Criteria filters = Criteria.where("provisioningCaseId").is(ID);
+        Criteria criteria = KeysetPaginator.after(filters, new Position(CREATED_AT, ID), "id");
+
+        Map<String, Object> later = Map.of("createdAt", CREATED_AT.plusDays(1), "id", ID, "provisioningCaseId", ID);
+        assertTrue(matches(criteria, later));
+        assertFalse(matches(criteria, Map.of("createdAt", CREATED_AT.plusDays(1), "id", ID,
+                "provisioningCaseId", UUID.randomUUID())));
+
+        // The leading range condition is what seeds the index scan
+        assertEquals(CriteriaDefinition.Combinator.AND, criteria.getCombinator());
+        CriteriaDefinition seek = criteria.getGroup().get(0);
+        while (seek.hasPrevious() && !seek.getPrevious().isEmpty()) {
+            seek = seek.getPrevious();
+        }
+        assertEquals("createdAt", seek.getColumn().getReference());
+        assertEquals(CriteriaDefinition.Comparator.GTE, seek.getComparator());
+    }
+
+    /**
+     * Evaluates the equality and range criteria the paginator builds against a row of property
+     * values. Conditions combine left to right, which matches SQL here because every OR sits alone
+     * in its own group.
+     */
+    private static boolean matches(CriteriaDefinition criteria, Map<String, Object> row) {
+        boolean current = criteria.isGroup()
+                ? criteria.getGroup().stream().allMatch(member -> matches(member, row))
+                : compare(criteria, row);
+        if (!criteria.hasPrevious() || criteria.getPrevious().isEmpty()) {
+            return current;
+        }
+        boolean previous = matches(criteria.getPrevious(), row);
+        return criteria.getCombinator() == CriteriaDefinition.Combinator.OR
+                ? previous || current
+                : previous && current;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static boolean compare(CriteriaDefinition criteria, Map<String, Object> row) {
+        Comparable actual = (Comparable) row.get(criteria.getColumn().getReference());
+        int comparison = actual.compareTo(criteria.getValue());
+        return switch (criteria.getComparator()) {
+            case EQ -> comparison == 0;
+            case GT -> comparison > 0;
+            case GTE -> comparison >= 0;
+            default -> throw new IllegalArgumentException("Unexpected comparator " + criteria.getComparator());
+        };
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
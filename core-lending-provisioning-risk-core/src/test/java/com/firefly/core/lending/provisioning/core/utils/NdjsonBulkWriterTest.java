@@ -0,0 +1,97 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.provisioning.core.utils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.firefly.core.lending.provisioning.core.utils.NdjsonBulkWriter.Row;
+import com.firefly.core.lending.provisioning.interfaces.dtos.common.v1.BulkItemResultDTO;
+import com.firefly.core.lending.provisioning.interfaces.enums.common.v1.BulkItemStatusEnum;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+class NdjsonBulkWriterTest {
+
+    // A mocked validator finds no violations
+    private final Validator validator = mock(Validator.class);
+
+    private final List<List<String>> statements = new ArrayList<>();
+
+    @Test
+    void failedRoundIsRetriedOneItemAtATime() {
+        List<BulkItemResultDTO> results = writer(10, List::of)
+                .writeLines(Flux.just("{\"name\":\"a\"}", " ", "not json", "{\"name\":\"bad\"}", "{\"name\":\"c\"}"))
+                .collectList()
+                .block();
+
+        assertEquals(List.of(List.of("a", "bad", "c"), List.of("a"), List.of("bad"), List.of("c")), statements);
+        assertEquals(List.of(0L, 2L, 3L, 4L), results.stream().map(BulkItemResultDTO::getIndex).toList());
+        assertEquals(BulkItemStatusEnum.CREATED, results.get(0).getStatus());
+        assertNotNull(results.get(0).getId());
+        assertEquals(BulkItemStatusEnum.FAILED, results.get(1).getStatus());
+        assertTrue(results.get(1).getErrors().get(0).startsWith("Malformed JSON: "), results.get(1).getErrors().get(0));
+        assertEquals(BulkItemStatusEnum.FAILED, results.get(2).getStatus());
+        assertEquals(List.of("bad item"), results.get(2).getErrors());
+        assertEquals(BulkItemStatusEnum.CREATED, results.get(3).getStatus());
+    }
+
+    @Test
+    void everyRoundOfEveryBatchIsOneStatement() {
+        // Batches of more than two items are written in two rounds
+        Function<List<Row<Item>>, List<List<Row<Item>>>> pairs = rows -> rows.size() > 2
+                ? List.of(rows.subList(0, 2), rows.subList(2, rows.size()))
+                : List.of(rows);
+
+        List<BulkItemResultDTO> results = writer(3, pairs)
+                .writeItems(Flux.just(new Item("a"), new Item("b"), new Item("c"), new Item("d")))
+                .collectList()
+                .block();
+
+        assertEquals(List.of(List.of("a", "b"), List.of("c"), List.of("d")), statements);
+        assertEquals(List.of(0L, 1L, 2L, 3L), results.stream().map(BulkItemResultDTO::getIndex).toList());
+    }
+
+    private NdjsonBulkWriter<Item> writer(int batchSize, Function<List<Row<Item>>, List<List<Row<Item>>>> rounds) {
+        return new NdjsonBulkWriter<Item>(Item.class, new ObjectMapper(), validator, batchSize, rounds,
+                this::write, row -> write(List.of(row)).single());
+    }
+
+    /**
+     * Records the statement and fails it as a whole if any item is named "bad".
+     */
+    private Flux<BulkItemResultDTO> write(List<Row<Item>> rows) {
+        List<String> names = rows.stream().map(row -> row.dto().name()).toList();
+        statements.add(names);
+        return names.contains("bad")
+                ? Flux.error(new IllegalStateException("bad item"))
+                : Flux.fromIterable(rows).map(row -> row.written(BulkItemStatusEnum.CREATED, UUID.randomUUID()));
+    }
+
+    record Item(String name) {
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.provisioning.interfaces.dtos.provisioning.v1;
+
+import com.firefly.core.lending.provisioning.interfaces.enums.assessment.v1.StageCodeEnum;
+import com.firefly.core.lending.provisioning.interfaces.enums.provisioning.v1.ProvisioningStatusEnum;
+import com.firefly.core.lending.provisioning.interfaces.enums.provisioning.v1.RiskGradeEnum;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EclAggregateDTO {
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private StageCodeEnum stageCode;
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private RiskGradeEnum riskGrade;
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private ProvisioningStatusEnum provisioningStatus;
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Long caseCount;              // Provisioning cases currently in the cell
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private BigDecimal totalEcl;         // Sum of their ECL amounts
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private LocalDateTime updatedAt;     // Last change to the cell
+}
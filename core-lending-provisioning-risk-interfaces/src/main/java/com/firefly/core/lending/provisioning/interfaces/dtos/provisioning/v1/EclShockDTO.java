@@ -0,0 +1,52 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.provisioning.interfaces.dtos.provisioning.v1;
+
+import com.firefly.core.lending.provisioning.interfaces.enums.assessment.v1.ScenarioCodeEnum;
+import com.firefly.core.lending.provisioning.interfaces.enums.assessment.v1.StageCodeEnum;
+import com.firefly.core.lending.provisioning.interfaces.enums.provisioning.v1.RiskGradeEnum;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.PositiveOrZero;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EclShockDTO {
+    private List<RiskGradeEnum> riskGrades;        // Grades shocked; empty for all
+    private List<StageCodeEnum> stageCodes;        // Stages shocked; empty for all
+    private List<ScenarioCodeEnum> scenarioCodes;  // Scenarios shocked; empty for all
+
+    @PositiveOrZero(message = "PD multiplier must be positive or zero")
+    private Double pdMultiplier;                   // Relative PD shock, e.g. 1.2 (default 1)
+
+    @DecimalMin(value = "-1", message = "PD shift cannot be below -1")
+    @DecimalMax(value = "1", message = "PD shift cannot exceed 1")
+    private Double pdShift;                        // Absolute PD shock, e.g. 0.005 for +50bp
+
+    @DecimalMin(value = "-1", message = "LGD shift cannot be below -1")
+    @DecimalMax(value = "1", message = "LGD shift cannot exceed 1")
+    private Double lgdShift;                       // Absolute LGD shock, e.g. 0.05 for +5pp
+}
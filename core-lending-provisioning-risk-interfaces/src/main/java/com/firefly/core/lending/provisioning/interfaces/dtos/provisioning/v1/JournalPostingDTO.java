@@ -0,0 +1,49 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.provisioning.interfaces.dtos.provisioning.v1;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class JournalPostingDTO {
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private UUID provisioningRunId;
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Long journalsPosted;         // Entries written by this call; zero when the run was already posted
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Long releasesPosted;         // Entries releasing provision (negative deltas)
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private BigDecimal netChange;        // Sum of the posted deltas
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private LocalDateTime postedAt;
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.provisioning.interfaces.dtos.provisioning.v1;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LossQuantileDTO {
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Double confidenceLevel;      // e.g. 0.999
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private BigDecimal valueAtRisk;      // Loss not exceeded at the confidence level
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private BigDecimal expectedShortfall; // Average loss at or beyond the value at risk
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.provisioning.interfaces.dtos.provisioning.v1;
+
+import com.firefly.core.lending.provisioning.interfaces.enums.assessment.v1.ScenarioCodeEnum;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LossSimulationDTO {
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private ScenarioCodeEnum scenarioCode;      // Scenario whose PD/LGD/EAD were simulated
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Integer trials;
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Integer exposures;                  // Active cases simulated
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Double assetCorrelation;            // Correlation with the systematic factor
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Long seed;                          // Reproduces the simulation exactly
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private BigDecimal expectedLoss;            // Analytic sum of PD x LGD x EAD
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private BigDecimal meanLoss;                // Average simulated loss
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private BigDecimal stdDevLoss;
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private BigDecimal minLoss;
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private BigDecimal maxLoss;
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private List<LossQuantileDTO> tail;         // VaR and expected shortfall per confidence level
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private List<LossBucketDTO> histogram;      // Loss distribution over equal-width buckets
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Long elapsedMillis;                 // Simulation time, excluding the portfolio load
+}
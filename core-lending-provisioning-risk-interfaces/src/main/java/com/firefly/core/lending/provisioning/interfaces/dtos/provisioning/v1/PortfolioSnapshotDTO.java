@@ -0,0 +1,62 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.provisioning.interfaces.dtos.provisioning.v1;
+
+import com.firefly.core.lending.provisioning.interfaces.enums.assessment.v1.ScenarioCodeEnum;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PortfolioSnapshotDTO {
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private ScenarioCodeEnum scenarioCode;      // Scenario of the expected loss
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private List<SnapshotCellDTO> cells;        // Non-empty stage x grade cells
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Long caseCount;                     // Total over the cells
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private BigDecimal totalEcl;                // Total over the cells
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private BigDecimal expectedLoss;            // Total over the cells
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Integer snapshotRows;               // Live cases held by the snapshot
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private LocalDateTime builtAt;              // Database time of the last full build
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private LocalDateTime refreshedAt;          // Database time changes are applied up to
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Long scanMicros;                    // Time spent scanning the snapshot
+}
@@ -61,9 +61,15 @@ public class ProvisioningCalculationDTO {
     @Size(max = 1000, message = "Notes cannot exceed 1000 characters")
     private String notes;
 
+    @FilterableId
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private UUID provisioningRunId;     // Batch run that produced the calculation, if any
+
     @JsonProperty(access = JsonProperty.Access.READ_ONLY)
     private LocalDateTime createdAt;
 
     @JsonProperty(access = JsonProperty.Access.READ_ONLY)
     private LocalDateTime updatedAt;
+
+    private Long version;              // Send back the version read to update; omit to overwrite
 }
\ No newline at end of file
@@ -68,4 +68,6 @@ public class ProvisioningCaseDTO {
 
     @JsonProperty(access = JsonProperty.Access.READ_ONLY)
     private LocalDateTime updatedAt;
+
+    private Long version;              // Send back the version read to update; omit to overwrite
 }
\ No newline at end of file
@@ -60,9 +60,15 @@ public class ProvisioningJournalDTO {
     @NotNull(message = "Is reversal flag is required")
     private Boolean isReversal;
 
+    @FilterableId
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private UUID provisioningRunId;          // Run whose posting produced the entry, if any
+
     @JsonProperty(access = JsonProperty.Access.READ_ONLY)
     private LocalDateTime createdAt;
 
     @JsonProperty(access = JsonProperty.Access.READ_ONLY)
     private LocalDateTime updatedAt;
+
+    private Long version;              // Send back the version read to update; omit to overwrite
 }
\ No newline at end of file
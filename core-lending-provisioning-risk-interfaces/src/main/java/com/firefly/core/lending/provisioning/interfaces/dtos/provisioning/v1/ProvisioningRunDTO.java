@@ -0,0 +1,63 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.provisioning.interfaces.dtos.provisioning.v1;
+
+import com.firefly.core.lending.provisioning.interfaces.enums.provisioning.v1.RunModeEnum;
+import com.firefly.core.lending.provisioning.interfaces.enums.provisioning.v1.RunStatusEnum;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProvisioningRunDTO {
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private UUID provisioningRunId;
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private RunModeEnum runMode;         // FULL or INCREMENTAL
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private RunStatusEnum status;        // RUNNING, COMPLETED or FAILED
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Integer shardCount;          // Hash partitions of the book the run was split into
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Integer shardsCompleted;
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Long casesProcessed;         // Cases for which a calculation was written
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private BigDecimal totalEcl;         // Sum of final ECL over the run
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private LocalDateTime startedAt;
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private LocalDateTime completedAt;
+}
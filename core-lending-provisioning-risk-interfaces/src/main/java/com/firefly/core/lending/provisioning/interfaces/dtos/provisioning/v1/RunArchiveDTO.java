@@ -0,0 +1,66 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.provisioning.interfaces.dtos.provisioning.v1;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RunArchiveDTO {
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private UUID provisioningRunId;
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private String fileName;
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Integer formatVersion;
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Long sizeBytes;
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private String checksum;                    // CRC-32C of the archive, hex
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Long casesArchived;                 // Calculations of the run
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Long inputsArchived;                // Scenario assessments they were computed from
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Long journalsArchived;              // Journal entries the run posted
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Long inputsModifiedSinceRun;        // Assessments updated after the run completed
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private LocalDateTime archivedAt;
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Long elapsedMillis;
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.provisioning.interfaces.dtos.provisioning.v1;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RunReplayDTO {
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private UUID provisioningRunId;
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Long casesReplayed;
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Long casesMatched;                  // Recomputed ECL equal to the archived one
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Long casesMismatched;
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Long inputsModifiedSinceRun;        // Archived inputs known to differ from what the run read
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Long journalsRead;
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private BigDecimal archivedTotalEcl;
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private BigDecimal replayedTotalEcl;
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private List<ReplayMismatchDTO> mismatches; // First mismatching cases, in archive order
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Long elapsedMillis;
+}
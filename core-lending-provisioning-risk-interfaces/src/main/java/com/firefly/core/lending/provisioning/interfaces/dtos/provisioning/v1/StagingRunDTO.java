@@ -0,0 +1,56 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.provisioning.interfaces.dtos.provisioning.v1;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StagingRunDTO {
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Long casesEvaluated;         // Active, non-POCI cases checked against the SICR criteria
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Long casesSkipped;           // Cases left as they are for lack of a current PD or days past due
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Long casesRestaged;          // Cases moved to another stage
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Long movedToStage1;          // Transitions decided into STAGE_1
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Long movedToStage2;          // Transitions decided into STAGE_2
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Long movedToStage3;          // Transitions decided into STAGE_3
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private LocalDateTime startedAt;     // Also the changed_at of every stage history row written
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private LocalDateTime completedAt;
+}
@@ -70,4 +70,7 @@ public class RiskAssessment {
 
     @Column("updated_at")
     private LocalDateTime updatedAt;
+
+    @Column("version")
+    private Long version;             // Incremented by every update
 }
\ No newline at end of file
@@ -59,9 +59,15 @@ public class ProvisioningCalculation {
     @Column("notes")
     private String notes;
 
+    @Column("provisioning_run_id")
+    private UUID provisioningRunId;  // Batch run that produced the calculation, if any
+
     @Column("created_at")
     private LocalDateTime createdAt;
 
     @Column("updated_at")
     private LocalDateTime updatedAt;
+
+    @Column("version")
+    private Long version;             // Incremented by every update
 }
\ No newline at end of file
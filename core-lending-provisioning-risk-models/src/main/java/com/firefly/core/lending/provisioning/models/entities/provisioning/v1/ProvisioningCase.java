@@ -69,4 +69,7 @@ public class ProvisioningCase {
 
     @Column("updated_at")
     private LocalDateTime updatedAt;
+
+    @Column("version")
+    private Long version;             // Incremented by every update
 }
\ No newline at end of file
@@ -58,9 +58,15 @@ public class ProvisioningJournal {
     @Column("is_reversal")
     private Boolean isReversal;
 
+    @Column("provisioning_run_id")
+    private UUID provisioningRunId;         // Run whose posting produced the entry, if any
+
     @Column("created_at")
     private LocalDateTime createdAt;
 
     @Column("updated_at")
     private LocalDateTime updatedAt;
+
+    @Column("version")
+    private Long version;             // Incremented by every update
 }
\ No newline at end of file
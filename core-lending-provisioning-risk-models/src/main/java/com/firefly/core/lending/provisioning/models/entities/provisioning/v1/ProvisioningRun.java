@@ -0,0 +1,77 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.provisioning.models.entities.provisioning.v1;
+
+import com.firefly.core.lending.provisioning.interfaces.enums.provisioning.v1.RunModeEnum;
+import com.firefly.core.lending.provisioning.interfaces.enums.provisioning.v1.RunStatusEnum;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table("provisioning_run")
+public class ProvisioningRun {
+
+    @Id
+    @Column("provisioning_run_id")
+    private UUID provisioningRunId;
+
+    @Column("run_mode")
+    private RunModeEnum runMode;
+
+    @Column("shard_count")
+    private Integer shardCount;
+
+    @Column("parameters")
+    private String parameters;           // JSON: scenario weights the run computes with
+
+    @Column("status")
+    private RunStatusEnum status;
+
+    @Column("cases_processed")
+    private Long casesProcessed;
+
+    @Column("total_ecl")
+    private BigDecimal totalEcl;
+
+    @Column("started_at")
+    private LocalDateTime startedAt;     // Calculation timestamp of every case of the run
+
+    @Column("completed_at")
+    private LocalDateTime completedAt;
+
+    @Column("posted_at")
+    private LocalDateTime postedAt;      // Set by the first posting; dates every entry the run posts
+
+    @Column("created_at")
+    private LocalDateTime createdAt;
+
+    @Column("updated_at")
+    private LocalDateTime updatedAt;
+}
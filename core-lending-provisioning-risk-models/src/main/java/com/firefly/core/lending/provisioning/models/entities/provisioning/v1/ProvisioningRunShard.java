@@ -0,0 +1,91 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.provisioning.models.entities.provisioning.v1;
+
+import com.firefly.core.lending.provisioning.interfaces.enums.provisioning.v1.RunModeEnum;
+import com.firefly.core.lending.provisioning.interfaces.enums.provisioning.v1.ShardStatusEnum;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table("provisioning_run_shard")
+public class ProvisioningRunShard {
+
+    @Id
+    @Column("provisioning_run_shard_id")
+    private UUID provisioningRunShardId;
+
+    @Column("provisioning_run_id")
+    private UUID provisioningRunId;
+
+    @Column("shard_no")
+    private Integer shardNo;             // Hash partition of provisioning_case_id, 0 .. shardCount - 1
+
+    @Column("shard_count")
+    private Integer shardCount;
+
+    @Column("run_mode")
+    private RunModeEnum runMode;
+
+    @Column("run_started_at")
+    private LocalDateTime runStartedAt;  // Calculation timestamp shared by every shard of the run
+
+    @Column("status")
+    private ShardStatusEnum status;
+
+    @Column("lease_owner")
+    private String leaseOwner;           // Instance currently holding the shard
+
+    @Column("lease_expires_at")
+    private LocalDateTime leaseExpiresAt;
+
+    @Column("attempts")
+    private Integer attempts;
+
+    @Column("cases_processed")
+    private Long casesProcessed;
+
+    @Column("total_ecl_cents")
+    private Long totalEclCents;
+
+    @Column("checkpoint_case_id")
+    private UUID checkpointCaseId;       // Last case of the last committed chunk, processing resumes after it
+
+    @Column("checkpointed_at")
+    private LocalDateTime checkpointedAt;
+
+    @Column("completed_at")
+    private LocalDateTime completedAt;
+
+    @Column("created_at")
+    private LocalDateTime createdAt;
+
+    @Column("updated_at")
+    private LocalDateTime updatedAt;
+}
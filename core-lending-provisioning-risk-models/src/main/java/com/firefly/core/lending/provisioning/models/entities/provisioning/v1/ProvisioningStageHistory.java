@@ -67,4 +67,7 @@ public class ProvisioningStageHistory {
 
     @Column("updated_at")
     private LocalDateTime updatedAt;
+
+    @Column("version")
+    private Long version;             // Incremented by every update
 }
\ No newline at end of file
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.provisioning.models.projections.provisioning.v1;
+
+import com.firefly.core.lending.provisioning.interfaces.enums.assessment.v1.ScenarioCodeEnum;
+import com.firefly.core.lending.provisioning.interfaces.enums.provisioning.v1.CalcMethodEnum;
+import com.firefly.core.lending.provisioning.interfaces.enums.provisioning.v1.RiskGradeEnum;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.relational.core.mapping.Column;
+
+import java.util.UUID;
+
+/**
+ * Read-only projection of the calculation a provisioning run wrote for a case, joined with one of
+ * the scenario inputs recorded when it was computed, as written to a run archive. Not backed by a table.
+ *
+ * <p>A calculation without recorded inputs comes back once with the input columns null.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArchiveCaseRow {
+
+    @Column("provisioning_calculation_id")
+    private UUID provisioningCalculationId;
+
+    @Column("provisioning_case_id")
+    private UUID provisioningCaseId;
+
+    @Column("risk_assessment_id")
+    private UUID riskAssessmentId;       // Assessment the calculation refers to
+
+    @Column("calc_method")
+    private CalcMethodEnum calcMethod;
+
+    @Column("final_ecl_cents")
+    private Long finalEclCents;
+
+    @Column("risk_grade")
+    private RiskGradeEnum riskGrade;
+
+    @Column("input_assessment_id")
+    private UUID inputAssessmentId;
+
+    @Column("scenario_code")
+    private ScenarioCodeEnum scenarioCode;
+
+    @Column("pd_value")
+    private Double pdValue;
+
+    @Column("lgd_value")
+    private Double lgdValue;
+
+    @Column("ead_cents")
+    private Long eadCents;
+
+    @Column("remaining_term_months")
+    private Integer remainingTermMonths;
+
+    @Column("effective_interest_rate")
+    private Double effectiveInterestRate;
+
+    @Column("modified_since_run")
+    private Boolean modifiedSinceRun;    // Assessment updated after the run completed
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.provisioning.models.projections.provisioning.v1;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.relational.core.mapping.Column;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Read-only projection of a journal entry posted by a provisioning run, as written to a run
+ * archive. Not backed by a table.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArchiveJournalRow {
+
+    @Column("provisioning_journal_id")
+    private UUID provisioningJournalId;
+
+    @Column("provisioning_calculation_id")
+    private UUID provisioningCalculationId;
+
+    @Column("accounting_journal_entry_id")
+    private UUID accountingJournalEntryId;
+
+    @Column("amount_cents")
+    private Long amountCents;
+
+    @Column("is_reversal")
+    private Boolean isReversal;
+
+    @Column("posted_at")
+    private LocalDateTime postedAt;
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.provisioning.models.projections.provisioning.v1;
+
+import com.firefly.core.lending.provisioning.interfaces.enums.assessment.v1.StageCodeEnum;
+import com.firefly.core.lending.provisioning.interfaces.enums.provisioning.v1.ProvisioningStatusEnum;
+import com.firefly.core.lending.provisioning.interfaces.enums.provisioning.v1.RiskGradeEnum;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.relational.core.mapping.Column;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * One (stage, grade, status) cell of {@code provisioning_ecl_aggregate}, kept current by triggers
+ * on {@code provisioning_case}.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EclAggregateRow {
+
+    @Column("stage_code")
+    private StageCodeEnum stageCode;
+
+    @Column("risk_grade")
+    private RiskGradeEnum riskGrade;
+
+    @Column("provisioning_status")
+    private ProvisioningStatusEnum provisioningStatus;
+
+    @Column("case_count")
+    private Long caseCount;
+
+    @Column("total_ecl")
+    private BigDecimal totalEcl;
+
+    @Column("updated_at")
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.provisioning.models.projections.provisioning.v1;
+
+import com.firefly.core.lending.provisioning.interfaces.enums.provisioning.v1.RunModeEnum;
+import com.firefly.core.lending.provisioning.interfaces.enums.provisioning.v1.RunStatusEnum;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.relational.core.mapping.Column;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * A registered provisioning run with its progress summed over its shards while it runs, or its
+ * recorded totals once it is finished. Not backed by a table.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RunProgressRow {
+
+    @Column("run_mode")
+    private RunModeEnum runMode;
+
+    @Column("status")
+    private RunStatusEnum status;
+
+    @Column("shard_count")
+    private Integer shardCount;
+
+    @Column("shards_completed")
+    private Integer shardsCompleted;
+
+    @Column("shards_failed")
+    private Integer shardsFailed;
+
+    @Column("cases_processed")
+    private Long casesProcessed;
+
+    @Column("total_ecl")
+    private BigDecimal totalEcl;
+
+    @Column("started_at")
+    private LocalDateTime startedAt;
+
+    @Column("completed_at")
+    private LocalDateTime completedAt;
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.provisioning.models.projections.provisioning.v1;
+
+import com.firefly.core.lending.provisioning.interfaces.enums.assessment.v1.ScenarioCodeEnum;
+import com.firefly.core.lending.provisioning.interfaces.enums.assessment.v1.StageCodeEnum;
+import com.firefly.core.lending.provisioning.interfaces.enums.provisioning.v1.ProvisioningStatusEnum;
+import com.firefly.core.lending.provisioning.interfaces.enums.provisioning.v1.RiskGradeEnum;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.relational.core.mapping.Column;
+
+import java.util.UUID;
+
+/**
+ * Read-only projection of a provisioning case with its latest complete risk assessment for one
+ * scenario, as loaded into the in-process portfolio snapshot. Not backed by a table.
+ *
+ * <p>A case without any complete assessment comes back once with the assessment columns null.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SnapshotRow {
+
+    @Column("provisioning_case_id")
+    private UUID provisioningCaseId;
+
+    @Column("stage_code")
+    private StageCodeEnum stageCode;
+
+    @Column("risk_grade")
+    private RiskGradeEnum riskGrade;
+
+    @Column("provisioning_status")
+    private ProvisioningStatusEnum provisioningStatus;
+
+    @Column("ecl_cents")
+    private Long eclCents;
+
+    @Column("scenario_code")
+    private ScenarioCodeEnum scenarioCode;
+
+    @Column("pd_value")
+    private Double pdValue;
+
+    @Column("lgd_value")
+    private Double lgdValue;
+
+    @Column("ead_cents")
+    private Long eadCents;
+}
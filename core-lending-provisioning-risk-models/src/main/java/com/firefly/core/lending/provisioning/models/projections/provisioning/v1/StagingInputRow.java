@@ -0,0 +1,57 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.provisioning.models.projections.provisioning.v1;
+
+import com.firefly.core.lending.provisioning.interfaces.enums.assessment.v1.StageCodeEnum;
+import com.firefly.core.lending.provisioning.interfaces.enums.provisioning.v1.RiskGradeEnum;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.relational.core.mapping.Column;
+
+import java.util.UUID;
+
+/**
+ * Read-only projection of a provisioning case with the risk inputs its staging depends on:
+ * the latest and the earliest (origination) base-scenario assessment. Not backed by a table.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StagingInputRow {
+
+    @Column("provisioning_case_id")
+    private UUID provisioningCaseId;
+
+    @Column("stage_code")
+    private StageCodeEnum stageCode;
+
+    @Column("risk_grade")
+    private RiskGradeEnum riskGrade;
+
+    @Column("current_pd")
+    private Double currentPd;        // PD of the latest base-scenario assessment
+
+    @Column("origination_pd")
+    private Double originationPd;    // PD of the earliest base-scenario assessment
+
+    @Column("details")
+    private String details;          // Details of the latest assessment (days past due)
+}
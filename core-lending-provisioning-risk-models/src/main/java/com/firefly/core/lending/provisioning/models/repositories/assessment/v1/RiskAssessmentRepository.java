@@ -19,8 +19,82 @@ package com.firefly.core.lending.provisioning.models.repositories.assessment.v1;
 
 import com.firefly.core.lending.provisioning.models.entities.assessment.v1.RiskAssessment;
 import com.firefly.core.lending.provisioning.models.repositories.BaseRepository;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import reactor.core.publisher.Mono;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 public interface RiskAssessmentRepository extends BaseRepository<RiskAssessment, UUID> {
+
+    Mono<RiskAssessment> findByRiskAssessmentIdAndProvisioningCaseId(UUID riskAssessmentId, UUID provisioningCaseId);
+
+    Mono<RiskAssessment> findFirstByProvisioningCaseIdOrderByAssessmentDateDescCreatedAtDesc(UUID provisioningCaseId);
+
+    /**
+     * Inserts one risk assessment per array position in a single multi-row statement. Arrays are
+     * index-aligned; decimals and timestamps travel as their ISO text form and are cast server-side.
+     *
+     * @return the number of rows inserted
+     */
+    @Modifying
+    @Query("""
+            INSERT INTO risk_assessment
+                   (risk_assessment_id, provisioning_case_id, pd_value, lgd_value, ead_value,
+                    model_version, scenario_code, assessment_date, details, created_at, updated_at)
+            SELECT t.risk_assessment_id, t.provisioning_case_id, t.pd_value, t.lgd_value, t.ead_value,
+                   t.model_version, t.scenario_code, t.assessment_date, t.details, NOW(), NOW()
+              FROM unnest(:riskAssessmentIds, :caseIds,
+                          CAST(:pdValues AS numeric[]), CAST(:lgdValues AS numeric[]), CAST(:eadValues AS numeric[]),
+                          CAST(:modelVersions AS varchar[]), CAST(:scenarioCodes AS scenario_code[]),
+                          CAST(:assessmentDates AS timestamp[]), CAST(:details AS text[]))
+                   AS t(risk_assessment_id, provisioning_case_id, pd_value, lgd_value, ead_value,
+                        model_version, scenario_code, assessment_date, details)
+            """)
+    Mono<Integer> insertBatch(UUID[] riskAssessmentIds, UUID[] caseIds, String[] pdValues, String[] lgdValues,
+                              String[] eadValues, String[] modelVersions, String[] scenarioCodes,
+                              String[] assessmentDates, String[] details);
+
+    /**
+     * Replaces an assessment of the given case in one round trip. The update only applies while the
+     * assessment still has {@code expectedVersion}, or unconditionally when it is null, and
+     * increments the version.
+     *
+     * @return the updated assessment; empty if it does not exist under the case or has moved past
+     * the expected version
+     */
+    @Query("""
+            UPDATE risk_assessment
+               SET pd_value = :pdValue,
+                   lgd_value = :lgdValue,
+                   ead_value = :eadValue,
+                   model_version = :modelVersion,
+                   scenario_code = CAST(:scenarioCode AS scenario_code),
+                   assessment_date = :assessmentDate,
+                   details = :details,
+                   version = version + 1
+             WHERE risk_assessment_id = :riskAssessmentId
+               AND provisioning_case_id = :provisioningCaseId
+               AND (CAST(:expectedVersion AS bigint) IS NULL OR version = :expectedVersion)
+            RETURNING *
+            """)
+    Mono<RiskAssessment> updateIfCurrent(UUID riskAssessmentId, UUID provisioningCaseId, BigDecimal pdValue,
+                                         BigDecimal lgdValue, BigDecimal eadValue, String modelVersion,
+                                         String scenarioCode, LocalDateTime assessmentDate, String details,
+                                         Long expectedVersion);
+
+    /**
+     * Deletes an assessment only if it belongs to the given case, in one statement.
+     *
+     * @return the number of rows deleted: 1, or 0 if no such assessment exists under the case
+     */
+    @Modifying
+    @Query("""
+            DELETE FROM risk_assessment
+             WHERE risk_assessment_id = :riskAssessmentId
+               AND provisioning_case_id = :provisioningCaseId
+            """)
+    Mono<Integer> deleteByRiskAssessmentIdAndProvisioningCaseId(UUID riskAssessmentId, UUID provisioningCaseId);
 }
@@ -18,9 +18,230 @@
 package com.firefly.core.lending.provisioning.models.repositories.provisioning.v1;
 
 import com.firefly.core.lending.provisioning.models.entities.provisioning.v1.ProvisioningCalculation;
+import com.firefly.core.lending.provisioning.models.projections.provisioning.v1.ArchiveCaseRow;
+import com.firefly.core.lending.provisioning.models.projections.provisioning.v1.RunPurgeTotalsRow;
 import com.firefly.core.lending.provisioning.models.repositories.BaseRepository;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 public interface ProvisioningCalculationRepository extends BaseRepository<ProvisioningCalculation, UUID> {
-}
\ No newline at end of file
+
+    Mono<ProvisioningCalculation> findByProvisioningCalculationIdAndProvisioningCaseId(UUID provisioningCalculationId,
+                                                                                    UUID provisioningCaseId);
+
+    /**
+     * Inserts one calculation per array position and copies the resulting ECL onto the owning
+     * provisioning case in a single statement. Case arrays are index-aligned; ECL values are in cents.
+     * The case's {@code last_calculated_at} watermark only moves forward, so a slower, older run
+     * never hides changes from a newer one. Calculations are tagged with the run that wrote them and
+     * keyed on (run, case): writing a case the run already calculated, as a retried chunk does,
+     * overwrites that calculation instead of adding another.
+     *
+     * <p>The input arrays hold one row per scenario the engine read, tagged with its case, and are
+     * recorded against the case's calculation along with the case's risk grade, so the run can be
+     * archived later exactly as it was computed.
+     *
+     * @return the number of provisioning cases updated
+     */
+    @Modifying
+    @Query("""
+            WITH input AS (
+                SELECT *
+                  FROM unnest(:caseIds, :riskAssessmentIds, :finalEclCents, CAST(:calcMethods AS calc_method[]),
+                              CAST(:riskGrades AS risk_grade[]))
+                       AS t(provisioning_case_id, risk_assessment_id, final_ecl_cents, calc_method, risk_grade)
+            ), inserted AS (
+                INSERT INTO provisioning_calculation AS pc
+                       (provisioning_case_id, risk_assessment_id, final_ecl, calc_method,
+                        calc_timestamp, notes, provisioning_run_id, created_at, updated_at)
+                SELECT provisioning_case_id, risk_assessment_id, final_ecl_cents / 100.0, calc_method,
+                       :calculatedAt, :notes, :provisioningRunId, NOW(), NOW()
+                  FROM input
+                    ON CONFLICT (provisioning_run_id, provisioning_case_id)
+                       WHERE provisioning_run_id IS NOT NULL DO UPDATE
+                   SET risk_assessment_id = EXCLUDED.risk_assessment_id,
+                       final_ecl          = EXCLUDED.final_ecl,
+                       calc_method        = EXCLUDED.calc_method,
+                       calc_timestamp     = EXCLUDED.calc_timestamp,
+                       notes              = EXCLUDED.notes,
+                       updated_at         = NOW(),
+                       version            = pc.version + 1
+             RETURNING pc.provisioning_calculation_id, pc.provisioning_case_id
+            ), inputs AS (
+                INSERT INTO provisioning_calculation_input AS ci
+                       (provisioning_calculation_id, scenario_code, risk_assessment_id, risk_grade,
+                        pd_value, lgd_value, ead_cents, remaining_term_months, effective_interest_rate)
+                SELECT ins.provisioning_calculation_id, s.scenario_code, s.risk_assessment_id, i.risk_grade,
+                       s.pd_value, s.lgd_value, s.ead_cents, s.remaining_term_months, s.effective_interest_rate
+                  FROM unnest(:inputCaseIds, :inputAssessmentIds, CAST(:inputScenarioCodes AS scenario_code[]),
+                              :inputPdValues, :inputLgdValues, :inputEadCents, :inputTermMonths,
+                              :inputEffectiveInterestRates)
+                       AS s(provisioning_case_id, risk_assessment_id, scenario_code, pd_value, lgd_value,
+                            ead_cents, remaining_term_months, effective_interest_rate)
+                  JOIN inserted ins ON ins.provisioning_case_id = s.provisioning_case_id
+                  JOIN input i ON i.provisioning_case_id = s.provisioning_case_id
+                    ON CONFLICT (provisioning_calculation_id, scenario_code) DO UPDATE
+                   SET risk_assessment_id      = EXCLUDED.risk_assessment_id,
+                       risk_grade              = EXCLUDED.risk_grade,
+                       pd_value                = EXCLUDED.pd_value,
+                       lgd_value               = EXCLUDED.lgd_value,
+                       ead_cents               = EXCLUDED.ead_cents,
+                       remaining_term_months   = EXCLUDED.remaining_term_months,
+                       effective_interest_rate = EXCLUDED.effective_interest_rate
+            )
+            UPDATE provisioning_case c
+               SET ecl_amount = i.final_ecl_cents / 100.0,
+                   last_calculated_at = :calculatedAt,
+                   updated_at = NOW(),
+                   version = c.version + 1
+              FROM input i
+             WHERE c.provisioning_case_id = i.provisioning_case_id
+               AND (c.last_calculated_at IS NULL OR c.last_calculated_at <= :calculatedAt)
+            """)
+    Mono<Integer> saveEclBatch(UUID[] caseIds, UUID[] riskAssessmentIds, Long[] finalEclCents,
+                               String[] calcMethods, String[] riskGrades, UUID[] inputCaseIds,
+                               UUID[] inputAssessmentIds, String[] inputScenarioCodes, Double[] inputPdValues,
+                               Double[] inputLgdValues, Long[] inputEadCents, Integer[] inputTermMonths,
+                               Double[] inputEffectiveInterestRates, LocalDateTime calculatedAt, String notes,
+                               UUID provisioningRunId);
+
+    /**
+     * Streams the latest calculation a run wrote for each case with the scenario inputs recorded
+     * when it was computed. Rows are ordered by case ID and scenario so that a case's calculation
+     * and inputs arrive together. Inputs whose assessment was updated after {@code asOf}, or has
+     * since been deleted, are flagged: the live assessment no longer holds what the run read.
+     */
+    @Query("""
+            WITH calc AS (
+                SELECT DISTINCT ON (provisioning_case_id)
+                       provisioning_calculation_id, provisioning_case_id, risk_assessment_id, calc_method,
+                       (final_ecl * 100)::bigint AS final_ecl_cents
+                  FROM provisioning_calculation
+                 WHERE provisioning_run_id = :provisioningRunId
+                   AND final_ecl IS NOT NULL
+                 ORDER BY provisioning_case_id, calc_timestamp DESC, created_at DESC
+            )
+            SELECT calc.provisioning_calculation_id, calc.provisioning_case_id, calc.risk_assessment_id,
+                   calc.calc_method, calc.final_ecl_cents, COALESCE(ci.risk_grade, c.risk_grade) AS risk_grade,
+                   ci.risk_assessment_id AS input_assessment_id, ci.scenario_code,
+                   ci.pd_value, ci.lgd_value, ci.ead_cents, ci.remaining_term_months, ci.effective_interest_rate,
+                   COALESCE(r.updated_at > :asOf, ci.risk_assessment_id IS NOT NULL) AS modified_since_run
+              FROM calc
+              JOIN provisioning_case c ON c.provisioning_case_id = calc.provisioning_case_id
+              LEFT JOIN provisioning_calculation_input ci
+                     ON ci.provisioning_calculation_id = calc.provisioning_calculation_id
+              LEFT JOIN risk_assessment r ON r.risk_assessment_id = ci.risk_assessment_id
+             ORDER BY calc.provisioning_case_id, ci.scenario_code
+            """)
+    Flux<ArchiveCaseRow> streamRunArchiveRows(UUID provisioningRunId, LocalDateTime asOf);
+
+    /**
+     * Replaces the assessment reference and result fields of a calculation of the given case in one
+     * round trip. The update only applies while the calculation still has {@code expectedVersion},
+     * or unconditionally when it is null, and increments the version.
+     *
+     * @return the updated calculation; empty if it does not exist under the case or has moved past
+     * the expected version
+     */
+    @Query("""
+            UPDATE provisioning_calculation
+               SET risk_assessment_id = :riskAssessmentId,
+                   final_ecl = :finalEcl,
+                   calc_method = CAST(:calcMethod AS calc_method),
+                   calc_timestamp = :calcTimestamp,
+                   notes = :notes,
+                   updated_at = NOW(),
+                   version = version + 1
+             WHERE provisioning_calculation_id = :provisioningCalculationId
+               AND provisioning_case_id = :provisioningCaseId
+               AND (CAST(:expectedVersion AS bigint) IS NULL OR version = :expectedVersion)
+            RETURNING *
+            """)
+    Mono<ProvisioningCalculation> updateIfCurrent(UUID provisioningCalculationId, UUID provisioningCaseId,
+                                                  UUID riskAssessmentId, BigDecimal finalEcl, String calcMethod,
+                                                  LocalDateTime calcTimestamp, String notes, Long expectedVersion);
+
+    /**
+     * Deletes a calculation only if it belongs to the given case, in one statement.
+     *
+     * @return the number of rows deleted: 1, or 0 if no such calculation exists under the case
+     */
+    @Modifying
+    @Query("""
+            DELETE FROM provisioning_calculation
+             WHERE provisioning_calculation_id = :provisioningCalculationId
+               AND provisioning_case_id = :provisioningCaseId
+            """)
+    Mono<Integer> deleteByProvisioningCalculationIdAndProvisioningCaseId(UUID provisioningCalculationId,
+                                                                         UUID provisioningCaseId);
+
+    /**
+     * Purges the draft calculations of a FAILED run in one statement: every calculation the run
+     * wrote that no journal entry refers to. Cases still carrying the run's ECL go back to their
+     * latest calculation from any other run, or to zero and never calculated if there is none, so
+     * the next incremental run picks them up. The run's shards lose their checkpoints and are marked
+     * FAILED, so resuming the run recomputes it from the start. Does nothing unless the run is FAILED.
+     *
+     * @return the calculations deleted, the cases reverted and their ids, and the calculations kept
+     * because they were posted
+     */
+    @Query("""
+            WITH failed_run AS (
+                SELECT provisioning_run_id
+                  FROM provisioning_run
+                 WHERE provisioning_run_id = :provisioningRunId
+                   AND status = 'FAILED'
+            ), purged AS (
+                DELETE FROM provisioning_calculation pc
+                 USING failed_run r
+                 WHERE pc.provisioning_run_id = r.provisioning_run_id
+                   AND NOT EXISTS (SELECT 1
+                                     FROM provisioning_journal j
+                                    WHERE j.provisioning_calculation_id = pc.provisioning_calculation_id)
+                RETURNING pc.provisioning_case_id, pc.calc_timestamp
+            ), reverted AS (
+                UPDATE provisioning_case c
+                   SET ecl_amount = COALESCE(prev.final_ecl, 0),
+                       last_calculated_at = prev.calc_timestamp,
+                       updated_at = NOW(),
+                       version = c.version + 1
+                  FROM purged p
+                  LEFT JOIN LATERAL (
+                        SELECT o.final_ecl, o.calc_timestamp
+                          FROM provisioning_calculation o
+                         WHERE o.provisioning_case_id = p.provisioning_case_id
+                           AND o.provisioning_run_id IS DISTINCT FROM :provisioningRunId
+                         ORDER BY o.calc_timestamp DESC, o.created_at DESC
+                         LIMIT 1
+                       ) prev ON TRUE
+                 WHERE c.provisioning_case_id = p.provisioning_case_id
+                   AND c.last_calculated_at = p.calc_timestamp
+                RETURNING c.provisioning_case_id
+            ), reset AS (
+                UPDATE provisioning_run_shard s
+                   SET status = 'FAILED',
+                       checkpoint_case_id = NULL,
+                       checkpointed_at = NULL,
+                       cases_processed = 0,
+                       total_ecl_cents = 0,
+                       completed_at = NULL,
+                       updated_at = NOW()
+                  FROM failed_run r
+                 WHERE s.provisioning_run_id = r.provisioning_run_id
+            )
+            SELECT (SELECT COUNT(*) FROM purged) AS calculations_deleted,
+                   (SELECT COUNT(*) FROM reverted) AS cases_reverted,
+                   (SELECT COUNT(*)
+                      FROM provisioning_calculation pc
+                      JOIN failed_run r ON r.provisioning_run_id = pc.provisioning_run_id)
+                       - (SELECT COUNT(*) FROM purged) AS calculations_kept,
+                   ARRAY(SELECT provisioning_case_id FROM reverted) AS reverted_case_ids
+            """)
+    Mono<RunPurgeTotalsRow> purgeDraftCalculations(UUID provisioningRunId);
+}
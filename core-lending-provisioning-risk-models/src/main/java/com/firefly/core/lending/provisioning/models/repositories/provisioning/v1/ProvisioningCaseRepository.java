@@ -18,9 +18,340 @@
 package com.firefly.core.lending.provisioning.models.repositories.provisioning.v1;
 
 import com.firefly.core.lending.provisioning.models.entities.provisioning.v1.ProvisioningCase;
+import com.firefly.core.lending.provisioning.models.projections.provisioning.v1.CaseUpsertRow;
+import com.firefly.core.lending.provisioning.models.projections.provisioning.v1.EclAggregateRow;
+import com.firefly.core.lending.provisioning.models.projections.provisioning.v1.EclInputRow;
+import com.firefly.core.lending.provisioning.models.projections.provisioning.v1.ExposureRow;
+import com.firefly.core.lending.provisioning.models.projections.provisioning.v1.SnapshotRow;
+import com.firefly.core.lending.provisioning.models.projections.provisioning.v1.StagingInputRow;
 import com.firefly.core.lending.provisioning.models.repositories.BaseRepository;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 public interface ProvisioningCaseRepository extends BaseRepository<ProvisioningCase, UUID> {
+
+    /**
+     * Streams every ACTIVE case joined with its most recent risk assessment for each of the given
+     * scenarios, ordered by case ID and scenario so that all rows of a case arrive together.
+     * Assessments without a complete PD/LGD/EAD triple are skipped. Assessment details are only
+     * returned for cases measured on a lifetime basis (anything but STAGE_1).
+     *
+     * <p>Only the cases of one hash partition of {@code provisioning_case_id} are read: those for
+     * which {@code hashtext(id) mod shardCount = shardNo}. A shard count of 1 reads the whole book.
+     * Cases up to and including {@code afterCaseId}, when given, are skipped, which is how a shard
+     * resumes from its checkpoint.
+     */
+    @Query("""
+            SELECT DISTINCT ON (c.provisioning_case_id, ra.scenario_code)
+                   c.provisioning_case_id, c.stage_code, c.risk_grade,
+                   ra.risk_assessment_id, ra.scenario_code,
+                   ra.pd_value::float8 AS pd_value,
+                   ra.lgd_value::float8 AS lgd_value,
+                   (ra.ead_value * 100)::bigint AS ead_cents,
+                   CASE WHEN c.stage_code <> 'STAGE_1' THEN ra.details END AS details
+              FROM provisioning_case c
+              JOIN risk_assessment ra ON ra.provisioning_case_id = c.provisioning_case_id
+             WHERE c.provisioning_status = 'ACTIVE'
+               AND mod(hashtext(CAST(c.provisioning_case_id AS text)) & 2147483647, :shardCount) = :shardNo
+               AND (CAST(:afterCaseId AS uuid) IS NULL OR c.provisioning_case_id > :afterCaseId)
+               AND ra.scenario_code = ANY(CAST(:scenarioCodes AS scenario_code[]))
+               AND ra.pd_value IS NOT NULL
+               AND ra.lgd_value IS NOT NULL
+               AND ra.ead_value IS NOT NULL
+             ORDER BY c.provisioning_case_id, ra.scenario_code, ra.assessment_date DESC, ra.created_at DESC
+            """)
+    Flux<EclInputRow> streamActiveEclInputs(String[] scenarioCodes, int shardNo, int shardCount,
+                                             UUID afterCaseId);
+
+    /**
+     * Same rows as {@link #streamActiveEclInputs(String[], int, int, UUID)}, from the same hash
+     * partition and checkpoint, restricted to ACTIVE cases whose inputs changed since their last
+     * calculation: never calculated, a risk assessment updated after {@code last_calculated_at}, or a
+     * stage change recorded after it. Candidates are found through the {@code updated_at}/
+     * {@code changed_at} indexes from the start of the latest run that completed before
+     * {@code runStartedAt}: that run took in every change made before it started, so only the
+     * changes since are scanned, and unchanged cases are never visited. The watermark does not move
+     * with a run that failed, and falls back to the lowest case watermark of the book when no run
+     * has completed yet.
+     */
+    @Query("""
+            WITH since AS (
+                SELECT COALESCE(
+                           (SELECT MAX(r.started_at)
+                              FROM provisioning_run r
+                             WHERE r.status = 'COMPLETED'
+                               AND r.started_at < :runStartedAt),
+                           (SELECT MIN(last_calculated_at)
+                              FROM provisioning_case
+                             WHERE provisioning_status = 'ACTIVE')) AS ts
+            ), candidates AS (
+                SELECT provisioning_case_id
+                  FROM provisioning_case
+                 WHERE provisioning_status = 'ACTIVE' AND last_calculated_at IS NULL
+                UNION
+                SELECT ra.provisioning_case_id
+                  FROM risk_assessment ra, since
+                 WHERE ra.updated_at > since.ts
+                UNION
+                SELECT h.provisioning_case_id
+                  FROM provisioning_stage_history h, since
+                 WHERE h.changed_at > since.ts
+            )
+            SELECT DISTINCT ON (c.provisioning_case_id, ra.scenario_code)
+                   c.provisioning_case_id, c.stage_code, c.risk_grade,
+                   ra.risk_assessment_id, ra.scenario_code,
+                   ra.pd_value::float8 AS pd_value,
+                   ra.lgd_value::float8 AS lgd_value,
+                   (ra.ead_value * 100)::bigint AS ead_cents,
+                   CASE WHEN c.stage_code <> 'STAGE_1' THEN ra.details END AS details
+              FROM candidates cand
+              JOIN provisioning_case c ON c.provisioning_case_id = cand.provisioning_case_id
+              JOIN risk_assessment ra ON ra.provisioning_case_id = c.provisioning_case_id
+             WHERE c.provisioning_status = 'ACTIVE'
+               AND (c.last_calculated_at IS NULL
+                    OR EXISTS (SELECT 1
+                                 FROM risk_assessment changed
+                                WHERE changed.provisioning_case_id = c.provisioning_case_id
+                                  AND changed.updated_at > c.last_calculated_at)
+                    OR EXISTS (SELECT 1
+                                 FROM provisioning_stage_history h
+                                WHERE h.provisioning_case_id = c.provisioning_case_id
+                                  AND h.changed_at > c.last_calculated_at))
+               AND mod(hashtext(CAST(c.provisioning_case_id AS text)) & 2147483647, :shardCount) = :shardNo
+               AND (CAST(:afterCaseId AS uuid) IS NULL OR c.provisioning_case_id > :afterCaseId)
+               AND ra.scenario_code = ANY(CAST(:scenarioCodes AS scenario_code[]))
+               AND ra.pd_value IS NOT NULL
+               AND ra.lgd_value IS NOT NULL
+               AND ra.ead_value IS NOT NULL
+             ORDER BY c.provisioning_case_id, ra.scenario_code, ra.assessment_date DESC, ra.created_at DESC
+            """)
+    Flux<EclInputRow> streamChangedEclInputs(String[] scenarioCodes, int shardNo, int shardCount,
+                                              UUID afterCaseId, LocalDateTime runStartedAt);
+
+    /**
+     * Streams the PD, LGD and EAD of every ACTIVE case from its latest assessment under the given
+     * scenario, falling back to its latest BASE assessment when it has none, so a stress scenario
+     * always covers the whole book. Cases with neither are skipped.
+     */
+    @Query("""
+            SELECT DISTINCT ON (c.provisioning_case_id)
+                   ra.pd_value::float8 AS pd_value,
+                   ra.lgd_value::float8 AS lgd_value,
+                   (ra.ead_value * 100)::bigint AS ead_cents
+              FROM provisioning_case c
+              JOIN risk_assessment ra ON ra.provisioning_case_id = c.provisioning_case_id
+             WHERE c.provisioning_status = 'ACTIVE'
+               AND ra.scenario_code IN (CAST(:scenarioCode AS scenario_code), 'BASE')
+               AND ra.pd_value IS NOT NULL
+               AND ra.lgd_value IS NOT NULL
+               AND ra.ead_value IS NOT NULL
+             ORDER BY c.provisioning_case_id,
+                      ra.scenario_code = CAST(:scenarioCode AS scenario_code) DESC,
+                      ra.assessment_date DESC, ra.created_at DESC
+            """)
+    Flux<ExposureRow> streamExposures(String scenarioCode);
+
+    /**
+     * Streams every ACTIVE, non-POCI case with the PD and details of its latest base-scenario
+     * assessment that has a PD and the PD of its earliest one, which stands for credit risk at
+     * origination. Both are null for a case without such an assessment.
+     * Both lookups are index seeks on the (case, scenario, assessment date) index.
+     */
+    @Query("""
+            SELECT c.provisioning_case_id, c.stage_code, c.risk_grade,
+                   cur.pd_value::float8 AS current_pd,
+                   orig.pd_value::float8 AS origination_pd,
+                   cur.details
+              FROM provisioning_case c
+              LEFT JOIN LATERAL (
+                    SELECT ra.pd_value, ra.details
+                      FROM risk_assessment ra
+                     WHERE ra.provisioning_case_id = c.provisioning_case_id
+                       AND ra.scenario_code = 'BASE'
+                       AND ra.pd_value IS NOT NULL
+                     ORDER BY ra.assessment_date DESC, ra.created_at DESC
+                     LIMIT 1) cur ON TRUE
+              LEFT JOIN LATERAL (
+                    SELECT ra.pd_value
+                      FROM risk_assessment ra
+                     WHERE ra.provisioning_case_id = c.provisioning_case_id
+                       AND ra.scenario_code = 'BASE'
+                       AND ra.pd_value IS NOT NULL
+                     ORDER BY ra.assessment_date ASC, ra.created_at ASC
+                     LIMIT 1) orig ON TRUE
+             WHERE c.provisioning_status = 'ACTIVE'
+               AND c.stage_code <> 'POCI'
+            """)
+    Flux<StagingInputRow> streamStagingInputs();
+
+    /**
+     * Moves each case to its new stage and records the change in provisioning_stage_history in one
+     * statement. Arrays are index-aligned. A case is only moved if it is still in the stage it was
+     * evaluated in, so a concurrent manual restage is never overwritten or double-recorded.
+     *
+     * @return the number of cases moved
+     */
+    @Modifying
+    @Query("""
+            WITH input AS (
+                SELECT *
+                  FROM unnest(:caseIds, CAST(:fromStages AS stage_code[]), CAST(:toStages AS stage_code[]),
+                              CAST(:reasons AS text[]))
+                       AS t(provisioning_case_id, from_stage, to_stage, reason)
+            ), moved AS (
+                UPDATE provisioning_case c
+                   SET stage_code = i.to_stage,
+                       updated_at = :changedAt,
+                       version = c.version + 1
+                  FROM input i
+                 WHERE c.provisioning_case_id = i.provisioning_case_id
+                   AND c.stage_code = i.from_stage
+                RETURNING c.provisioning_case_id, i.from_stage, i.to_stage, i.reason, c.ecl_amount
+            )
+            INSERT INTO provisioning_stage_history
+                   (provisioning_case_id, old_stage_code, new_stage_code, ecl_amount_at_change,
+                    changed_at, changed_by, reason, created_at, updated_at)
+            SELECT provisioning_case_id, from_stage, to_stage, ecl_amount,
+                   :changedAt, :changedBy, reason, NOW(), NOW()
+              FROM moved
+            """)
+    Mono<Integer> applyStageTransitions(UUID[] caseIds, String[] fromStages, String[] toStages, String[] reasons,
+                                        LocalDateTime changedAt, String changedBy);
+
+    /**
+     * Reads the non-empty cells of the incrementally maintained ECL aggregate, optionally restricted
+     * to one stage, grade and/or status (null for all), in key order.
+     */
+    @Query("""
+            SELECT stage_code, risk_grade, provisioning_status, case_count, total_ecl, updated_at
+              FROM provisioning_ecl_aggregate
+             WHERE case_count <> 0
+               AND (CAST(:stageCode AS text) IS NULL OR stage_code = CAST(:stageCode AS stage_code))
+               AND (CAST(:riskGrade AS text) IS NULL OR risk_grade = CAST(:riskGrade AS risk_grade))
+               AND (CAST(:provisioningStatus AS text) IS NULL
+                    OR provisioning_status = CAST(:provisioningStatus AS provisioning_status))
+             ORDER BY stage_code, risk_grade, provisioning_status
+            """)
+    Flux<EclAggregateRow> findEclAggregates(String stageCode, String riskGrade, String provisioningStatus);
+
+    /**
+     * Streams every case, or with {@code since} only those updated or with a risk assessment updated
+     * after it, each joined with its latest complete assessment per scenario. Rows are ordered by
+     * case ID and scenario, so all rows of a case arrive together and cases arrive in UUID order.
+     */
+    @Query("""
+            SELECT c.provisioning_case_id, c.stage_code, c.risk_grade, c.provisioning_status,
+                   (COALESCE(c.ecl_amount, 0) * 100)::bigint AS ecl_cents,
+                   ra.scenario_code, ra.pd_value, ra.lgd_value, ra.ead_cents
+              FROM provisioning_case c
+              LEFT JOIN LATERAL (
+                    SELECT DISTINCT ON (r.scenario_code)
+                           r.scenario_code,
+                           r.pd_value::float8 AS pd_value,
+                           r.lgd_value::float8 AS lgd_value,
+                           (r.ead_value * 100)::bigint AS ead_cents
+                      FROM risk_assessment r
+                     WHERE r.provisioning_case_id = c.provisioning_case_id
+                       AND r.pd_value IS NOT NULL
+                       AND r.lgd_value IS NOT NULL
+                       AND r.ead_value IS NOT NULL
+                     ORDER BY r.scenario_code, r.assessment_date DESC, r.created_at DESC
+                   ) ra ON TRUE
+             WHERE CAST(:since AS timestamp) IS NULL
+                OR c.provisioning_case_id IN (
+                       SELECT provisioning_case_id FROM provisioning_case WHERE updated_at > :since
+                       UNION
+                       SELECT provisioning_case_id FROM risk_assessment WHERE updated_at > :since)
+             ORDER BY c.provisioning_case_id, ra.scenario_code
+            """)
+    Flux<SnapshotRow> streamSnapshotRows(LocalDateTime since);
+
+    /**
+     * Returns the IDs of the cases deleted after {@code since}.
+     */
+    @Query("""
+            SELECT DISTINCT provisioning_case_id
+              FROM provisioning_case_tombstone
+             WHERE deleted_at > :since
+            """)
+    Flux<UUID> findDeletedCaseIds(LocalDateTime since);
+
+    /**
+     * Drops the tombstones of cases deleted before {@code before}.
+     */
+    @Modifying
+    @Query("DELETE FROM provisioning_case_tombstone WHERE deleted_at < :before")
+    Mono<Integer> pruneTombstones(LocalDateTime before);
+
+    /**
+     * Returns the database clock, the time base of {@code updated_at} and {@code changed_at}.
+     */
+    @Query("SELECT LOCALTIMESTAMP")
+    Mono<LocalDateTime> currentTimestamp();
+
+    /**
+     * Inserts one provisioning case per array position in a single multi-row statement, or updates
+     * the case already holding the loan servicing case ID. Arrays are index-aligned and must not
+     * repeat a loan servicing case ID; decimals and timestamps travel as their ISO text form and are
+     * cast server-side. An update keeps the stored ECL amount and calculation time when none is given.
+     *
+     * @return one row per written case; {@code inserted} is derived from {@code xmax}, which is zero
+     * only for a row version created by an insert
+     */
+    @Query("""
+            INSERT INTO provisioning_case AS c
+                   (provisioning_case_id, loan_servicing_case_id, stage_code, ecl_amount, risk_grade,
+                    last_calculated_at, provisioning_status, remarks, created_at, updated_at)
+            SELECT t.provisioning_case_id, t.loan_servicing_case_id, t.stage_code, t.ecl_amount, t.risk_grade,
+                   t.last_calculated_at, t.provisioning_status, t.remarks, NOW(), NOW()
+              FROM unnest(:caseIds, :loanServicingCaseIds, CAST(:stageCodes AS stage_code[]),
+                          CAST(:eclAmounts AS numeric[]), CAST(:riskGrades AS risk_grade[]),
+                          CAST(:lastCalculatedAts AS timestamp[]),
+                          CAST(:provisioningStatuses AS provisioning_status[]), CAST(:remarks AS text[]))
+                   AS t(provisioning_case_id, loan_servicing_case_id, stage_code, ecl_amount, risk_grade,
+                        last_calculated_at, provisioning_status, remarks)
+                ON CONFLICT (loan_servicing_case_id) DO UPDATE
+               SET stage_code          = EXCLUDED.stage_code,
+                   ecl_amount          = COALESCE(EXCLUDED.ecl_amount, c.ecl_amount),
+                   risk_grade          = EXCLUDED.risk_grade,
+                   last_calculated_at  = COALESCE(EXCLUDED.last_calculated_at, c.last_calculated_at),
+                   provisioning_status = EXCLUDED.provisioning_status,
+                   remarks             = EXCLUDED.remarks,
+                   version             = c.version + 1
+            RETURNING c.provisioning_case_id, c.loan_servicing_case_id, (c.xmax = 0) AS inserted
+            """)
+    Flux<CaseUpsertRow> upsertBatch(UUID[] caseIds, UUID[] loanServicingCaseIds, String[] stageCodes,
+                                    String[] eclAmounts, String[] riskGrades, String[] lastCalculatedAts,
+                                    String[] provisioningStatuses, String[] remarks);
+
+    /**
+     * Replaces the editable fields of a case in one round trip. The update only applies while the
+     * case still has {@code expectedVersion}, or unconditionally when it is null, and increments the
+     * version.
+     *
+     * @return the updated case; empty if it does not exist or has moved past the expected version
+     */
+    @Query("""
+            UPDATE provisioning_case
+               SET loan_servicing_case_id = :loanServicingCaseId,
+                   stage_code = CAST(:stageCode AS stage_code),
+                   ecl_amount = :eclAmount,
+                   risk_grade = CAST(:riskGrade AS risk_grade),
+                   last_calculated_at = :lastCalculatedAt,
+                   provisioning_status = CAST(:provisioningStatus AS provisioning_status),
+                   remarks = :remarks,
+                   version = version + 1
+             WHERE provisioning_case_id = :provisioningCaseId
+               AND (CAST(:expectedVersion AS bigint) IS NULL OR version = :expectedVersion)
+            RETURNING *
+            """)
+    Mono<ProvisioningCase> updateIfCurrent(UUID provisioningCaseId, UUID loanServicingCaseId, String stageCode,
+                                           BigDecimal eclAmount, String riskGrade, LocalDateTime lastCalculatedAt,
+                                           String provisioningStatus, String remarks, Long expectedVersion);
 }
@@ -18,9 +18,175 @@
 package com.firefly.core.lending.provisioning.models.repositories.provisioning.v1;
 
 import com.firefly.core.lending.provisioning.models.entities.provisioning.v1.ProvisioningJournal;
+import com.firefly.core.lending.provisioning.models.projections.provisioning.v1.ArchiveJournalRow;
+import com.firefly.core.lending.provisioning.models.projections.provisioning.v1.JournalPostingTotalsRow;
 import com.firefly.core.lending.provisioning.models.repositories.BaseRepository;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 public interface ProvisioningJournalRepository extends BaseRepository<ProvisioningJournal, UUID> {
+
+    /**
+     * Loads a journal entry only if it belongs to the given calculation and that calculation belongs
+     * to the given provisioning case, so the whole path is checked in one indexed lookup. Without
+     * {@code posted_at} the lookup cannot be pruned and probes every partition's primary key.
+     */
+    @Query("""
+            SELECT j.*
+              FROM provisioning_journal j
+              JOIN provisioning_calculation c
+                ON c.provisioning_calculation_id = j.provisioning_calculation_id
+             WHERE j.provisioning_journal_id = :provisioningJournalId
+               AND j.provisioning_calculation_id = :provisioningCalculationId
+               AND c.provisioning_case_id = :provisioningCaseId
+            """)
+    Mono<ProvisioningJournal> findByProvisioningJournalIdAndProvisioningCalculationIdAndProvisioningCaseId(
+            UUID provisioningJournalId, UUID provisioningCalculationId, UUID provisioningCaseId);
+
+    /**
+     * Serialises journal postings for the rest of the transaction, so two runs posting at the same
+     * time cannot both compute their deltas against the same posted balance.
+     */
+    @Query("SELECT 1 FROM pg_advisory_xact_lock(hashtext('provisioning_journal_posting'))")
+    Mono<Integer> lockPostings();
+
+    /**
+     * Posts the ECL movement of every case calculated by a run in one statement. The delta is the
+     * run's final ECL minus everything already posted for the case, by any run including this one or
+     * by hand; decreases are posted as releases, ordinary entries with a negative amount that are
+     * not flagged as reversals, and zero deltas are skipped, so posting the same run again inserts
+     * nothing. A case the run has already posted is skipped as well, whichever of the run's
+     * calculations the entry points at, so entries made by hand after the posting are not offset by
+     * a repost. The balance relies on {@link #lockPostings()}; a second posting of the run is also
+     * rejected by the unique {@code (provisioning_run_id, provisioning_calculation_id, posted_at)}
+     * key, which holds because {@code postedAt} is the run's pinned posting timestamp.
+     *
+     * @return the number of entries, releases among them, and the net amount posted
+     */
+    @Query("""
+            WITH run_calc AS (
+                SELECT DISTINCT ON (provisioning_case_id)
+                       provisioning_calculation_id, provisioning_case_id, final_ecl
+                  FROM provisioning_calculation
+                 WHERE provisioning_run_id = :provisioningRunId
+                   AND final_ecl IS NOT NULL
+                 ORDER BY provisioning_case_id, calc_timestamp DESC, created_at DESC
+            ), balance AS (
+                SELECT pc.provisioning_case_id, SUM(j.provision_change_amount) AS posted_ecl
+                  FROM provisioning_journal j
+                  JOIN provisioning_calculation pc
+                    ON pc.provisioning_calculation_id = j.provisioning_calculation_id
+                 WHERE pc.provisioning_case_id IN (SELECT provisioning_case_id FROM run_calc)
+                 GROUP BY pc.provisioning_case_id
+            ), delta AS (
+                SELECT rc.provisioning_calculation_id, rc.provisioning_case_id,
+                       rc.final_ecl - COALESCE(b.posted_ecl, 0) AS amount
+                  FROM run_calc rc
+                  LEFT JOIN balance b ON b.provisioning_case_id = rc.provisioning_case_id
+            ), posted AS (
+                INSERT INTO provisioning_journal
+                       (provisioning_calculation_id, provisioning_run_id, provision_change_amount, posted_at,
+                        posting_description, is_reversal, created_at, updated_at)
+                SELECT provisioning_calculation_id, :provisioningRunId, amount, :postedAt,
+                       CASE WHEN amount < 0 THEN 'ECL release, run ' ELSE 'ECL charge, run ' END
+                           || CAST(:provisioningRunId AS text),
+                       FALSE, NOW(), NOW()
+                  FROM delta d
+                 WHERE amount <> 0
+                   AND NOT EXISTS (SELECT 1
+                                     FROM provisioning_journal j
+                                     JOIN provisioning_calculation pc
+                                       ON pc.provisioning_calculation_id = j.provisioning_calculation_id
+                                    WHERE j.provisioning_run_id = :provisioningRunId
+                                      AND pc.provisioning_case_id = d.provisioning_case_id)
+                    ON CONFLICT (provisioning_run_id, provisioning_calculation_id, posted_at) DO NOTHING
+                RETURNING provision_change_amount
+            )
+            SELECT COUNT(*) AS journals_posted,
+                   COUNT(*) FILTER (WHERE provision_change_amount < 0) AS releases_posted,
+                   COALESCE(SUM(provision_change_amount), 0) AS net_change
+              FROM posted
+            """)
+    Mono<JournalPostingTotalsRow> postRunDeltas(UUID provisioningRunId, LocalDateTime postedAt);
+
+    /**
+     * Streams the journal entries a run posted, ordered by calculation.
+     */
+    @Query("""
+            SELECT provisioning_journal_id, provisioning_calculation_id, accounting_journal_entry_id,
+                   (provision_change_amount * 100)::bigint AS amount_cents, is_reversal, posted_at
+              FROM provisioning_journal
+             WHERE provisioning_run_id = :provisioningRunId
+             ORDER BY provisioning_calculation_id, provisioning_journal_id
+            """)
+    Flux<ArchiveJournalRow> streamRunJournals(UUID provisioningRunId);
+
+    /**
+     * Creates the missing monthly {@code posted_at} partitions from the current month up to the
+     * given number of months ahead.
+     *
+     * @return the number of partitions created
+     */
+    @Query("""
+            SELECT create_monthly_partitions('provisioning_journal', 'posted_at',
+                                             CAST(LOCALTIMESTAMP AS date), :monthsAhead)
+            """)
+    Mono<Integer> createMonthlyPartitions(int monthsAhead);
+
+    /**
+     * Replaces a journal entry in one round trip, only if it belongs to the given calculation and
+     * that calculation to the given provisioning case. The update only applies while the entry still
+     * has {@code expectedVersion}, or unconditionally when it is null, and increments the version.
+     * A new {@code posted_at} moves the row to its month's partition. Like the lookup, it probes
+     * every partition to find the entry.
+     *
+     * @return the updated entry; empty if it does not exist under the path or has moved past the
+     * expected version
+     */
+    @Query("""
+            UPDATE provisioning_journal j
+               SET accounting_journal_entry_id = :accountingJournalEntryId,
+                   provision_change_amount = :provisionChangeAmount,
+                   posted_at = :postedAt,
+                   posting_description = :postingDescription,
+                   is_reversal = :isReversal,
+                   updated_at = NOW(),
+                   version = j.version + 1
+              FROM provisioning_calculation c
+             WHERE c.provisioning_calculation_id = j.provisioning_calculation_id
+               AND j.provisioning_journal_id = :provisioningJournalId
+               AND j.provisioning_calculation_id = :provisioningCalculationId
+               AND c.provisioning_case_id = :provisioningCaseId
+               AND (CAST(:expectedVersion AS bigint) IS NULL OR j.version = :expectedVersion)
+            RETURNING j.*
+            """)
+    Mono<ProvisioningJournal> updateIfCurrent(UUID provisioningJournalId, UUID provisioningCalculationId,
+                                              UUID provisioningCaseId, UUID accountingJournalEntryId,
+                                              BigDecimal provisionChangeAmount, LocalDateTime postedAt,
+                                              String postingDescription, Boolean isReversal,
+                                              Long expectedVersion);
+
+    /**
+     * Deletes a journal entry only if it belongs to the given calculation and that calculation to
+     * the given provisioning case, in one statement. Probes every partition to find the entry.
+     *
+     * @return the number of rows deleted: 1, or 0 if no such entry exists under the path
+     */
+    @Modifying
+    @Query("""
+            DELETE FROM provisioning_journal j
+             USING provisioning_calculation c
+             WHERE c.provisioning_calculation_id = j.provisioning_calculation_id
+               AND j.provisioning_journal_id = :provisioningJournalId
+               AND j.provisioning_calculation_id = :provisioningCalculationId
+               AND c.provisioning_case_id = :provisioningCaseId
+            """)
+    Mono<Integer> deleteByProvisioningJournalIdAndProvisioningCalculationIdAndProvisioningCaseId(
+            UUID provisioningJournalId, UUID provisioningCalculationId, UUID provisioningCaseId);
 }
@@ -0,0 +1,153 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.provisioning.models.repositories.provisioning.v1;
+
+import com.firefly.core.lending.provisioning.models.entities.provisioning.v1.ProvisioningRun;
+import com.firefly.core.lending.provisioning.models.projections.provisioning.v1.RunProgressRow;
+import com.firefly.core.lending.provisioning.models.repositories.BaseRepository;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public interface ProvisioningRunRepository extends BaseRepository<ProvisioningRun, UUID> {
+
+    /**
+     * Registers a RUNNING run together with its PENDING shards {@code 0 .. shardCount - 1} in one
+     * statement, so a run is never visible without its shards.
+     *
+     * @return the number of shards created
+     */
+    @Modifying
+    @Query("""
+            WITH run AS (
+                INSERT INTO provisioning_run
+                       (provisioning_run_id, run_mode, shard_count, parameters, status, started_at,
+                        created_at, updated_at)
+                VALUES (:provisioningRunId, :runMode, :shardCount, :parameters, 'RUNNING', :startedAt,
+                        NOW(), NOW())
+                RETURNING provisioning_run_id, run_mode, shard_count, started_at
+            )
+            INSERT INTO provisioning_run_shard
+                   (provisioning_run_id, shard_no, shard_count, run_mode, run_started_at, created_at, updated_at)
+            SELECT run.provisioning_run_id, n, run.shard_count, run.run_mode, run.started_at, NOW(), NOW()
+              FROM run, generate_series(0, run.shard_count - 1) AS n
+            """)
+    Mono<Integer> createRun(UUID provisioningRunId, String runMode, int shardCount, String parameters,
+                            LocalDateTime startedAt);
+
+    /**
+     * Closes a RUNNING run once none of its shards is open: FAILED if any shard failed, COMPLETED
+     * otherwise, recording the totals accumulated by its shards. Safe to call from every instance;
+     * only the first call after the last shard closes updates the run.
+     *
+     * @return 1 if the run was closed, 0 otherwise
+     */
+    @Modifying
+    @Query("""
+            UPDATE provisioning_run r
+               SET status = CASE WHEN s.shards_failed > 0 THEN 'FAILED' ELSE 'COMPLETED' END,
+                   cases_processed = s.cases_processed,
+                   total_ecl = s.total_ecl_cents / 100.0,
+                   completed_at = LOCALTIMESTAMP,
+                   updated_at = NOW()
+              FROM (SELECT COUNT(*) FILTER (WHERE status IN ('PENDING', 'RUNNING')) AS shards_open,
+                           COUNT(*) FILTER (WHERE status = 'FAILED') AS shards_failed,
+                           COALESCE(SUM(cases_processed), 0) AS cases_processed,
+                           COALESCE(SUM(total_ecl_cents), 0) AS total_ecl_cents
+                      FROM provisioning_run_shard
+                     WHERE provisioning_run_id = :provisioningRunId) s
+             WHERE r.provisioning_run_id = :provisioningRunId
+               AND r.status = 'RUNNING'
+               AND s.shards_open = 0
+            """)
+    Mono<Integer> closeIfDone(UUID provisioningRunId);
+
+    /**
+     * Puts a FAILED run back to RUNNING and its FAILED shards back to PENDING with a fresh attempt
+     * budget. Shards keep their checkpoints, so they resume after the last committed chunk.
+     *
+     * @return 1 if the run was reopened, 0 if it was not FAILED
+     */
+    @Modifying
+    @Query("""
+            WITH shards AS (
+                UPDATE provisioning_run_shard
+                   SET status = 'PENDING',
+                       attempts = 0,
+                       updated_at = NOW()
+                 WHERE provisioning_run_id = :provisioningRunId
+                   AND status = 'FAILED'
+                   AND EXISTS (SELECT 1
+                                 FROM provisioning_run
+                                WHERE provisioning_run_id = :provisioningRunId
+                                  AND status = 'FAILED')
+            )
+            UPDATE provisioning_run
+               SET status = 'RUNNING',
+                   completed_at = NULL,
+                   updated_at = NOW()
+             WHERE provisioning_run_id = :provisioningRunId
+               AND status = 'FAILED'
+            """)
+    Mono<Integer> reopen(UUID provisioningRunId);
+
+    /**
+     * Returns the posting timestamp of a COMPLETED run, setting it to the database clock on the
+     * first call. Every posting of the run is dated with it, so posting the run again lands on the
+     * journal's unique {@code (provisioning_run_id, provisioning_calculation_id, posted_at)} key.
+     *
+     * @return the run's posting timestamp, or empty if the run is not COMPLETED
+     */
+    @Query("""
+            UPDATE provisioning_run
+               SET posted_at = COALESCE(posted_at, LOCALTIMESTAMP),
+                   updated_at = NOW()
+             WHERE provisioning_run_id = :provisioningRunId
+               AND status = 'COMPLETED'
+            RETURNING posted_at
+            """)
+    Mono<LocalDateTime> pinPostedAt(UUID provisioningRunId);
+
+    /**
+     * Loads a run with its progress: summed over its shards while RUNNING, as recorded once closed.
+     *
+     * @return the run's progress, or empty if the run is unknown
+     */
+    @Query("""
+            SELECT r.run_mode, r.status, r.shard_count,
+                   CAST(COUNT(s.provisioning_run_shard_id) FILTER (WHERE s.status = 'COMPLETED') AS int)
+                       AS shards_completed,
+                   CAST(COUNT(s.provisioning_run_shard_id) FILTER (WHERE s.status = 'FAILED') AS int)
+                       AS shards_failed,
+                   CASE WHEN r.status = 'RUNNING'
+                        THEN CAST(COALESCE(SUM(s.cases_processed), 0) AS bigint)
+                        ELSE r.cases_processed END AS cases_processed,
+                   CASE WHEN r.status = 'RUNNING'
+                        THEN CAST(COALESCE(SUM(s.total_ecl_cents), 0) / 100.0 AS DECIMAL(22,2))
+                        ELSE r.total_ecl END AS total_ecl,
+                   r.started_at, r.completed_at
+              FROM provisioning_run r
+              LEFT JOIN provisioning_run_shard s ON s.provisioning_run_id = r.provisioning_run_id
+             WHERE r.provisioning_run_id = :provisioningRunId
+             GROUP BY r.provisioning_run_id
+            """)
+    Mono<RunProgressRow> findProgress(UUID provisioningRunId);
+}
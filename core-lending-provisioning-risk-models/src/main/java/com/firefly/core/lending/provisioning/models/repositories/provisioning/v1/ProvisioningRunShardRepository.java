@@ -0,0 +1,159 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.provisioning.models.repositories.provisioning.v1;
+
+import com.firefly.core.lending.provisioning.models.entities.provisioning.v1.ProvisioningRunShard;
+import com.firefly.core.lending.provisioning.models.repositories.BaseRepository;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+public interface ProvisioningRunShardRepository extends BaseRepository<ProvisioningRunShard, UUID> {
+
+    /**
+     * Leases the oldest open shard to the given owner: a PENDING shard, or a RUNNING one whose lease
+     * has lapsed because its owner died or stalled. Only shards of RUNNING runs are claimed, and
+     * shards already claimed by {@code maxAttempts} leases are left alone. Contending instances skip
+     * each other's locked rows instead of waiting, so every instance claims a different shard. A null
+     * run ID claims from any run.
+     *
+     * @return the claimed shard, or empty when nothing is claimable
+     */
+    @Query("""
+            UPDATE provisioning_run_shard s
+               SET status = 'RUNNING',
+                   lease_owner = :leaseOwner,
+                   lease_expires_at = LOCALTIMESTAMP + :leaseSeconds * INTERVAL '1 second',
+                   attempts = s.attempts + 1,
+                   updated_at = NOW()
+             WHERE s.provisioning_run_shard_id = (
+                    SELECT o.provisioning_run_shard_id
+                      FROM provisioning_run_shard o
+                     WHERE o.status IN ('PENDING', 'RUNNING')
+                       AND (o.status = 'PENDING' OR o.lease_expires_at < LOCALTIMESTAMP)
+                       AND o.attempts < :maxAttempts
+                       AND (CAST(:provisioningRunId AS uuid) IS NULL OR o.provisioning_run_id = :provisioningRunId)
+                       AND EXISTS (SELECT 1
+                                     FROM provisioning_run r
+                                    WHERE r.provisioning_run_id = o.provisioning_run_id
+                                      AND r.status = 'RUNNING')
+                     ORDER BY o.created_at, o.shard_no
+                     LIMIT 1
+                       FOR UPDATE SKIP LOCKED)
+            RETURNING s.*
+            """)
+    Mono<ProvisioningRunShard> claimShard(UUID provisioningRunId, String leaseOwner, long leaseSeconds,
+                                          int maxAttempts);
+
+    /**
+     * Extends the lease of a shard still held by the given owner.
+     *
+     * @return 1 if the lease was extended, 0 if the shard is no longer held by the owner
+     */
+    @Modifying
+    @Query("""
+            UPDATE provisioning_run_shard
+               SET lease_expires_at = LOCALTIMESTAMP + :leaseSeconds * INTERVAL '1 second',
+                   updated_at = NOW()
+             WHERE provisioning_run_shard_id = :provisioningRunShardId
+               AND lease_owner = :leaseOwner
+               AND status = 'RUNNING'
+            """)
+    Mono<Integer> renewLease(UUID provisioningRunShardId, String leaseOwner, long leaseSeconds);
+
+    /**
+     * Records a committed chunk of a shard held by the given owner: moves the high-water mark to the
+     * chunk's last case, adds the chunk to the shard's counts and extends the lease.
+     *
+     * @return 1 if the checkpoint was recorded, 0 if the shard is no longer held by the owner
+     */
+    @Modifying
+    @Query("""
+            UPDATE provisioning_run_shard
+               SET checkpoint_case_id = :checkpointCaseId,
+                   checkpointed_at = LOCALTIMESTAMP,
+                   cases_processed = cases_processed + :casesProcessed,
+                   total_ecl_cents = total_ecl_cents + :totalEclCents,
+                   lease_expires_at = LOCALTIMESTAMP + :leaseSeconds * INTERVAL '1 second',
+                   updated_at = NOW()
+             WHERE provisioning_run_shard_id = :provisioningRunShardId
+               AND lease_owner = :leaseOwner
+               AND status = 'RUNNING'
+            """)
+    Mono<Integer> checkpoint(UUID provisioningRunShardId, String leaseOwner, UUID checkpointCaseId,
+                             long casesProcessed, long totalEclCents, long leaseSeconds);
+
+    /**
+     * Marks a shard held by the given owner as COMPLETED and releases the lease. Its counts are
+     * those accumulated by its checkpoints.
+     *
+     * @return 1 if the shard was completed, 0 if it is no longer held by the owner
+     */
+    @Modifying
+    @Query("""
+            UPDATE provisioning_run_shard
+               SET status = 'COMPLETED',
+                   lease_expires_at = NULL,
+                   completed_at = LOCALTIMESTAMP,
+                   updated_at = NOW()
+             WHERE provisioning_run_shard_id = :provisioningRunShardId
+               AND lease_owner = :leaseOwner
+               AND status = 'RUNNING'
+            """)
+    Mono<Integer> completeShard(UUID provisioningRunShardId, String leaseOwner);
+
+    /**
+     * Gives back a shard whose processing failed: PENDING again so another instance retries it, or
+     * FAILED once it has been attempted {@code maxAttempts} times.
+     *
+     * @return 1 if the shard was released, 0 if it is no longer held by the owner
+     */
+    @Modifying
+    @Query("""
+            UPDATE provisioning_run_shard
+               SET status = CASE WHEN attempts >= :maxAttempts THEN 'FAILED' ELSE 'PENDING' END,
+                   lease_owner = NULL,
+                   lease_expires_at = NULL,
+                   updated_at = NOW()
+             WHERE provisioning_run_shard_id = :provisioningRunShardId
+               AND lease_owner = :leaseOwner
+               AND status = 'RUNNING'
+            """)
+    Mono<Integer> releaseShard(UUID provisioningRunShardId, String leaseOwner, int maxAttempts);
+
+    /**
+     * Marks as FAILED the shards whose last permitted lease lapsed, which nobody may claim any more.
+     *
+     * @return the runs of the shards marked
+     */
+    @Query("""
+            UPDATE provisioning_run_shard
+               SET status = 'FAILED',
+                   lease_owner = NULL,
+                   lease_expires_at = NULL,
+                   updated_at = NOW()
+             WHERE status = 'RUNNING'
+               AND lease_expires_at < LOCALTIMESTAMP
+               AND attempts >= :maxAttempts
+            RETURNING provisioning_run_id
+            """)
+    Flux<UUID> failAbandonedShards(int maxAttempts);
+}
@@ -19,8 +19,76 @@ package com.firefly.core.lending.provisioning.models.repositories.provisioning.v
 
 import com.firefly.core.lending.provisioning.models.entities.provisioning.v1.ProvisioningStageHistory;
 import com.firefly.core.lending.provisioning.models.repositories.BaseRepository;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import reactor.core.publisher.Mono;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 public interface ProvisioningStageHistoryRepository extends BaseRepository<ProvisioningStageHistory, UUID> {
+
+    /**
+     * Loads a stage history entry only if it belongs to the given case. Without {@code changed_at}
+     * the lookup cannot be pruned and probes every partition's primary key.
+     */
+    Mono<ProvisioningStageHistory> findByProvisioningStageHistoryIdAndProvisioningCaseId(UUID provisioningStageHistoryId,
+                                                                                      UUID provisioningCaseId);
+
+    /**
+     * Creates the missing monthly {@code changed_at} partitions from the current month up to the
+     * given number of months ahead.
+     *
+     * @return the number of partitions created
+     */
+    @Query("""
+            SELECT create_monthly_partitions('provisioning_stage_history', 'changed_at',
+                                             CAST(LOCALTIMESTAMP AS date), :monthsAhead)
+            """)
+    Mono<Integer> createMonthlyPartitions(int monthsAhead);
+
+    /**
+     * Replaces a stage history entry of the given case in one round trip. The update only applies
+     * while the entry still has {@code expectedVersion}, or unconditionally when it is null, and
+     * increments the version. A new {@code changed_at} moves the row to its month's partition.
+     * Like the lookup, it probes every partition to find the entry.
+     *
+     * @return the updated entry; empty if it does not exist under the case or has moved past the
+     * expected version
+     */
+    @Query("""
+            UPDATE provisioning_stage_history
+               SET old_stage_code = CAST(:oldStageCode AS stage_code),
+                   new_stage_code = CAST(:newStageCode AS stage_code),
+                   ecl_amount_at_change = :eclAmountAtChange,
+                   changed_at = :changedAt,
+                   changed_by = :changedBy,
+                   reason = :reason,
+                   updated_at = NOW(),
+                   version = version + 1
+             WHERE provisioning_stage_history_id = :provisioningStageHistoryId
+               AND provisioning_case_id = :provisioningCaseId
+               AND (CAST(:expectedVersion AS bigint) IS NULL OR version = :expectedVersion)
+            RETURNING *
+            """)
+    Mono<ProvisioningStageHistory> updateIfCurrent(UUID provisioningStageHistoryId, UUID provisioningCaseId,
+                                                   String oldStageCode, String newStageCode,
+                                                   BigDecimal eclAmountAtChange, LocalDateTime changedAt,
+                                                   String changedBy, String reason, Long expectedVersion);
+
+    /**
+     * Deletes a stage history entry only if it belongs to the given case, in one statement. Probes
+     * every partition to find the entry.
+     *
+     * @return the number of rows deleted: 1, or 0 if no such entry exists under the case
+     */
+    @Modifying
+    @Query("""
+            DELETE FROM provisioning_stage_history
+             WHERE provisioning_stage_history_id = :provisioningStageHistoryId
+               AND provisioning_case_id = :provisioningCaseId
+            """)
+    Mono<Integer> deleteByProvisioningStageHistoryIdAndProvisioningCaseId(UUID provisioningStageHistoryId,
+                                                                          UUID provisioningCaseId);
 }
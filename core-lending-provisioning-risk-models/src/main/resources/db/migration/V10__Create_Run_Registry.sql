@@ -0,0 +1,51 @@
+-- V10 - PROVISIONING RUN REGISTRY AND SHARD CHECKPOINTS
+
+-- ========================================================================
+-- RUN REGISTRY
+-- ========================================================================
+
+-- One row per provisioning run with the parameters it was started with, so a resumed run
+-- computes exactly like the original whatever the configuration in force at the time
+CREATE TABLE IF NOT EXISTS provisioning_run (
+    provisioning_run_id UUID PRIMARY KEY,
+    run_mode            VARCHAR(20) NOT NULL,
+    shard_count         INT NOT NULL,
+    parameters          TEXT,                  -- JSON: scenario weights the run computes with
+    status              VARCHAR(20) NOT NULL DEFAULT 'RUNNING',
+    cases_processed     BIGINT NOT NULL DEFAULT 0,
+    total_ecl           DECIMAL(22,2) NOT NULL DEFAULT 0,
+    started_at          TIMESTAMP NOT NULL,    -- Calculation timestamp of every case of the run
+    completed_at        TIMESTAMP,
+    posted_at           TIMESTAMP,             -- Set by the first posting; dates every entry the run posts
+    created_at          TIMESTAMP NOT NULL DEFAULT NOW(),
+    updated_at          TIMESTAMP NOT NULL DEFAULT NOW(),
+    CONSTRAINT chk_prov_run_mode
+        CHECK (run_mode IN ('FULL', 'INCREMENTAL')),
+    CONSTRAINT chk_prov_run_status
+        CHECK (status IN ('RUNNING', 'COMPLETED', 'FAILED'))
+);
+
+CREATE INDEX IF NOT EXISTS idx_prov_run_started_at
+    ON provisioning_run (started_at);
+
+-- Calculations are tagged with the run that produced them; the tag must name a registered run
+ALTER TABLE provisioning_calculation
+    ADD CONSTRAINT fk_calc_run
+        FOREIGN KEY (provisioning_run_id)
+        REFERENCES provisioning_run (provisioning_run_id);
+
+-- ========================================================================
+-- SHARD CHECKPOINTS
+-- ========================================================================
+
+-- High-water mark of a shard: cases are processed in ID order and every chunk advances the mark
+-- together with the shard's counts, so a shard picked up again resumes after the last committed chunk
+ALTER TABLE provisioning_run_shard
+    ADD COLUMN IF NOT EXISTS checkpoint_case_id UUID,
+    ADD COLUMN IF NOT EXISTS checkpointed_at    TIMESTAMP;
+
+ALTER TABLE provisioning_run_shard
+    ADD CONSTRAINT fk_run_shard_run
+        FOREIGN KEY (provisioning_run_id)
+        REFERENCES provisioning_run (provisioning_run_id)
+        ON DELETE CASCADE;
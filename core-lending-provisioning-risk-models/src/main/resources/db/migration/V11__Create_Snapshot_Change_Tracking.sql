@@ -0,0 +1,67 @@
+-- V11 - CHANGE TRACKING FOR THE IN-PROCESS PORTFOLIO SNAPSHOT
+
+-- ========================================================================
+-- KEEP provisioning_case.updated_at CURRENT ON EVERY UPDATE
+-- ========================================================================
+
+CREATE TRIGGER trg_prov_case_touch_updated_at
+    BEFORE UPDATE ON provisioning_case
+    FOR EACH ROW
+    EXECUTE FUNCTION touch_updated_at();
+
+CREATE INDEX IF NOT EXISTS idx_prov_case_updated_at
+    ON provisioning_case (updated_at);
+
+-- ========================================================================
+-- ASSESSMENT DELETES TOUCH THEIR CASE
+-- ========================================================================
+
+-- Removing an assessment can change which one is latest for its scenario, so the case is marked
+-- as changed. Statement-level: each affected case is updated once per statement
+CREATE OR REPLACE FUNCTION touch_provisioning_case_of_deleted_assessments()
+RETURNS TRIGGER
+LANGUAGE plpgsql
+AS $$
+BEGIN
+    UPDATE provisioning_case c
+       SET updated_at = NOW()
+     WHERE c.provisioning_case_id IN (SELECT DISTINCT o.provisioning_case_id FROM old_rows o);
+    RETURN NULL;
+END;
+$$;
+
+CREATE TRIGGER trg_risk_assess_touch_case_on_delete
+    AFTER DELETE ON risk_assessment
+    REFERENCING OLD TABLE AS old_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION touch_provisioning_case_of_deleted_assessments();
+
+-- ========================================================================
+-- CASE TOMBSTONES
+-- ========================================================================
+
+-- Deleted cases leave no row to compare updated_at against, so each delete is recorded here.
+-- Rows older than provisioning.snapshot.tombstone-retention are pruned on full rebuilds
+CREATE TABLE IF NOT EXISTS provisioning_case_tombstone (
+    provisioning_case_id UUID NOT NULL,
+    deleted_at           TIMESTAMP NOT NULL DEFAULT NOW()
+);
+
+CREATE INDEX IF NOT EXISTS idx_prov_case_tombstone_deleted_at
+    ON provisioning_case_tombstone (deleted_at);
+
+CREATE OR REPLACE FUNCTION record_provisioning_case_tombstones()
+RETURNS TRIGGER
+LANGUAGE plpgsql
+AS $$
+BEGIN
+    INSERT INTO provisioning_case_tombstone (provisioning_case_id, deleted_at)
+    SELECT o.provisioning_case_id, NOW()
+      FROM old_rows o;
+    RETURN NULL;
+END;
+$$;
+
+CREATE TRIGGER trg_prov_case_tombstone
+    AFTER DELETE ON provisioning_case
+    REFERENCING OLD TABLE AS old_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION record_provisioning_case_tombstones();
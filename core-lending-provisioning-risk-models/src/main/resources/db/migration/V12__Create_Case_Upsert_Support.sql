@@ -0,0 +1,14 @@
+-- V12 - UNIQUE LOAN SERVICING REFERENCE FOR BULK CASE UPSERTS
+
+-- Bulk onboarding upserts provisioning cases on their loan servicing case, which
+-- needs a unique index on the reference for INSERT ... ON CONFLICT to infer. It
+-- also serves lookups by the reference, which were sequential scans until now.
+-- Cases without a reference are unaffected: NULLs never conflict. Migrating a
+-- database holding duplicate references fails here; merge them first.
+
+-- ========================================================================
+-- PROVISIONING CASE -> LOAN SERVICING CASE
+-- ========================================================================
+
+CREATE UNIQUE INDEX IF NOT EXISTS uq_prov_case_loan_servicing_case
+    ON provisioning_case (loan_servicing_case_id);
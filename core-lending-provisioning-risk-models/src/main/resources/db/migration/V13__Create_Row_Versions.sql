@@ -0,0 +1,33 @@
+-- V13 - ROW VERSIONS FOR OPTIMISTIC CONCURRENCY
+
+-- Updates through the API are single conditional statements:
+--
+--   UPDATE ... SET ..., version = version + 1
+--    WHERE <id> = ? AND <parent> = ? AND version = ?
+--   RETURNING *
+--
+-- A client echoes the version it read; if another writer got there first no row
+-- matches and the service answers 409 instead of overwriting the newer data.
+-- Statements that rewrite cases in bulk (runs, staging, bulk upserts) bump the
+-- version too, so an edit based on a case read before a recalculation conflicts.
+-- Adding a column with a constant default does not rewrite the tables.
+
+-- ========================================================================
+-- VERSION COLUMNS
+-- ========================================================================
+
+ALTER TABLE provisioning_case
+    ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+
+ALTER TABLE risk_assessment
+    ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+
+ALTER TABLE provisioning_calculation
+    ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+
+-- Partitioned: the column is added to every partition
+ALTER TABLE provisioning_stage_history
+    ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+
+ALTER TABLE provisioning_journal
+    ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,30 @@
+-- V14 - SCENARIO INPUTS OF RUN CALCULATIONS
+
+-- The scenario inputs a run computed each case from, as the engine read them: the
+-- assessment, the case's risk grade, PD, LGD, EAD in cents, and the remaining term
+-- and effective interest rate after defaults. Run archives are built from these rows,
+-- so an assessment edited after the run does not change what the archive says the
+-- run used. They are written by the statement that writes the calculation and go
+-- with it when it is deleted.
+
+-- ========================================================================
+-- PROVISIONING CALCULATION INPUTS
+-- ========================================================================
+
+CREATE TABLE IF NOT EXISTS provisioning_calculation_input (
+    provisioning_calculation_id UUID NOT NULL,
+    scenario_code               scenario_code NOT NULL,
+    risk_assessment_id          UUID NOT NULL,
+    risk_grade                  risk_grade NOT NULL,
+    pd_value                    DOUBLE PRECISION NOT NULL,
+    lgd_value                   DOUBLE PRECISION NOT NULL,
+    ead_cents                   BIGINT NOT NULL,
+    remaining_term_months       INT NOT NULL,
+    effective_interest_rate     DOUBLE PRECISION NOT NULL,
+    CONSTRAINT provisioning_calculation_input_pkey
+        PRIMARY KEY (provisioning_calculation_id, scenario_code),
+    CONSTRAINT fk_calc_input_calc
+        FOREIGN KEY (provisioning_calculation_id)
+        REFERENCES provisioning_calculation (provisioning_calculation_id)
+        ON DELETE CASCADE
+);
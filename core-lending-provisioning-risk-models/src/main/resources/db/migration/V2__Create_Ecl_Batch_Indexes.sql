@@ -0,0 +1,18 @@
+-- V2 - INDEXES SUPPORTING THE PORTFOLIO ECL BATCH RUN
+
+-- ========================================================================
+-- RISK ASSESSMENT LOOKUP BY CASE / SCENARIO / RECENCY
+-- ========================================================================
+
+-- Serves the DISTINCT ON (provisioning_case_id) scan picking the latest
+-- assessment per case and scenario
+CREATE INDEX IF NOT EXISTS idx_risk_assess_case_scenario_date
+    ON risk_assessment (provisioning_case_id, scenario_code, assessment_date DESC, created_at DESC);
+
+-- ========================================================================
+-- ACTIVE CASES
+-- ========================================================================
+
+CREATE INDEX IF NOT EXISTS idx_prov_case_active
+    ON provisioning_case (provisioning_case_id)
+    WHERE provisioning_status = 'ACTIVE';
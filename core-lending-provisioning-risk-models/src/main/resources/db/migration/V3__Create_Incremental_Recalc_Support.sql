@@ -0,0 +1,38 @@
+-- V3 - CHANGE TRACKING FOR INCREMENTAL ECL RECALCULATION
+
+-- ========================================================================
+-- KEEP risk_assessment.updated_at CURRENT ON EVERY UPDATE
+-- ========================================================================
+
+CREATE OR REPLACE FUNCTION touch_updated_at()
+    RETURNS TRIGGER AS $$
+BEGIN
+    NEW.updated_at := NOW();
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_risk_assess_touch_updated_at
+    BEFORE UPDATE ON risk_assessment
+    FOR EACH ROW
+    EXECUTE FUNCTION touch_updated_at();
+
+-- ========================================================================
+-- INDEXES FOR CHANGE DETECTION
+-- ========================================================================
+
+-- Lowest calculation watermark among active cases
+CREATE INDEX IF NOT EXISTS idx_prov_case_active_last_calc
+    ON provisioning_case (last_calculated_at)
+    WHERE provisioning_status = 'ACTIVE';
+
+-- Active cases never calculated
+CREATE INDEX IF NOT EXISTS idx_prov_case_active_never_calc
+    ON provisioning_case (provisioning_case_id)
+    WHERE provisioning_status = 'ACTIVE' AND last_calculated_at IS NULL;
+
+CREATE INDEX IF NOT EXISTS idx_risk_assess_updated_at
+    ON risk_assessment (updated_at);
+
+CREATE INDEX IF NOT EXISTS idx_stage_hist_changed_at
+    ON provisioning_stage_history (changed_at);
@@ -0,0 +1,32 @@
+-- V4 - COMPOSITE INDEXES FOR KEYSET (CURSOR) PAGINATION
+
+-- Cursor pages are ordered by (created_at, primary key) and resume with
+-- created_at >= :ts AND (created_at > :ts OR id > :id). Leading with the parent
+-- key lets a nested listing seek straight to its position within one parent.
+
+-- ========================================================================
+-- PROVISIONING CASE
+-- ========================================================================
+
+CREATE INDEX IF NOT EXISTS idx_prov_case_keyset
+    ON provisioning_case (created_at, provisioning_case_id);
+
+-- ========================================================================
+-- CHILDREN OF PROVISIONING CASE
+-- ========================================================================
+
+CREATE INDEX IF NOT EXISTS idx_risk_assess_case_keyset
+    ON risk_assessment (provisioning_case_id, created_at, risk_assessment_id);
+
+CREATE INDEX IF NOT EXISTS idx_prov_calc_case_keyset
+    ON provisioning_calculation (provisioning_case_id, created_at, provisioning_calculation_id);
+
+CREATE INDEX IF NOT EXISTS idx_stage_hist_case_keyset
+    ON provisioning_stage_history (provisioning_case_id, created_at, provisioning_stage_history_id);
+
+-- ========================================================================
+-- CHILDREN OF PROVISIONING CALCULATION
+-- ========================================================================
+
+CREATE INDEX IF NOT EXISTS idx_prov_journal_calc_keyset
+    ON provisioning_journal (provisioning_calculation_id, created_at, provisioning_journal_id);
@@ -0,0 +1,21 @@
+-- V5 - INDEXES ON FOREIGN KEY COLUMNS OF CHILD TABLES
+
+-- Postgres does not index referencing columns. Every child table needs one so
+-- that listing by parent, scoped lookups and parent deletes avoid sequential
+-- scans. Coverage per foreign key:
+--
+--   risk_assessment.provisioning_case_id             idx_risk_assess_case_scenario_date (V2)
+--   provisioning_stage_history.provisioning_case_id  idx_stage_hist_case_keyset (V4)
+--   provisioning_calculation.provisioning_case_id    idx_prov_calc_case_keyset (V4)
+--   provisioning_calculation.risk_assessment_id      idx_prov_calc_risk_assess (below)
+--   provisioning_journal.provisioning_calculation_id idx_prov_journal_calc_keyset (V4)
+--
+-- The composite indexes lead with the foreign key, so equality on the parent
+-- alone is served by them; only the assessment reference is left uncovered.
+
+-- ========================================================================
+-- PROVISIONING CALCULATION -> RISK ASSESSMENT
+-- ========================================================================
+
+CREATE INDEX IF NOT EXISTS idx_prov_calc_risk_assess
+    ON provisioning_calculation (risk_assessment_id);
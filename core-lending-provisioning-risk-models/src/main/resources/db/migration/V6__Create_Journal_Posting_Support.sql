@@ -0,0 +1,28 @@
+-- V6 - RUN TAGGING AND IDEMPOTENT JOURNAL POSTING
+
+-- ========================================================================
+-- RUN REFERENCES
+-- ========================================================================
+
+-- Batch run that wrote the calculation; NULL for calculations created through the API
+ALTER TABLE provisioning_calculation
+    ADD COLUMN IF NOT EXISTS provisioning_run_id UUID;
+
+-- Run whose posting wrote the journal entry; NULL for manual entries
+ALTER TABLE provisioning_journal
+    ADD COLUMN IF NOT EXISTS provisioning_run_id UUID;
+
+-- A run writes one calculation per case: a chunk written again upserts on this key instead
+-- of adding a second row. Lookups by run use its leading column
+CREATE UNIQUE INDEX IF NOT EXISTS uq_prov_calc_run_case
+    ON provisioning_calculation (provisioning_run_id, provisioning_case_id)
+    WHERE provisioning_run_id IS NOT NULL;
+
+-- ========================================================================
+-- IDEMPOTENCY KEY
+-- ========================================================================
+
+-- A run posts at most one entry per calculation; re-posting the run is a no-op
+CREATE UNIQUE INDEX IF NOT EXISTS uq_prov_journal_run_calc
+    ON provisioning_journal (provisioning_run_id, provisioning_calculation_id)
+    WHERE provisioning_run_id IS NOT NULL;
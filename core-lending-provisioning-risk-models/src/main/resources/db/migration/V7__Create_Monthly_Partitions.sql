@@ -0,0 +1,175 @@
+-- V7 - MONTHLY RANGE PARTITIONING OF JOURNAL AND STAGE HISTORY
+
+-- ========================================================================
+-- PARTITION MAINTENANCE
+-- ========================================================================
+
+-- Creates the monthly partitions <parent>_pYYYYMM of p_parent from the month of p_from up to
+-- p_months_ahead months after the current one, skipping those that already exist. Rows that
+-- landed in <parent>_default for a new month are moved into it before it is attached, so the
+-- attach never trips over them. Returns the number of partitions created.
+CREATE OR REPLACE FUNCTION create_monthly_partitions(p_parent TEXT, p_column TEXT, p_from DATE,
+                                                     p_months_ahead INT)
+RETURNS INT
+LANGUAGE plpgsql
+AS $$
+DECLARE
+    v_month     DATE := date_trunc('month', p_from)::date;
+    v_last      DATE := (date_trunc('month', LOCALTIMESTAMP) + make_interval(months => p_months_ahead))::date;
+    v_next      DATE;
+    v_partition TEXT;
+    v_created   INT := 0;
+BEGIN
+    -- Several instances run the maintenance job; only one creates a given partition
+    PERFORM pg_advisory_xact_lock(hashtext('create_monthly_partitions:' || p_parent));
+
+    WHILE v_month <= v_last LOOP
+        v_next := (v_month + INTERVAL '1 month')::date;
+        v_partition := p_parent || '_p' || to_char(v_month, 'YYYYMM');
+        IF to_regclass(v_partition) IS NULL THEN
+            EXECUTE format('CREATE TABLE %I (LIKE %I INCLUDING DEFAULTS INCLUDING CONSTRAINTS)',
+                           v_partition, p_parent);
+            EXECUTE format('WITH moved AS (DELETE FROM %I WHERE %I >= %L AND %I < %L RETURNING *) '
+                               || 'INSERT INTO %I SELECT * FROM moved',
+                           p_parent || '_default', p_column, v_month, p_column, v_next, v_partition);
+            EXECUTE format('ALTER TABLE %I ATTACH PARTITION %I FOR VALUES FROM (%L) TO (%L)',
+                           p_parent, v_partition, v_month, v_next);
+            v_created := v_created + 1;
+        END IF;
+        v_month := v_next;
+    END LOOP;
+
+    RETURN v_created;
+END;
+$$;
+
+-- Detaches every monthly partition of p_parent that ends on or before p_before and returns the
+-- detached table names. Detaching is a catalog change; the data stays in the now standalone
+-- tables until they are archived and dropped. On a busy system the same can be done without
+-- blocking writers through ALTER TABLE ... DETACH PARTITION ... CONCURRENTLY, outside a transaction.
+CREATE OR REPLACE FUNCTION detach_monthly_partitions(p_parent TEXT, p_before DATE)
+RETURNS SETOF TEXT
+LANGUAGE plpgsql
+AS $$
+DECLARE
+    v_partition TEXT;
+BEGIN
+    FOR v_partition IN
+        SELECT c.relname
+          FROM pg_inherits i
+          JOIN pg_class c ON c.oid = i.inhrelid
+         WHERE i.inhparent = to_regclass(p_parent)
+           AND c.relname ~ ('^' || p_parent || '_p[0-9]{6}$')
+           AND (to_date(right(c.relname, 6), 'YYYYMM') + INTERVAL '1 month')::date <= p_before
+         ORDER BY c.relname
+    LOOP
+        EXECUTE format('ALTER TABLE %I DETACH PARTITION %I', p_parent, v_partition);
+        RETURN NEXT v_partition;
+    END LOOP;
+END;
+$$;
+
+-- ========================================================================
+-- PROVISIONING JOURNAL (BY posted_at)
+-- ========================================================================
+
+-- The partition key must be part of the primary key and therefore NOT NULL. The API already
+-- requires it; entries written without one are dated by their creation time.
+UPDATE provisioning_journal
+   SET posted_at = created_at
+ WHERE posted_at IS NULL;
+
+ALTER TABLE provisioning_journal RENAME TO provisioning_journal_unpartitioned;
+ALTER TABLE provisioning_journal_unpartitioned
+    RENAME CONSTRAINT provisioning_journal_pkey TO provisioning_journal_unpartitioned_pkey;
+
+CREATE TABLE provisioning_journal (
+    provisioning_journal_id     UUID NOT NULL DEFAULT uuid_generate_v4(),
+    provisioning_calculation_id UUID NOT NULL,
+    accounting_journal_entry_id UUID,   -- External ref to Accounting (no FK)
+    provision_change_amount     DECIMAL(18,2),
+    posted_at                   TIMESTAMP NOT NULL,
+    posting_description         VARCHAR(255),
+    is_reversal                 BOOLEAN DEFAULT FALSE,
+    created_at                  TIMESTAMP NOT NULL DEFAULT NOW(),
+    updated_at                  TIMESTAMP NOT NULL DEFAULT NOW(),
+    provisioning_run_id         UUID,
+    CONSTRAINT provisioning_journal_pkey
+        PRIMARY KEY (provisioning_journal_id, posted_at),
+    CONSTRAINT fk_journal_calc
+        FOREIGN KEY (provisioning_calculation_id)
+        REFERENCES provisioning_calculation (provisioning_calculation_id)
+) PARTITION BY RANGE (posted_at);
+
+-- Catches entries dated outside the pre-created months (back-dated or far-future postings)
+CREATE TABLE provisioning_journal_default PARTITION OF provisioning_journal DEFAULT;
+
+SELECT create_monthly_partitions('provisioning_journal', 'posted_at',
+       COALESCE((SELECT MIN(posted_at) FROM provisioning_journal_unpartitioned), LOCALTIMESTAMP)::date, 3);
+
+INSERT INTO provisioning_journal
+       (provisioning_journal_id, provisioning_calculation_id, accounting_journal_entry_id,
+        provision_change_amount, posted_at, posting_description, is_reversal, created_at, updated_at,
+        provisioning_run_id)
+SELECT provisioning_journal_id, provisioning_calculation_id, accounting_journal_entry_id,
+       provision_change_amount, posted_at, posting_description, is_reversal, created_at, updated_at,
+       provisioning_run_id
+  FROM provisioning_journal_unpartitioned;
+
+DROP TABLE provisioning_journal_unpartitioned;
+
+-- Indexes are created on the parent after the load and cascade to every partition
+CREATE INDEX IF NOT EXISTS idx_prov_journal_calc_keyset
+    ON provisioning_journal (provisioning_calculation_id, created_at, provisioning_journal_id);
+
+-- A unique index on a partitioned table must include posted_at. Every entry a run posts is dated
+-- with the run's posting timestamp, pinned on provisioning_run by its first posting, so the key
+-- still allows one entry per run and calculation; entries made by hand have no run and never clash
+CREATE UNIQUE INDEX IF NOT EXISTS uq_prov_journal_run_calc_posted
+    ON provisioning_journal (provisioning_run_id, provisioning_calculation_id, posted_at);
+
+-- ========================================================================
+-- PROVISIONING STAGE HISTORY (BY changed_at)
+-- ========================================================================
+
+ALTER TABLE provisioning_stage_history RENAME TO provisioning_stage_history_unpartitioned;
+ALTER TABLE provisioning_stage_history_unpartitioned
+    RENAME CONSTRAINT provisioning_stage_history_pkey TO provisioning_stage_history_unpartitioned_pkey;
+
+CREATE TABLE provisioning_stage_history (
+    provisioning_stage_history_id UUID NOT NULL DEFAULT uuid_generate_v4(),
+    provisioning_case_id          UUID NOT NULL,
+    old_stage_code                stage_code,
+    new_stage_code                stage_code NOT NULL,
+    ecl_amount_at_change          DECIMAL(18,2),
+    changed_at                    TIMESTAMP NOT NULL DEFAULT NOW(),
+    changed_by                    VARCHAR(100),
+    reason                        TEXT,
+    created_at                    TIMESTAMP NOT NULL DEFAULT NOW(),
+    updated_at                    TIMESTAMP NOT NULL DEFAULT NOW(),
+    CONSTRAINT provisioning_stage_history_pkey
+        PRIMARY KEY (provisioning_stage_history_id, changed_at),
+    CONSTRAINT fk_stage_hist_case
+        FOREIGN KEY (provisioning_case_id)
+        REFERENCES provisioning_case (provisioning_case_id)
+) PARTITION BY RANGE (changed_at);
+
+CREATE TABLE provisioning_stage_history_default PARTITION OF provisioning_stage_history DEFAULT;
+
+SELECT create_monthly_partitions('provisioning_stage_history', 'changed_at',
+       COALESCE((SELECT MIN(changed_at) FROM provisioning_stage_history_unpartitioned), LOCALTIMESTAMP)::date, 3);
+
+INSERT INTO provisioning_stage_history
+       (provisioning_stage_history_id, provisioning_case_id, old_stage_code, new_stage_code,
+        ecl_amount_at_change, changed_at, changed_by, reason, created_at, updated_at)
+SELECT provisioning_stage_history_id, provisioning_case_id, old_stage_code, new_stage_code,
+       ecl_amount_at_change, changed_at, changed_by, reason, created_at, updated_at
+  FROM provisioning_stage_history_unpartitioned;
+
+DROP TABLE provisioning_stage_history_unpartitioned;
+
+CREATE INDEX IF NOT EXISTS idx_stage_hist_case_keyset
+    ON provisioning_stage_history (provisioning_case_id, created_at, provisioning_stage_history_id);
+
+CREATE INDEX IF NOT EXISTS idx_stage_hist_changed_at
+    ON provisioning_stage_history (changed_at);
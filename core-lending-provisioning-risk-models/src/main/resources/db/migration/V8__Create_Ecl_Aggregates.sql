@@ -0,0 +1,98 @@
+-- V8 - PORTFOLIO ECL AGGREGATES BY STAGE, RISK GRADE AND STATUS
+
+-- ========================================================================
+-- AGGREGATE TABLE
+-- ========================================================================
+
+-- One row per (stage, grade, status) cell: at most 4 x 10 x 4 rows whatever the size of the book
+CREATE TABLE IF NOT EXISTS provisioning_ecl_aggregate (
+    stage_code          stage_code NOT NULL,
+    risk_grade          risk_grade NOT NULL,
+    provisioning_status provisioning_status NOT NULL,
+    case_count          BIGINT NOT NULL DEFAULT 0,
+    total_ecl           DECIMAL(22,2) NOT NULL DEFAULT 0,
+    updated_at          TIMESTAMP NOT NULL DEFAULT NOW(),
+    CONSTRAINT pk_prov_ecl_aggregate
+        PRIMARY KEY (stage_code, risk_grade, provisioning_status)
+);
+
+-- ========================================================================
+-- DELTA MAINTENANCE
+-- ========================================================================
+
+-- Statement-level: the rows a statement inserted, deleted or changed are netted into one delta
+-- per cell and applied in a single upsert, so a batch run rewriting thousands of cases touches
+-- each cell once. Every write path is covered, including the set-based run and staging
+-- statements. Cells are upserted in key order so concurrent writers lock them in the same order.
+CREATE OR REPLACE FUNCTION apply_provisioning_ecl_aggregate_delta()
+RETURNS TRIGGER
+LANGUAGE plpgsql
+AS $$
+DECLARE
+    v_delta provisioning_ecl_aggregate[];
+BEGIN
+    -- Each event only exposes its own transition tables
+    IF TG_OP = 'INSERT' THEN
+        v_delta := ARRAY(
+            SELECT ROW(n.stage_code, n.risk_grade, n.provisioning_status, 1,
+                       COALESCE(n.ecl_amount, 0), NULL)::provisioning_ecl_aggregate
+              FROM new_rows n);
+    ELSIF TG_OP = 'DELETE' THEN
+        v_delta := ARRAY(
+            SELECT ROW(o.stage_code, o.risk_grade, o.provisioning_status, -1,
+                       -COALESCE(o.ecl_amount, 0), NULL)::provisioning_ecl_aggregate
+              FROM old_rows o);
+    ELSE
+        v_delta := ARRAY(
+            SELECT ROW(n.stage_code, n.risk_grade, n.provisioning_status, 1,
+                       COALESCE(n.ecl_amount, 0), NULL)::provisioning_ecl_aggregate
+              FROM new_rows n
+            UNION ALL
+            SELECT ROW(o.stage_code, o.risk_grade, o.provisioning_status, -1,
+                       -COALESCE(o.ecl_amount, 0), NULL)::provisioning_ecl_aggregate
+              FROM old_rows o);
+    END IF;
+
+    INSERT INTO provisioning_ecl_aggregate AS a
+           (stage_code, risk_grade, provisioning_status, case_count, total_ecl, updated_at)
+    SELECT d.stage_code, d.risk_grade, d.provisioning_status, SUM(d.case_count), SUM(d.total_ecl), NOW()
+      FROM unnest(v_delta) d
+     GROUP BY d.stage_code, d.risk_grade, d.provisioning_status
+    HAVING SUM(d.case_count) <> 0 OR SUM(d.total_ecl) <> 0
+     ORDER BY d.stage_code, d.risk_grade, d.provisioning_status
+    ON CONFLICT (stage_code, risk_grade, provisioning_status) DO UPDATE
+       SET case_count = a.case_count + EXCLUDED.case_count,
+           total_ecl  = a.total_ecl + EXCLUDED.total_ecl,
+           updated_at = EXCLUDED.updated_at;
+
+    RETURN NULL;
+END;
+$$;
+
+-- Block case writes until the triggers are in place and the seed has been taken
+LOCK TABLE provisioning_case IN SHARE MODE;
+
+CREATE TRIGGER trg_prov_case_ecl_aggregate_insert
+    AFTER INSERT ON provisioning_case
+    REFERENCING NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION apply_provisioning_ecl_aggregate_delta();
+
+CREATE TRIGGER trg_prov_case_ecl_aggregate_update
+    AFTER UPDATE ON provisioning_case
+    REFERENCING OLD TABLE AS old_rows NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION apply_provisioning_ecl_aggregate_delta();
+
+CREATE TRIGGER trg_prov_case_ecl_aggregate_delete
+    AFTER DELETE ON provisioning_case
+    REFERENCING OLD TABLE AS old_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION apply_provisioning_ecl_aggregate_delta();
+
+-- ========================================================================
+-- SEED
+-- ========================================================================
+
+INSERT INTO provisioning_ecl_aggregate
+       (stage_code, risk_grade, provisioning_status, case_count, total_ecl, updated_at)
+SELECT stage_code, risk_grade, provisioning_status, COUNT(*), COALESCE(SUM(ecl_amount), 0), NOW()
+  FROM provisioning_case
+ GROUP BY stage_code, risk_grade, provisioning_status;
@@ -0,0 +1,39 @@
+-- V9 - PROVISIONING RUN SHARDS AND LEASES
+
+-- ========================================================================
+-- RUN SHARDS
+-- ========================================================================
+
+-- One row per hash partition of provisioning_case_id of a run. Any instance may claim a PENDING
+-- shard, or a RUNNING one whose lease has lapsed because its owner stopped renewing it. Leases are
+-- timed on the database clock, so instances never compare their own clocks.
+CREATE TABLE IF NOT EXISTS provisioning_run_shard (
+    provisioning_run_shard_id UUID PRIMARY KEY DEFAULT uuid_generate_v4(),
+    provisioning_run_id       UUID NOT NULL,
+    shard_no                  INT NOT NULL,
+    shard_count               INT NOT NULL,
+    run_mode                  VARCHAR(20) NOT NULL,
+    run_started_at            TIMESTAMP NOT NULL,   -- Calculation timestamp shared by every shard
+    status                    VARCHAR(20) NOT NULL DEFAULT 'PENDING',
+    lease_owner               VARCHAR(255),
+    lease_expires_at          TIMESTAMP,
+    attempts                  INT NOT NULL DEFAULT 0,
+    cases_processed           BIGINT NOT NULL DEFAULT 0,
+    total_ecl_cents           BIGINT NOT NULL DEFAULT 0,
+    completed_at              TIMESTAMP,
+    created_at                TIMESTAMP NOT NULL DEFAULT NOW(),
+    updated_at                TIMESTAMP NOT NULL DEFAULT NOW(),
+    CONSTRAINT uq_prov_run_shard
+        UNIQUE (provisioning_run_id, shard_no),
+    CONSTRAINT chk_prov_run_shard_no
+        CHECK (shard_no >= 0 AND shard_no < shard_count),
+    CONSTRAINT chk_prov_run_shard_mode
+        CHECK (run_mode IN ('FULL', 'INCREMENTAL')),
+    CONSTRAINT chk_prov_run_shard_status
+        CHECK (status IN ('PENDING', 'RUNNING', 'COMPLETED', 'FAILED'))
+);
+
+-- Claim scans only the shards still open, oldest run first
+CREATE INDEX IF NOT EXISTS idx_prov_run_shard_open
+    ON provisioning_run_shard (created_at, shard_no)
+    WHERE status IN ('PENDING', 'RUNNING');
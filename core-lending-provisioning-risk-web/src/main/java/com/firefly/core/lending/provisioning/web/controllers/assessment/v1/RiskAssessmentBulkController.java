@@ -0,0 +1,46 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.provisioning.web.controllers.assessment.v1;
+
+import com.firefly.core.lending.provisioning.core.services.assessment.v1.RiskAssessmentService;
+import com.firefly.core.lending.provisioning.interfaces.dtos.common.v1.BulkItemResultDTO;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+
+@RestController
+@RequestMapping("/api/v1/risk-assessments")
+@Tag(name = "RiskAssessmentBulk", description = "Bulk risk assessment ingestion across provisioning cases")
+@RequiredArgsConstructor
+public class RiskAssessmentBulkController {
+
+    private final RiskAssessmentService service;
+
+    @PostMapping(value = "/bulk",
+            consumes = MediaType.APPLICATION_NDJSON_VALUE,
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Stream risk assessments as NDJSON, one per line",
+            description = "Each line is validated and written in batched inserts. One result per line is streamed "
+                    + "back in input order; invalid or rejected lines are reported without aborting the stream.")
+    public Flux<BulkItemResultDTO> createBulk(@RequestBody Flux<String> lines) {
+        return service.createBulk(lines);
+    }
+}
@@ -21,6 +21,7 @@ import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
 import com.firefly.core.lending.provisioning.core.services.assessment.v1.RiskAssessmentService;
 import com.firefly.core.lending.provisioning.interfaces.dtos.assessment.v1.RiskAssessmentDTO;
+import com.firefly.core.lending.provisioning.interfaces.dtos.common.v1.CursorPageDTO;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
@@ -49,6 +50,18 @@ public class RiskAssessmentController {
                 .map(ResponseEntity::ok);
     }
 
+    @GetMapping("/cursor")
+    @Operation(summary = "List or search risk assessments of a provisioning case with cursor-based pagination")
+    public Mono<ResponseEntity<CursorPageDTO<RiskAssessmentDTO>>> findAllByCursor(
+            @PathVariable UUID provisioningCaseId,
+            @ModelAttribute FilterRequest<RiskAssessmentDTO> filterRequest,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int limit) {
+
+        return service.findAllByCursor(provisioningCaseId, filterRequest, cursor, limit)
+                .map(ResponseEntity::ok);
+    }
+
     @PostMapping
     @Operation(summary = "Create a new risk assessment")
     public Mono<ResponseEntity<RiskAssessmentDTO>> create(
@@ -59,6 +72,13 @@ public class RiskAssessmentController {
                 .map(ResponseEntity::ok);
     }
 
+    @GetMapping("/latest")
+    @Operation(summary = "Get the latest risk assessment of a provisioning case")
+    public Mono<ResponseEntity<RiskAssessmentDTO>> getLatest(@PathVariable UUID provisioningCaseId) {
+        return service.getLatest(provisioningCaseId)
+                .map(ResponseEntity::ok);
+    }
+
     @GetMapping("/{riskAssessmentId}")
     @Operation(summary = "Get a risk assessment by ID")
     public Mono<ResponseEntity<RiskAssessmentDTO>> getById(
@@ -87,6 +107,8 @@ public class RiskAssessmentController {
             @PathVariable UUID riskAssessmentId) {
 
         return service.delete(provisioningCaseId, riskAssessmentId)
-                .thenReturn(ResponseEntity.noContent().build());
+                .map(deleted -> deleted > 0
+                        ? ResponseEntity.noContent().<Void>build()
+                        : ResponseEntity.notFound().<Void>build());
     }
 }
@@ -21,11 +21,14 @@ import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
 import com.firefly.core.lending.provisioning.core.services.provisioning.v1.ProvisioningCalculationService;
 import com.firefly.core.lending.provisioning.interfaces.dtos.provisioning.v1.ProvisioningCalculationDTO;
+import com.firefly.core.lending.provisioning.interfaces.dtos.common.v1.CursorPageDTO;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import jakarta.validation.Valid;
@@ -49,6 +52,27 @@ public class ProvisioningCalculationController {
                 .map(ResponseEntity::ok);
     }
 
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Stream all provisioning calculations of a case matching the filter as NDJSON")
+    public Flux<ProvisioningCalculationDTO> stream(
+            @PathVariable UUID provisioningCaseId,
+            @ModelAttribute FilterRequest<ProvisioningCalculationDTO> filterRequest) {
+
+        return service.stream(provisioningCaseId, filterRequest);
+    }
+
+    @GetMapping("/cursor")
+    @Operation(summary = "List or search provisioning calculations of a case with cursor-based pagination")
+    public Mono<ResponseEntity<CursorPageDTO<ProvisioningCalculationDTO>>> findAllByCursor(
+            @PathVariable UUID provisioningCaseId,
+            @ModelAttribute FilterRequest<ProvisioningCalculationDTO> filterRequest,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int limit) {
+
+        return service.findAllByCursor(provisioningCaseId, filterRequest, cursor, limit)
+                .map(ResponseEntity::ok);
+    }
+
     @PostMapping
     @Operation(summary = "Create a new provisioning calculation")
     public Mono<ResponseEntity<ProvisioningCalculationDTO>> create(
@@ -87,6 +111,8 @@ public class ProvisioningCalculationController {
             @PathVariable UUID provisioningCalculationId) {
 
         return service.delete(provisioningCaseId, provisioningCalculationId)
-                .thenReturn(ResponseEntity.noContent().build());
+                .map(deleted -> deleted > 0
+                        ? ResponseEntity.noContent().<Void>build()
+                        : ResponseEntity.notFound().<Void>build());
     }
 }
\ No newline at end of file
@@ -21,11 +21,15 @@ import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
 import com.firefly.core.lending.provisioning.core.services.provisioning.v1.ProvisioningCaseService;
 import com.firefly.core.lending.provisioning.interfaces.dtos.provisioning.v1.ProvisioningCaseDTO;
+import com.firefly.core.lending.provisioning.interfaces.dtos.common.v1.CursorPageDTO;
+import com.firefly.core.lending.provisioning.interfaces.dtos.common.v1.BulkItemResultDTO;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import jakarta.validation.Valid;
@@ -48,6 +52,25 @@ public class ProvisioningCaseController {
                 .map(ResponseEntity::ok);
     }
 
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Stream all provisioning cases matching the filter as NDJSON")
+    public Flux<ProvisioningCaseDTO> stream(
+            @ModelAttribute FilterRequest<ProvisioningCaseDTO> filterRequest) {
+
+        return service.stream(filterRequest);
+    }
+
+    @GetMapping("/cursor")
+    @Operation(summary = "List or search provisioning cases with cursor-based pagination")
+    public Mono<ResponseEntity<CursorPageDTO<ProvisioningCaseDTO>>> findAllByCursor(
+            @ModelAttribute FilterRequest<ProvisioningCaseDTO> filterRequest,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int limit) {
+
+        return service.findAllByCursor(filterRequest, cursor, limit)
+                .map(ResponseEntity::ok);
+    }
+
     @PostMapping
     @Operation(summary = "Create a new provisioning case")
     public Mono<ResponseEntity<ProvisioningCaseDTO>> create(@Valid @RequestBody ProvisioningCaseDTO dto) {
@@ -55,6 +78,27 @@ public class ProvisioningCaseController {
                 .map(ResponseEntity::ok);
     }
 
+    @PostMapping(value = "/bulk",
+            consumes = MediaType.APPLICATION_NDJSON_VALUE,
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Create or update provisioning cases streamed as NDJSON, one per line",
+            description = "Upserts on the loan servicing case ID in batched statements. One result per line is "
+                    + "streamed back in input order, CREATED or UPDATED; invalid or rejected lines are reported "
+                    + "without aborting the stream.")
+    public Flux<BulkItemResultDTO> upsertBulk(@RequestBody Flux<String> lines) {
+        return service.upsertBulk(lines);
+    }
+
+    @PostMapping(value = "/bulk",
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Create or update a JSON array of provisioning cases",
+            description = "Same as the NDJSON variant; the array is decoded element by element and one result "
+                    + "per element is returned in input order.")
+    public Flux<BulkItemResultDTO> upsertBulkArray(@RequestBody Flux<ProvisioningCaseDTO> cases) {
+        return service.upsertBulkCases(cases);
+    }
+
     @GetMapping("/{provisioningCaseId}")
     @Operation(summary = "Get a provisioning case by ID")
     public Mono<ResponseEntity<ProvisioningCaseDTO>> getById(
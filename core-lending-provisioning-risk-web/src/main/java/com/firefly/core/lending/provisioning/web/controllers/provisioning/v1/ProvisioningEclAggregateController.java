@@ -0,0 +1,52 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.provisioning.web.controllers.provisioning.v1;
+
+import com.firefly.core.lending.provisioning.core.services.provisioning.v1.ProvisioningEclAggregateService;
+import com.firefly.core.lending.provisioning.interfaces.dtos.provisioning.v1.EclPortfolioDTO;
+import com.firefly.core.lending.provisioning.interfaces.enums.assessment.v1.StageCodeEnum;
+import com.firefly.core.lending.provisioning.interfaces.enums.provisioning.v1.ProvisioningStatusEnum;
+import com.firefly.core.lending.provisioning.interfaces.enums.provisioning.v1.RiskGradeEnum;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping("/api/v1/ecl-aggregates")
+@Tag(name = "ProvisioningEclAggregate", description = "Portfolio ECL by stage, risk grade and provisioning status")
+@RequiredArgsConstructor
+public class ProvisioningEclAggregateController {
+
+    private final ProvisioningEclAggregateService service;
+
+    @GetMapping
+    @Operation(summary = "Get portfolio ECL and case counts by stage, risk grade and status",
+            description = "Served from an aggregate kept current on every provisioning case write; "
+                    + "each filter narrows the breakdown to one value of its dimension")
+    public Mono<ResponseEntity<EclPortfolioDTO>> getPortfolio(
+            @RequestParam(required = false) StageCodeEnum stageCode,
+            @RequestParam(required = false) RiskGradeEnum riskGrade,
+            @RequestParam(required = false) ProvisioningStatusEnum provisioningStatus) {
+
+        return service.getPortfolio(stageCode, riskGrade, provisioningStatus)
+                .map(ResponseEntity::ok);
+    }
+}
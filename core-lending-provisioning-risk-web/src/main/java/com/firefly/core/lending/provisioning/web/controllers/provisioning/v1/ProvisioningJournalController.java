@@ -21,14 +21,19 @@ import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
 import com.firefly.core.lending.provisioning.core.services.provisioning.v1.ProvisioningJournalService;
 import com.firefly.core.lending.provisioning.interfaces.dtos.provisioning.v1.ProvisioningJournalDTO;
+import com.firefly.core.lending.provisioning.interfaces.dtos.common.v1.CursorPageDTO;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import jakarta.validation.Valid;
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 @RestController
@@ -47,7 +52,37 @@ public class ProvisioningJournalController {
             @ModelAttribute FilterRequest<ProvisioningJournalDTO> filterRequest) {
 
         return service.findAll(provisioningCaseId, provisioningCalculationId, filterRequest)
-                .map(ResponseEntity::ok);
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Stream all provisioning journal entries of a calculation matching the filter as NDJSON")
+    public Flux<ProvisioningJournalDTO> stream(
+            @PathVariable UUID provisioningCaseId,
+            @PathVariable UUID provisioningCalculationId,
+            @ModelAttribute FilterRequest<ProvisioningJournalDTO> filterRequest,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime postedFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime postedTo) {
+
+        return service.stream(provisioningCaseId, provisioningCalculationId, filterRequest, postedFrom, postedTo);
+    }
+
+    @GetMapping("/cursor")
+    @Operation(summary = "List or search journal entries of a provisioning calculation with cursor-based pagination")
+    public Mono<ResponseEntity<CursorPageDTO<ProvisioningJournalDTO>>> findAllByCursor(
+            @PathVariable UUID provisioningCaseId,
+            @PathVariable UUID provisioningCalculationId,
+            @ModelAttribute FilterRequest<ProvisioningJournalDTO> filterRequest,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int limit,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime postedFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime postedTo) {
+
+        return service.findAllByCursor(provisioningCaseId, provisioningCalculationId, filterRequest, cursor, limit,
+                        postedFrom, postedTo)
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.notFound().build());
     }
 
     @PostMapping
@@ -92,6 +127,8 @@ public class ProvisioningJournalController {
             @PathVariable UUID provisioningJournalId) {
 
         return service.delete(provisioningCaseId, provisioningCalculationId, provisioningJournalId)
-                .thenReturn(ResponseEntity.noContent().build());
+                .map(deleted -> deleted > 0
+                        ? ResponseEntity.noContent().<Void>build()
+                        : ResponseEntity.notFound().<Void>build());
     }
 }
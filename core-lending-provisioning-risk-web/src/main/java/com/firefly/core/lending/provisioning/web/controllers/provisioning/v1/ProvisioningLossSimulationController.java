@@ -0,0 +1,52 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.provisioning.web.controllers.provisioning.v1;
+
+import com.firefly.core.lending.provisioning.core.services.provisioning.v1.ProvisioningLossSimulationService;
+import com.firefly.core.lending.provisioning.interfaces.dtos.provisioning.v1.LossSimulationDTO;
+import com.firefly.core.lending.provisioning.interfaces.enums.assessment.v1.ScenarioCodeEnum;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping("/api/v1/loss-simulations")
+@Tag(name = "ProvisioningLossSimulation", description = "Monte Carlo credit-loss simulation for stress scenarios")
+@RequiredArgsConstructor
+public class ProvisioningLossSimulationController {
+
+    private final ProvisioningLossSimulationService service;
+
+    @PostMapping
+    @Operation(summary = "Simulate the portfolio credit-loss distribution",
+            description = "Single-factor Gaussian copula over the PD, LGD and EAD of every active case under "
+                    + "the scenario; returns the loss distribution with value at risk and expected shortfall "
+                    + "at the configured confidence levels. Passing the returned seed reproduces the result")
+    public Mono<ResponseEntity<LossSimulationDTO>> simulate(
+            @RequestParam(defaultValue = "SEVERE") ScenarioCodeEnum scenario,
+            @RequestParam(required = false) Integer trials,
+            @RequestParam(required = false) Double assetCorrelation,
+            @RequestParam(required = false) Long seed) {
+
+        return service.simulate(scenario, trials, assetCorrelation, seed)
+                .map(ResponseEntity::ok);
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.provisioning.web.controllers.provisioning.v1;
+
+import com.firefly.core.lending.provisioning.core.services.provisioning.v1.ProvisioningPostingService;
+import com.firefly.core.lending.provisioning.core.services.provisioning.v1.ProvisioningRunArchiveService;
+import com.firefly.core.lending.provisioning.core.services.provisioning.v1.ProvisioningRunService;
+import com.firefly.core.lending.provisioning.interfaces.dtos.provisioning.v1.JournalPostingDTO;
+import com.firefly.core.lending.provisioning.interfaces.dtos.provisioning.v1.ProvisioningRunDTO;
+import com.firefly.core.lending.provisioning.interfaces.dtos.provisioning.v1.RunArchiveDTO;
+import com.firefly.core.lending.provisioning.interfaces.dtos.provisioning.v1.RunPurgeDTO;
+import com.firefly.core.lending.provisioning.interfaces.dtos.provisioning.v1.RunReplayDTO;
+import com.firefly.core.lending.provisioning.interfaces.enums.provisioning.v1.RunModeEnum;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1/provisioning-runs")
+@Tag(name = "ProvisioningRun", description = "Server-side ECL batch runs over the provisioning portfolio")
+@RequiredArgsConstructor
+public class ProvisioningRunController {
+
+    private final ProvisioningRunService service;
+
+    private final ProvisioningPostingService postingService;
+
+    private final ProvisioningRunArchiveService archiveService;
+
+    @PostMapping
+    @Operation(summary = "Run the ECL calculation over active provisioning cases",
+            description = "FULL recalculates every active case; INCREMENTAL only cases whose risk assessments "
+                    + "or stage changed since their last calculation. The book is split into hash partitions "
+                    + "of the case ID that every worker instance leases and processes in the background. "
+                    + "Responds 202 once the run and its shards are registered; poll the run for its progress")
+    public Mono<ResponseEntity<ProvisioningRunDTO>> run(
+            @RequestParam(defaultValue = "FULL") RunModeEnum mode,
+            @RequestParam(required = false) Integer shards) {
+
+        return service.run(mode, shards)
+                .map(this::accepted);
+    }
+
+    @PostMapping("/{provisioningRunId}/resume")
+    @Operation(summary = "Resume an interrupted provisioning run",
+            description = "Gives failed shards a fresh attempt budget and continues every open shard after its "
+                    + "last checkpoint with the parameters the run was started with. Responds 202 with the run's "
+                    + "current progress while its shards are processed in the background")
+    public Mono<ResponseEntity<ProvisioningRunDTO>> resume(
+            @PathVariable UUID provisioningRunId) {
+
+        return service.resume(provisioningRunId)
+                .map(this::accepted)
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
+    @GetMapping("/{provisioningRunId}")
+    @Operation(summary = "Get a provisioning run",
+            description = "Status and totals of a registered run; shards completed and totals so far while it runs")
+    public Mono<ResponseEntity<ProvisioningRunDTO>> getById(
+            @PathVariable UUID provisioningRunId) {
+
+        return service.getById(provisioningRunId)
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
+    @DeleteMapping("/{provisioningRunId}/calculations")
+    @Operation(summary = "Purge the draft calculations of a failed provisioning run",
+            description = "Deletes the run's calculations that were never posted, sets the cases it recalculated "
+                    + "back to their previous calculation and resets its shards, so resuming the run recomputes "
+                    + "it. Posted calculations are kept; runs that did not fail are rejected with 409")
+    public Mono<ResponseEntity<RunPurgeDTO>> purgeDrafts(
+            @PathVariable UUID provisioningRunId) {
+
+        return service.purgeDrafts(provisioningRunId)
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
+    @PostMapping("/{provisioningRunId}/postings")
+    @Operation(summary = "Post the journal entries of a provisioning run",
+            description = "Writes one journal entry per case with the difference between the run's ECL and the "
+                    + "amount already posted; releases are posted with a negative amount. Re-posting a run writes nothing. "
+                    + "Runs that have not completed are rejected with 409")
+    public Mono<ResponseEntity<JournalPostingDTO>> post(
+            @PathVariable UUID provisioningRunId) {
+
+        return postingService.post(provisioningRunId)
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
+    @PostMapping("/{provisioningRunId}/archive")
+    @Operation(summary = "Archive a completed provisioning run",
+            description = "Writes a checksummed binary archive of the calculation of every case of the run, the "
+                    + "scenario inputs recorded when it was computed and the journal entries the run posted. "
+                    + "Replaces an earlier archive of the run")
+    public Mono<ResponseEntity<RunArchiveDTO>> archive(
+            @PathVariable UUID provisioningRunId) {
+
+        return archiveService.archive(provisioningRunId)
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
+    @GetMapping(value = "/{provisioningRunId}/archive", produces = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    @Operation(summary = "Download the archive of a provisioning run",
+            description = "Streams the binary archive file of the run. Responds 404 when this instance cannot "
+                    + "find the file, so every instance must share the archive directory")
+    public Mono<ResponseEntity<Flux<DataBuffer>>> downloadArchive(
+            @PathVariable UUID provisioningRunId) {
+
+        return archiveService.locate(provisioningRunId)
+                .map(path -> ResponseEntity.ok()
+                        .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                                .filename(path.getFileName().toString()).build().toString())
+                        .body(DataBufferUtils.read(path, DefaultDataBufferFactory.sharedInstance, 64 * 1024)));
+    }
+
+    @PostMapping("/{provisioningRunId}/archive/replay")
+    @Operation(summary = "Replay the archive of a provisioning run",
+            description = "Verifies the archive's checksum, recomputes every case from its archived inputs with "
+                    + "the current engine configuration and compares the result with the archived ECL")
+    public Mono<ResponseEntity<RunReplayDTO>> replayArchive(
+            @PathVariable UUID provisioningRunId) {
+
+        return archiveService.replay(provisioningRunId)
+                .map(ResponseEntity::ok);
+    }
+
+    private ResponseEntity<ProvisioningRunDTO> accepted(ProvisioningRunDTO run) {
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/v1/provisioning-runs/" + run.getProvisioningRunId()))
+                .body(run);
+    }
+}
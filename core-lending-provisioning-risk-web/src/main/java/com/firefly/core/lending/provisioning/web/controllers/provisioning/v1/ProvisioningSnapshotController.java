@@ -0,0 +1,63 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.provisioning.web.controllers.provisioning.v1;
+
+import com.firefly.core.lending.provisioning.core.services.provisioning.v1.ProvisioningSnapshotService;
+import com.firefly.core.lending.provisioning.interfaces.dtos.provisioning.v1.PortfolioSnapshotDTO;
+import com.firefly.core.lending.provisioning.interfaces.enums.assessment.v1.ScenarioCodeEnum;
+import com.firefly.core.lending.provisioning.interfaces.enums.assessment.v1.StageCodeEnum;
+import com.firefly.core.lending.provisioning.interfaces.enums.provisioning.v1.ProvisioningStatusEnum;
+import com.firefly.core.lending.provisioning.interfaces.enums.provisioning.v1.RiskGradeEnum;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping("/api/v1/portfolio-snapshot")
+@Tag(name = "ProvisioningSnapshot", description = "Analytical queries over the in-process columnar portfolio snapshot")
+@RequiredArgsConstructor
+public class ProvisioningSnapshotController {
+
+    private final ProvisioningSnapshotService service;
+
+    @GetMapping
+    @Operation(summary = "Get case counts, ECL and expected loss by stage and risk grade",
+            description = "Scanned from the memory-mapped snapshot of the book instead of the database; "
+                    + "refreshedAt tells how current it is")
+    public Mono<ResponseEntity<PortfolioSnapshotDTO>> getPortfolio(
+            @RequestParam(required = false) StageCodeEnum stageCode,
+            @RequestParam(required = false) RiskGradeEnum riskGrade,
+            @RequestParam(required = false) ProvisioningStatusEnum provisioningStatus,
+            @RequestParam(defaultValue = "BASE") ScenarioCodeEnum scenario) {
+
+        return service.getPortfolio(stageCode, riskGrade, provisioningStatus, scenario)
+                .map(ResponseEntity::ok);
+    }
+
+    @PostMapping("/rebuild")
+    @Operation(summary = "Rebuild the portfolio snapshot",
+            description = "Reloads the whole book into a new snapshot and swaps it in; queries keep "
+                    + "reading the previous one meanwhile")
+    public Mono<ResponseEntity<PortfolioSnapshotDTO>> rebuild() {
+        return service.rebuild()
+                .map(ResponseEntity::ok);
+    }
+}
@@ -21,14 +21,17 @@ import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
 import com.firefly.core.lending.provisioning.core.services.provisioning.v1.ProvisioningStageHistoryService;
 import com.firefly.core.lending.provisioning.interfaces.dtos.provisioning.v1.ProvisioningStageHistoryDTO;
+import com.firefly.core.lending.provisioning.interfaces.dtos.common.v1.CursorPageDTO;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import reactor.core.publisher.Mono;
 
 import jakarta.validation.Valid;
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 @RestController
@@ -49,6 +52,20 @@ public class ProvisioningStageHistoryController {
                 .map(ResponseEntity::ok);
     }
 
+    @GetMapping("/cursor")
+    @Operation(summary = "List or search stage changes of a provisioning case with cursor-based pagination")
+    public Mono<ResponseEntity<CursorPageDTO<ProvisioningStageHistoryDTO>>> findAllByCursor(
+            @PathVariable UUID provisioningCaseId,
+            @ModelAttribute FilterRequest<ProvisioningStageHistoryDTO> filterRequest,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int limit,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime changedFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime changedTo) {
+
+        return service.findAllByCursor(provisioningCaseId, filterRequest, cursor, limit, changedFrom, changedTo)
+                .map(ResponseEntity::ok);
+    }
+
     @PostMapping
     @Operation(summary = "Create a new stage history entry")
     public Mono<ResponseEntity<ProvisioningStageHistoryDTO>> create(
@@ -87,6 +104,8 @@ public class ProvisioningStageHistoryController {
             @PathVariable UUID provisioningStageHistoryId) {
 
         return service.delete(provisioningCaseId, provisioningStageHistoryId)
-                .thenReturn(ResponseEntity.noContent().build());
+                .map(deleted -> deleted > 0
+                        ? ResponseEntity.noContent().<Void>build()
+                        : ResponseEntity.notFound().<Void>build());
     }
 }
\ No newline at end of file
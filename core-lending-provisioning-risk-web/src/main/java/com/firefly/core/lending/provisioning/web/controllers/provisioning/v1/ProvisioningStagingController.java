@@ -0,0 +1,45 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.provisioning.web.controllers.provisioning.v1;
+
+import com.firefly.core.lending.provisioning.core.services.provisioning.v1.ProvisioningStagingService;
+import com.firefly.core.lending.provisioning.interfaces.dtos.provisioning.v1.StagingRunDTO;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping("/api/v1/staging-runs")
+@Tag(name = "ProvisioningStaging", description = "Rule-driven IFRS 9 restaging of the provisioning portfolio")
+@RequiredArgsConstructor
+public class ProvisioningStagingController {
+
+    private final ProvisioningStagingService service;
+
+    @PostMapping
+    @Operation(summary = "Restage all active provisioning cases",
+            description = "Evaluates days past due, PD deterioration since origination and grade notches for every "
+                    + "active non-POCI case and applies all stage changes, with their stage history, in one transaction")
+    public Mono<ResponseEntity<StagingRunDTO>> restage() {
+        return service.restage()
+                .map(ResponseEntity::ok);
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.lending.provisioning.web.controllers.provisioning.v1;
+
+import com.firefly.core.lending.provisioning.core.services.provisioning.v1.ProvisioningWhatIfService;
+import com.firefly.core.lending.provisioning.interfaces.dtos.provisioning.v1.WhatIfRequestDTO;
+import com.firefly.core.lending.provisioning.interfaces.dtos.provisioning.v1.WhatIfResultDTO;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping("/api/v1/what-if")
+@Tag(name = "ProvisioningWhatIf", description = "PD/LGD sensitivity of the portfolio ECL, computed without persisting")
+@RequiredArgsConstructor
+public class ProvisioningWhatIfController {
+
+    private final ProvisioningWhatIfService service;
+
+    @PostMapping
+    @Operation(summary = "Evaluate PD/LGD shocks against the current portfolio",
+            description = "Recomputes the ECL of every active case in memory with and without the shocks and "
+                    + "returns the deltas by stage and risk grade; no calculation is written")
+    public Mono<ResponseEntity<WhatIfResultDTO>> evaluate(@Valid @RequestBody WhatIfRequestDTO request) {
+        return service.evaluate(request)
+                .map(ResponseEntity::ok);
+    }
+}